@@ -0,0 +1,61 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.dto.EventDto;
+import com.example.backend.dto.EventSummary;
+import com.example.backend.dto.RegistrationDto;
+import com.example.backend.entity.Event;
+import com.example.backend.entity.Registration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping of list responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private List<Event> events;
+    private List<Registration> registrations;
+
+    @Setup
+    public void setUp() {
+        Fixtures fixtures = Fixtures.seeded();
+        events = fixtures.events(size);
+        registrations = fixtures.registrations(size);
+    }
+
+    @Benchmark
+    public List<EventDto> eventDtos() {
+        return events.stream().map(EventDto::from).toList();
+    }
+
+    @Benchmark
+    public List<EventSummary> eventSummaries() {
+        return events.stream().map(EventSummary::from).toList();
+    }
+
+    @Benchmark
+    public List<RegistrationDto> registrationDtos() {
+        return registrations.stream().map(RegistrationDto::from).toList();
+    }
+}
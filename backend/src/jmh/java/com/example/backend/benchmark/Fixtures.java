@@ -0,0 +1,175 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.entity.Category;
+import com.example.backend.entity.College;
+import com.example.backend.entity.Event;
+import com.example.backend.entity.Profile;
+import com.example.backend.entity.Registration;
+import com.example.backend.entity.enums.EventStatus;
+import com.example.backend.entity.enums.ParticipationType;
+import com.example.backend.entity.enums.PaymentStatus;
+import com.example.backend.entity.enums.RegistrationStatus;
+import com.example.backend.entity.enums.UserRole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic entity graphs shared by the benchmarks. IDs come from a seeded
+ * random so runs are comparable.
+ */
+final class Fixtures {
+
+    static final OffsetDateTime NOW = OffsetDateTime.of(2025, 1, 15, 10, 0, 0, 0, ZoneOffset.UTC);
+
+    private final Random random = new Random(42);
+
+    private Fixtures() {
+    }
+
+    static Fixtures seeded() {
+        return new Fixtures();
+    }
+
+    /**
+     * Jackson configured the way Spring Boot configures its ObjectMapper.
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    UUID uuid() {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    College college(int i) {
+        College college = new College();
+        college.setId(uuid());
+        college.setName("College " + i);
+        college.setLocation("City " + (i % 17));
+        college.setDescription("An institute of technology and sciences, number " + i);
+        college.setWebsite("https://college" + i + ".example.edu");
+        college.setEstablishedYear(1950 + i % 70);
+        college.setContactEmail("office@college" + i + ".example.edu");
+        college.setCreatedAt(NOW);
+        college.setUpdatedAt(NOW);
+        return college;
+    }
+
+    Category category(int i) {
+        Category category = new Category();
+        category.setId(uuid());
+        category.setName("Category " + i);
+        category.setDescription("Events about topic " + i);
+        category.setIconName("icon-" + i);
+        category.setCreatedAt(NOW);
+        category.setUpdatedAt(NOW);
+        return category;
+    }
+
+    Profile profile(int i, College college, UserRole role) {
+        Profile profile = new Profile();
+        profile.setId(uuid());
+        profile.setFullName("User " + i);
+        profile.setEmail("user" + i + "@example.com");
+        profile.setPhone("+91 90000 " + String.format("%05d", i % 100000));
+        profile.setRole(role);
+        profile.setCollege(college);
+        profile.setCreatedAt(NOW);
+        profile.setUpdatedAt(NOW);
+        return profile;
+    }
+
+    Event event(int i, Category category, College college, Profile organizer) {
+        Event event = new Event();
+        event.setId(uuid());
+        event.setTitle("Hackathon " + i);
+        event.setDescription("A 24 hour hackathon with prizes, mentors and food. Edition " + i + ".");
+        event.setImageUrl("https://cdn.example.com/events/" + i + ".png");
+        event.setCategory(category);
+        event.setCollege(college);
+        event.setOrganizer(organizer);
+        event.setStartDate(NOW.plusDays(i % 60));
+        event.setEndDate(NOW.plusDays(i % 60 + 1));
+        event.setLocation("Main Auditorium");
+        event.setVenueDetails("Block " + (char) ('A' + i % 6));
+        event.setParticipationType(ParticipationType.BOTH);
+        event.setEventStatus(EventStatus.PUBLISHED);
+        event.setTeamSizeMin(1);
+        event.setTeamSizeMax(4);
+        event.setMaxAttendees(500);
+        event.setCurrentAttendees(i % 500);
+        event.setRegistrationDeadline(NOW.plusDays(i % 60).minusHours(6));
+        event.setFeatured(i % 10 == 0);
+        event.setGlobal(false);
+        event.setIndividualPrice(new BigDecimal("199.00"));
+        event.setTeamBasePrice(new BigDecimal("499.00"));
+        event.setPricePerMember(new BigDecimal("99.00"));
+        event.setHasCustomTeamPricing(false);
+        event.setCreatedAt(NOW);
+        event.setUpdatedAt(NOW);
+        return event;
+    }
+
+    Registration registration(int i, Event event, Profile user) {
+        Registration registration = new Registration();
+        registration.setId(uuid());
+        registration.setEvent(event);
+        registration.setUser(user);
+        registration.setRegistrationStatus(RegistrationStatus.CONFIRMED);
+        registration.setRegistrationDate(NOW.minusHours(i % 1000));
+        registration.setTeam(false);
+        registration.setTeamSize(1);
+        registration.setPaymentStatus(PaymentStatus.COMPLETED);
+        registration.setPaymentAmount(new BigDecimal("199.00"));
+        registration.setPaymentMethod("upi");
+        registration.setTransactionId("TXN" + i);
+        registration.setPaidAt(registration.getRegistrationDate());
+        registration.setCreatedAt(registration.getRegistrationDate());
+        registration.setUpdatedAt(registration.getRegistrationDate());
+        return registration;
+    }
+
+    /**
+     * Events spread over a handful of colleges, categories and organizers,
+     * the way a listing page sees them.
+     */
+    List<Event> events(int count) {
+        List<College> colleges = new ArrayList<>();
+        List<Category> categories = new ArrayList<>();
+        List<Profile> organizers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            colleges.add(college(i));
+            categories.add(category(i));
+            organizers.add(profile(i, colleges.get(i), UserRole.ORGANIZER));
+        }
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(event(i, categories.get(i % 10), colleges.get(i / 10 % 10), organizers.get(i % 10)));
+        }
+        return events;
+    }
+
+    /**
+     * Registrations of distinct users for one event.
+     */
+    List<Registration> registrations(int count) {
+        College college = college(0);
+        Event event = event(0, category(0), college, profile(0, college, UserRole.ORGANIZER));
+        List<Registration> registrations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            registrations.add(registration(i, event, profile(i + 1, college, UserRole.ATTENDEE)));
+        }
+        return registrations;
+    }
+}
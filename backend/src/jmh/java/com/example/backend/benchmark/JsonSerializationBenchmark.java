@@ -0,0 +1,73 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.dto.EventDto;
+import com.example.backend.dto.RegistrationDto;
+import com.example.backend.entity.Event;
+import com.example.backend.entity.Registration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response serialization of event and registration lists, as entities (what
+ * some endpoints still return) and as the DTOs the list endpoints return.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<Event> events;
+    private List<EventDto> eventDtos;
+    private List<Registration> registrations;
+    private List<RegistrationDto> registrationDtos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Fixtures.objectMapper();
+        Fixtures fixtures = Fixtures.seeded();
+        events = fixtures.events(size);
+        eventDtos = events.stream().map(EventDto::from).toList();
+        registrations = fixtures.registrations(size);
+        registrationDtos = registrations.stream().map(RegistrationDto::from).toList();
+    }
+
+    @Benchmark
+    public byte[] eventEntities() throws Exception {
+        return objectMapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] eventDtos() throws Exception {
+        return objectMapper.writeValueAsBytes(eventDtos);
+    }
+
+    @Benchmark
+    public byte[] registrationEntities() throws Exception {
+        return objectMapper.writeValueAsBytes(registrations);
+    }
+
+    @Benchmark
+    public byte[] registrationDtos() throws Exception {
+        return objectMapper.writeValueAsBytes(registrationDtos);
+    }
+}
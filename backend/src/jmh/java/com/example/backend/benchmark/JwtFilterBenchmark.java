@@ -0,0 +1,72 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.security.PublicRoutes;
+import com.example.backend.security.SupabaseJwtFilter;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bearer token handling in SupabaseJwtFilter: a full signature check when the
+ * verified-token cache is disabled, and a cache hit when it is enabled.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+    private static final FilterChain CHAIN = (request, response) -> { };
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    private SupabaseJwtFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        filter = new SupabaseJwtFilter(new PublicRoutes(), SECRET, cached ? 10_000 : 0, 300,
+                new SimpleMeterRegistry());
+        String token = Jwts.builder()
+                .setSubject("3f1c2a9e-4b7d-4c1e-9a55-0d2f6e8b7c11")
+                .claim("email", "user@example.com")
+                .claim("role", "attendee")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(12)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        request = new MockHttpServletRequest("POST", "/api/checkout");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public int authenticate() throws Exception {
+        filter.doFilter(request, response, CHAIN);
+        SecurityContextHolder.clearContext();
+        return response.getStatus();
+    }
+}
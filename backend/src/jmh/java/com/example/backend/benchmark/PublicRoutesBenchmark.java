@@ -0,0 +1,54 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.security.PublicRoutes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Public route matching, which runs on every request before the JWT filter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicRoutesBenchmark {
+
+    @Param({
+            "GET /api/events/3f1c2a9e-4b7d-4c1e-9a55-0d2f6e8b7c11",
+            "GET /api/search/events",
+            "POST /api/checkout",
+            "DELETE /api/teams/3f1c2a9e-4b7d-4c1e-9a55-0d2f6e8b7c11",
+            "GET /actuator/health"
+    })
+    public String request;
+
+    private PublicRoutes publicRoutes;
+    private String method;
+    private String path;
+
+    @Setup
+    public void setUp() {
+        publicRoutes = new PublicRoutes();
+        int space = request.indexOf(' ');
+        method = request.substring(0, space);
+        path = request.substring(space + 1);
+    }
+
+    @Benchmark
+    public boolean isPublic() {
+        return publicRoutes.isPublic(method, path);
+    }
+}
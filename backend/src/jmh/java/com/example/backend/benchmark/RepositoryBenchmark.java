@@ -0,0 +1,155 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.dto.RegistrationStatsRow;
+import com.example.backend.entity.Category;
+import com.example.backend.entity.College;
+import com.example.backend.entity.Event;
+import com.example.backend.entity.Profile;
+import com.example.backend.entity.Registration;
+import com.example.backend.entity.enums.UserRole;
+import com.example.backend.repository.CategoryRepository;
+import com.example.backend.repository.CollegeRepository;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.ProfileRepository;
+import com.example.backend.repository.RegistrationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository queries through Hibernate against H2 in PostgreSQL mode, so the
+ * ORM side of hot queries (fetch joins, projections, hydration) can be tracked
+ * without a database server. Absolute numbers are not comparable to
+ * PostgreSQL; use them to spot regressions between builds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private static final int COLLEGES = 20;
+    private static final int CATEGORIES = 10;
+    private static final int EVENTS = 200;
+
+    @Param({"100", "1000"})
+    public int registrations;
+
+    private ConfigurableApplicationContext context;
+    private EventRepository eventRepository;
+    private RegistrationRepository registrationRepository;
+    private UUID eventId;
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan("com.example.backend.entity")
+    @EnableJpaRepositories("com.example.backend.repository")
+    static class RepositoryConfig {
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(RepositoryConfig.class).run(
+                // Ignore application.properties, which points at PostgreSQL
+                "--spring.config.name=benchmark",
+                "--spring.main.web-application-type=none",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.datasource.url=jdbc:h2:mem:festify;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                // The migrations and plan check are PostgreSQL-specific; H2 gets its schema from Hibernate
+                "--spring.flyway.enabled=false",
+                "--schema.plan-check=off",
+                "--changes.enabled=false",
+                "--notifications.enabled=false",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                "--spring.jpa.properties.hibernate.order_inserts=true");
+        eventRepository = context.getBean(EventRepository.class);
+        registrationRepository = context.getBean(RegistrationRepository.class);
+        seed();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private void seed() {
+        Fixtures fixtures = Fixtures.seeded();
+        List<College> colleges = new ArrayList<>();
+        for (int i = 0; i < COLLEGES; i++) {
+            colleges.add(fixtures.college(i));
+        }
+        colleges = context.getBean(CollegeRepository.class).saveAll(colleges);
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORIES; i++) {
+            categories.add(fixtures.category(i));
+        }
+        categories = context.getBean(CategoryRepository.class).saveAll(categories);
+
+        ProfileRepository profileRepository = context.getBean(ProfileRepository.class);
+        List<Profile> profiles = new ArrayList<>();
+        for (int i = 0; i < registrations + COLLEGES; i++) {
+            UserRole role = i < COLLEGES ? UserRole.ORGANIZER : UserRole.ATTENDEE;
+            profiles.add(fixtures.profile(i, colleges.get(i % COLLEGES), role));
+        }
+        profiles = profileRepository.saveAll(profiles);
+
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(fixtures.event(i, categories.get(i % CATEGORIES), colleges.get(i % COLLEGES),
+                    profiles.get(i % COLLEGES)));
+        }
+        events = eventRepository.saveAll(events);
+        eventId = events.get(0).getId();
+
+        List<Registration> rows = new ArrayList<>();
+        for (int i = 0; i < registrations; i++) {
+            rows.add(fixtures.registration(i, events.get(0), profiles.get(COLLEGES + i)));
+        }
+        registrationRepository.saveAll(rows);
+    }
+
+    @Benchmark
+    public List<Event> allEventsWithAssociations() {
+        return eventRepository.findAll();
+    }
+
+    @Benchmark
+    public List<Event> upcomingPublishedEvents() {
+        return eventRepository.findUpcomingPublishedEvents(Fixtures.NOW.minusDays(1));
+    }
+
+    @Benchmark
+    public List<Registration> registrationsOfEvent() {
+        return registrationRepository.findByEventId(eventId);
+    }
+
+    @Benchmark
+    public List<RegistrationStatsRow> registrationStats() {
+        return registrationRepository.countByEventAndStatus();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.backend.loadtest;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The seeded rows a run draws from, read back from the database so a run
+ * does not depend on the process that seeded.
+ */
+final class Dataset {
+
+    final List<Event> freeEvents = new ArrayList<>();
+    final List<Event> paidEvents = new ArrayList<>();
+    final List<User> freshUsers = new ArrayList<>();
+    final List<Ticket> tickets = new ArrayList<>();
+    final List<String> searchTerms = new ArrayList<>();
+    User admin;
+
+    static Dataset load(Connection connection, int maxTickets) throws SQLException {
+        Dataset dataset = new Dataset();
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SELECT id, individual_price, title FROM events "
+                    + "WHERE title LIKE '" + Seeder.PREFIX + "%' ORDER BY title")) {
+                while (rs.next()) {
+                    Event event = new Event(rs.getObject(1, UUID.class));
+                    BigDecimal price = rs.getBigDecimal(2);
+                    (price == null || price.signum() == 0 ? dataset.freeEvents : dataset.paidEvents).add(event);
+                    String word = rs.getString(3).substring(Seeder.PREFIX.length()).split(" ")[0];
+                    if (!dataset.searchTerms.contains(word)) {
+                        dataset.searchTerms.add(word);
+                    }
+                }
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT id, email FROM profiles "
+                    + "WHERE email LIKE 'fresh%@" + Seeder.EMAIL_DOMAIN + "' OR email = 'admin@" + Seeder.EMAIL_DOMAIN
+                    + "' ORDER BY email")) {
+                while (rs.next()) {
+                    User user = new User(rs.getObject(1, UUID.class), rs.getString(2));
+                    if (user.email().startsWith("admin@")) {
+                        dataset.admin = user;
+                    } else {
+                        dataset.freshUsers.add(user);
+                    }
+                }
+            }
+            // Unused tickets only, so a scan is the first one for its code
+            try (ResultSet rs = statement.executeQuery("SELECT ticket_code, event_id FROM tickets "
+                    + "WHERE ticket_code LIKE 'LT%' AND used_at IS NULL AND is_valid LIMIT " + maxTickets)) {
+                while (rs.next()) {
+                    dataset.tickets.add(new Ticket(rs.getString(1), rs.getObject(2, UUID.class)));
+                }
+            }
+        }
+        if (dataset.freeEvents.isEmpty() && dataset.paidEvents.isEmpty()) {
+            throw new IllegalStateException("No load-test data found, run with --seed first");
+        }
+        return dataset;
+    }
+
+    record Event(UUID id) {
+    }
+
+    record User(UUID id, String email) {
+    }
+
+    record Ticket(String code, UUID eventId) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and outcome counts. Endpoints are keyed by
+ * method and route template ({@code GET /api/events/{id}}) so IDs do not
+ * explode the table. Latencies are recorded in microseconds up to one minute
+ * with three significant digits.
+ */
+final class LatencyReport {
+
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final ConcurrentHashMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Record one request.
+     * @param status HTTP status, or 0 when no response arrived
+     */
+    void record(String endpoint, long nanos, int status) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, e -> new Endpoint());
+        stats.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), MAX_MICROS));
+        if (status >= 200 && status < 300) {
+            stats.ok.increment();
+        } else if (status >= 400 && status < 500) {
+            stats.clientErrors.increment();
+        } else {
+            stats.serverErrors.increment();
+        }
+    }
+
+    /**
+     * Forget everything recorded so far, used to drop the warm-up.
+     */
+    void reset() {
+        endpoints.clear();
+    }
+
+    /**
+     * Print a table of count, error rates and percentiles per endpoint.
+     */
+    void print(PrintStream out, double seconds) {
+        out.printf("%-48s %8s %8s %7s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "req/s", "4xx%", "5xx%", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms");
+        for (Map.Entry<String, Object> row : rows(seconds).entrySet()) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> r = (Map<String, Object>) row.getValue();
+            out.printf("%-48s %8d %8.1f %7.2f %7.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.getKey(), r.get("count"), r.get("throughput"), r.get("clientErrorRate"), r.get("serverErrorRate"),
+                    r.get("p50Ms"), r.get("p90Ms"), r.get("p99Ms"), r.get("p999Ms"), r.get("maxMs"));
+        }
+    }
+
+    /**
+     * Write the same figures as JSON for comparing runs.
+     */
+    void write(Path file, double seconds, Map<String, Object> run) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>(run);
+        report.put("durationSeconds", seconds);
+        report.put("endpoints", rows(seconds));
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    private Map<String, Object> rows(double seconds) {
+        List<String> names = new ArrayList<>(endpoints.keySet());
+        names.sort(null);
+        Map<String, Object> rows = new LinkedHashMap<>();
+        for (String name : names) {
+            Endpoint e = endpoints.get(name);
+            Histogram h = e.latency.copy();
+            long count = h.getTotalCount();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("count", count);
+            row.put("throughput", count / seconds);
+            row.put("clientErrorRate", percent(e.clientErrors.sum(), count));
+            row.put("serverErrorRate", percent(e.serverErrors.sum(), count));
+            row.put("p50Ms", millis(h.getValueAtPercentile(50)));
+            row.put("p90Ms", millis(h.getValueAtPercentile(90)));
+            row.put("p99Ms", millis(h.getValueAtPercentile(99)));
+            row.put("p999Ms", millis(h.getValueAtPercentile(99.9)));
+            row.put("maxMs", millis(h.getMaxValue()));
+            rows.put(name, row);
+        }
+        return rows;
+    }
+
+    private static double percent(long part, long total) {
+        return total == 0 ? 0 : 100.0 * part / total;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class Endpoint {
+        private final ConcurrentHistogram latency = new ConcurrentHistogram(MAX_MICROS, 3);
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.backend.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seeds a local database and drives the REST API with a weighted mix of
+ * browse, register, pay and check-in journeys, then prints per-endpoint
+ * latency percentiles and error rates.
+ *
+ * <p>Closed model: {@code --concurrency} virtual users each run one journey
+ * after another, pausing {@code --think-ms} between them. Run against a
+ * local backend only; registrations and check-ins change the data.
+ *
+ * <pre>
+ * mvn -Ploadtest verify -Dloadtest.args="--seed --clean"
+ * mvn -Ploadtest verify -Dloadtest.args="--run --concurrency=50 --duration=2m"
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final String USAGE = """
+            Usage: LoadTest [--clean] [--seed] [--run] [options]
+              --clean                 delete previously seeded rows
+              --seed                  insert load-test rows
+                --colleges=50 --categories=12 --users=20000 --events=500 --registrations=50000
+              --run                   drive the API
+                --base-url=http://localhost:8080
+                --concurrency=32 --duration=60s --warmup=10s --think-ms=100
+                --mix=browse:70,register:15,pay:10,checkin:5
+                --report=target/loadtest-report.json
+              --db-url (DB_URL) --db-user (DB_USER) --db-pass (DB_PASS)   JDBC connection
+              --jwt-secret (JWT_SECRET)                                    token signing key for --run
+            """;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = new LoadTestOptions(args);
+        boolean clean = options.flag("clean");
+        boolean seed = options.flag("seed");
+        boolean run = options.flag("run");
+        if (!clean && !seed && !run) {
+            System.out.print(USAGE);
+            return;
+        }
+
+        Dataset dataset;
+        try (Connection connection = connect(options)) {
+            Seeder seeder = new Seeder(connection);
+            if (clean) {
+                seeder.clean();
+                System.out.println("Removed load-test data");
+            }
+            if (seed) {
+                long started = System.nanoTime();
+                seeder.seed(options.integer("colleges", 50), options.integer("categories", 12),
+                        options.integer("users", 20_000), options.integer("events", 500),
+                        options.integer("registrations", 50_000));
+                System.out.printf("Seeded in %d s%n", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+            }
+            if (!run) {
+                return;
+            }
+            dataset = Dataset.load(connection, options.integer("max-tickets", 100_000));
+        }
+        run(options, dataset);
+    }
+
+    private static void run(LoadTestOptions options, Dataset dataset) throws Exception {
+        int concurrency = options.integer("concurrency", 32);
+        Duration duration = options.duration("duration", Duration.ofSeconds(60));
+        Duration warmup = options.duration("warmup", Duration.ofSeconds(10));
+        int thinkMs = options.integer("think-ms", 100);
+        Map<String, Integer> mix = options.weights("mix", "browse:70,register:15,pay:10,checkin:5");
+        String baseUrl = options.text("base-url", null, "http://localhost:8080");
+
+        List<String> wheel = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(scenario);
+            }
+        });
+        if (wheel.isEmpty()) {
+            throw new IllegalArgumentException("--mix has no positive weights");
+        }
+
+        LatencyReport report = new LatencyReport();
+        ExecutorService users = Executors.newFixedThreadPool(concurrency);
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newCachedThreadPool())
+                .build();
+        Scenarios scenarios = new Scenarios(client, baseUrl, dataset,
+                new Tokens(options.required("jwt-secret", "JWT_SECRET")), report);
+
+        System.out.printf("Running %s against %s with %d users for %s after %s warm-up%n",
+                mix, baseUrl, concurrency, duration, warmup);
+        long end = System.nanoTime() + warmup.plus(duration).toNanos();
+        for (int i = 0; i < concurrency; i++) {
+            users.execute(() -> {
+                while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                    scenarios.run(wheel.get(ThreadLocalRandom.current().nextInt(wheel.size())));
+                    if (thinkMs > 0) {
+                        try {
+                            Thread.sleep(ThreadLocalRandom.current().nextInt(thinkMs * 2 + 1));
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                }
+            });
+        }
+        Thread.sleep(warmup.toMillis());
+        report.reset();
+        long measured = System.nanoTime();
+        users.shutdown();
+        users.awaitTermination(duration.toMillis() + TimeUnit.SECONDS.toMillis(60), TimeUnit.MILLISECONDS);
+        double seconds = (System.nanoTime() - measured) / 1e9;
+
+        report.print(System.out, seconds);
+        Path file = Path.of(options.text("report", null, "target/loadtest-report.json"));
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("baseUrl", baseUrl);
+        run.put("concurrency", concurrency);
+        run.put("thinkMs", thinkMs);
+        run.put("mix", mix);
+        report.write(file, seconds, run);
+        System.out.println("Report written to " + file.toAbsolutePath());
+        System.exit(0);
+    }
+
+    private static Connection connect(LoadTestOptions options) throws Exception {
+        String url = options.required("db-url", "DB_URL");
+        // Lets the driver rewrite batches into multi-row inserts
+        if (!url.contains("reWriteBatchedInserts")) {
+            url += (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true";
+        }
+        return DriverManager.getConnection(url, options.text("db-user", "DB_USER", null),
+                options.text("db-pass", "DB_PASS", null));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.backend.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command line options ({@code --name=value}), falling back to environment
+ * variables for connection settings so the same .env as the backend works.
+ */
+final class LoadTestOptions {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    LoadTestOptions(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+    }
+
+    boolean flag(String name) {
+        return Boolean.parseBoolean(values.getOrDefault(name, "false"));
+    }
+
+    String text(String name, String env, String defaultValue) {
+        String value = values.get(name);
+        if (value == null && env != null) {
+            value = System.getenv(env);
+        }
+        return value != null ? value : defaultValue;
+    }
+
+    String required(String name, String env) {
+        String value = text(name, env, null);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("--" + name + (env != null ? " (or " + env + ")" : "") + " is required");
+        }
+        return value;
+    }
+
+    int integer(String name, int defaultValue) {
+        String value = values.get(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    Duration duration(String name, Duration defaultValue) {
+        String value = values.get(name);
+        return value != null ? Duration.parse("PT" + value.toUpperCase()) : defaultValue;
+    }
+
+    /**
+     * Scenario weights such as {@code browse:70,register:15,pay:10,checkin:5}.
+     */
+    Map<String, Integer> weights(String name, String defaultValue) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : values.getOrDefault(name, defaultValue).split(",")) {
+            String[] pair = part.trim().split(":");
+            weights.put(pair[0], Integer.parseInt(pair[1]));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The user journeys a run mixes. Each call performs one iteration of a
+ * journey and records every request under its route template.
+ * Registrations pair fresh users with events so that, until the pairs run
+ * out, no checkout collides with an existing registration.
+ */
+final class Scenarios {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Dataset dataset;
+    private final Tokens tokens;
+    private final LatencyReport report;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong freeCheckouts = new AtomicLong();
+    private final AtomicLong paidCheckouts = new AtomicLong();
+    private final AtomicInteger scannedTickets = new AtomicInteger();
+    private final String adminToken;
+
+    Scenarios(HttpClient client, String baseUrl, Dataset dataset, Tokens tokens, LatencyReport report) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.tokens = tokens;
+        this.report = report;
+        this.adminToken = dataset.admin != null
+                ? tokens.mint(dataset.admin.id(), dataset.admin.email(), "ADMIN")
+                : null;
+    }
+
+    void run(String scenario) {
+        switch (scenario) {
+            case "browse" -> browse();
+            case "register" -> register();
+            case "pay" -> pay();
+            case "checkin" -> checkin();
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        }
+    }
+
+    /**
+     * Two pages of the event list, one event, a search and the reference lists.
+     */
+    void browse() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        JsonNode page = get("GET /api/events/page", "/api/events/page?limit=20", null);
+        if (page != null && page.hasNonNull("nextCursor")) {
+            get("GET /api/events/page", "/api/events/page?limit=20&cursor="
+                    + URLEncoder.encode(page.get("nextCursor").asText(), StandardCharsets.UTF_8), null);
+        }
+        Dataset.Event event = pick(random.nextBoolean() ? dataset.freeEvents : dataset.paidEvents);
+        if (event != null) {
+            get("GET /api/events/{id}", "/api/events/" + event.id(), null);
+        }
+        if (!dataset.searchTerms.isEmpty()) {
+            String term = dataset.searchTerms.get(random.nextInt(dataset.searchTerms.size()));
+            get("GET /api/search", "/api/search?q=" + URLEncoder.encode(term, StandardCharsets.UTF_8), null);
+        }
+        if (random.nextInt(4) == 0) {
+            get("GET /api/categories", "/api/categories", null);
+            get("GET /api/colleges", "/api/colleges", null);
+        }
+    }
+
+    /**
+     * Checkout on a free event.
+     */
+    void register() {
+        checkout(dataset.freeEvents, freeCheckouts, null);
+    }
+
+    /**
+     * Checkout on a paid event, then read the payment back.
+     */
+    void pay() {
+        JsonNode response = checkout(dataset.paidEvents, paidCheckouts, "upi");
+        if (response != null && response.hasNonNull("registrationId")) {
+            get("GET /api/payments/registration/{registrationId}",
+                    "/api/payments/registration/" + response.get("registrationId").asText(), null);
+        }
+    }
+
+    /**
+     * Scan the next unused seeded ticket at its event's gate.
+     */
+    void checkin() {
+        int next = scannedTickets.getAndIncrement();
+        if (adminToken == null || next >= dataset.tickets.size()) {
+            browse();
+            return;
+        }
+        Dataset.Ticket ticket = dataset.tickets.get(next);
+        send("POST /api/checkin/events/{eventId}/scan", "/api/checkin/events/" + ticket.eventId() + "/scan",
+                adminToken, Map.of("code", ticket.code()));
+    }
+
+    /**
+     * Checkout number n is the fresh user {@code n % U}'s j-th checkout and goes
+     * to event {@code (user * 31 + j) % E}, so pairs repeat only after U * E checkouts.
+     */
+    private JsonNode checkout(List<Dataset.Event> events, AtomicLong counter, String paymentMethod) {
+        if (events.isEmpty() || dataset.freshUsers.isEmpty()) {
+            browse();
+            return null;
+        }
+        long n = counter.getAndIncrement();
+        int userIndex = (int) (n % dataset.freshUsers.size());
+        long j = n / dataset.freshUsers.size();
+        Dataset.User user = dataset.freshUsers.get(userIndex);
+        Dataset.Event event = events.get((int) ((userIndex * 31L + j) % events.size()));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("eventId", event.id());
+        body.put("userId", user.id());
+        body.put("team", false);
+        body.put("teamSize", 1);
+        if (paymentMethod != null) {
+            body.put("paymentMethod", paymentMethod);
+            body.put("transactionId", "LT-" + UUID.randomUUID());
+        }
+        return send("POST /api/checkout", "/api/checkout", tokens.mint(user.id(), user.email(), "ATTENDEE"), body);
+    }
+
+    private JsonNode get(String endpoint, String path, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT).GET();
+        return execute(endpoint, request, token);
+    }
+
+    private JsonNode send(String endpoint, String path, String token, Object body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json));
+        return execute(endpoint, request, token);
+    }
+
+    /**
+     * Send a request and record it.
+     * @return the JSON body of a 2xx response, or null
+     */
+    private JsonNode execute(String endpoint, HttpRequest.Builder request, String token) {
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        long started = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            report.record(endpoint, System.nanoTime() - started, 0);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        report.record(endpoint, System.nanoTime() - started, response.statusCode());
+        if (response.statusCode() / 100 != 2) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static <T> T pick(List<T> items) {
+        return items.isEmpty() ? null : items.get(ThreadLocalRandom.current().nextInt(items.size()));
+    }
+}
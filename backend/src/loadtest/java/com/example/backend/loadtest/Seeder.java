@@ -0,0 +1,338 @@
+package com.example.backend.loadtest;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Seeds a local database with load-test data through plain JDBC batches.
+ * Every seeded row is recognisable (emails at {@value #EMAIL_DOMAIN}, names
+ * starting with {@value #PREFIX}), so {@link #clean} removes exactly what was
+ * seeded. Attendees are split in two: the first part owns the seeded
+ * registrations, the {@code fresh} ones are left for the run to register.
+ */
+final class Seeder {
+
+    static final String PREFIX = "[load] ";
+    static final String EMAIL_DOMAIN = "loadtest.festify.local";
+
+    private static final int BATCH = 1000;
+    private static final String[] WORDS = {
+            "Hackathon", "Robotics", "Dance", "Quiz", "Music", "Drama", "Startup", "Photography",
+            "Debate", "Gaming", "Design", "Coding", "Film", "Poetry", "Chess", "Football"};
+
+    private final Connection connection;
+    private final Random random = new Random(7);
+
+    Seeder(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Insert the given volumes. Refuses to run twice without a clean.
+     */
+    void seed(int colleges, int categories, int users, int events, int registrations) throws SQLException {
+        if (count("SELECT COUNT(*) FROM events WHERE title LIKE '" + PREFIX + "%'") > 0) {
+            throw new IllegalStateException("Load-test data already exists, pass --clean to replace it");
+        }
+        connection.setAutoCommit(false);
+        OffsetDateTime now = OffsetDateTime.now();
+
+        List<UUID> collegeIds = insertNamed("colleges", colleges, "College", now);
+        List<UUID> categoryIds = insertNamed("categories", categories, "Category", now);
+
+        int organizers = Math.max(1, colleges);
+        int attendees = Math.max(1, users - organizers - 1);
+        int registeredAttendees = attendees * 6 / 10;
+        List<UUID> organizerIds = new ArrayList<>();
+        List<UUID> attendeeIds = new ArrayList<>();
+        insertProfiles(now, collegeIds, organizers, attendees, registeredAttendees, organizerIds, attendeeIds);
+
+        List<SeededEvent> seededEvents = insertEvents(now, events, collegeIds, categoryIds, organizerIds);
+        insertRegistrations(now, registrations, seededEvents, attendeeIds.subList(0, registeredAttendees));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE events e SET current_attendees = s.seats FROM ("
+                    + "SELECT event_id, SUM(team_size) AS seats FROM registrations GROUP BY event_id) s "
+                    + "WHERE e.id = s.event_id AND e.title LIKE '" + PREFIX + "%'");
+        }
+        connection.commit();
+    }
+
+    /**
+     * Delete everything {@link #seed} created.
+     */
+    void clean() throws SQLException {
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            // Registrations, teams, members, tickets and payments cascade from events
+            statement.executeUpdate("DELETE FROM events WHERE title LIKE '" + PREFIX + "%'");
+            statement.executeUpdate("DELETE FROM profiles WHERE email LIKE '%@" + EMAIL_DOMAIN + "'");
+            if (hasAuthUsers()) {
+                statement.executeUpdate("DELETE FROM auth.users WHERE email LIKE '%@" + EMAIL_DOMAIN + "'");
+            }
+            statement.executeUpdate("DELETE FROM colleges WHERE name LIKE '" + PREFIX + "%'");
+            statement.executeUpdate("DELETE FROM categories WHERE name LIKE '" + PREFIX + "%'");
+        }
+        connection.commit();
+    }
+
+    private List<UUID> insertNamed(String table, int count, String noun, OffsetDateTime now) throws SQLException {
+        List<UUID> ids = new ArrayList<>(count);
+        String sql = table.equals("colleges")
+                ? "INSERT INTO colleges (id, name, location, description, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)"
+                : "INSERT INTO categories (id, name, description, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            for (int i = 0; i < count; i++) {
+                UUID id = UUID.randomUUID();
+                ids.add(id);
+                int p = 1;
+                insert.setObject(p++, id);
+                insert.setString(p++, PREFIX + noun + " " + i);
+                if (table.equals("colleges")) {
+                    insert.setString(p++, "City " + (i % 25));
+                }
+                insert.setString(p++, noun + " seeded for load testing");
+                insert.setObject(p++, now);
+                insert.setObject(p, now);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        return ids;
+    }
+
+    private void insertProfiles(OffsetDateTime now, List<UUID> collegeIds, int organizers, int attendees,
+                                int registeredAttendees, List<UUID> organizerIds, List<UUID> attendeeIds)
+            throws SQLException {
+        boolean authUsers = hasAuthUsers();
+        // Supabase may create the profile from an auth.users trigger, so upsert
+        try (PreparedStatement auth = authUsers
+                ? connection.prepareStatement("INSERT INTO auth.users (id, email) VALUES (?, ?) ON CONFLICT DO NOTHING")
+                : null;
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO profiles (id, email, full_name, role, college_id, created_at, updated_at) "
+                             + "VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO UPDATE SET "
+                             + "full_name = EXCLUDED.full_name, role = EXCLUDED.role, college_id = EXCLUDED.college_id")) {
+            int total = organizers + attendees + 1;
+            for (int i = 0; i < total; i++) {
+                UUID id = UUID.randomUUID();
+                String email;
+                String role;
+                if (i == 0) {
+                    email = "admin@" + EMAIL_DOMAIN;
+                    role = "ADMIN";
+                } else if (i <= organizers) {
+                    email = "organizer" + i + "@" + EMAIL_DOMAIN;
+                    role = "ORGANIZER";
+                    organizerIds.add(id);
+                } else {
+                    int a = i - organizers - 1;
+                    email = (a < registeredAttendees ? "attendee" : "fresh") + a + "@" + EMAIL_DOMAIN;
+                    role = "ATTENDEE";
+                    attendeeIds.add(id);
+                }
+                if (auth != null) {
+                    auth.setObject(1, id);
+                    auth.setString(2, email);
+                    auth.addBatch();
+                }
+                insert.setObject(1, id);
+                insert.setString(2, email);
+                insert.setString(3, "Load User " + i);
+                insert.setObject(4, role, Types.OTHER);
+                insert.setObject(5, collegeIds.get(i % collegeIds.size()));
+                insert.setObject(6, now);
+                insert.setObject(7, now);
+                insert.addBatch();
+                if (i % BATCH == BATCH - 1) {
+                    if (auth != null) {
+                        auth.executeBatch();
+                    }
+                    insert.executeBatch();
+                }
+            }
+            if (auth != null) {
+                auth.executeBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private List<SeededEvent> insertEvents(OffsetDateTime now, int count, List<UUID> collegeIds,
+                                           List<UUID> categoryIds, List<UUID> organizerIds) throws SQLException {
+        List<SeededEvent> events = new ArrayList<>(count);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO events (id, title, description, category_id, college_id, organizer_id, start_date, "
+                        + "end_date, location, participation_type, event_status, team_size_min, team_size_max, "
+                        + "max_attendees, current_attendees, registration_deadline, is_featured, is_global, "
+                        + "individual_price, team_base_price, price_per_member, has_custom_team_pricing, "
+                        + "created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?, ?, ?, false, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                UUID id = UUID.randomUUID();
+                boolean team = i % 3 == 0;
+                boolean free = i % 5 < 2;
+                BigDecimal price = free ? BigDecimal.ZERO : BigDecimal.valueOf(100 + 50L * (i % 9));
+                OffsetDateTime start = now.plusDays(1 + i % 90).withHour(10).withMinute(0).withSecond(0).withNano(0);
+                events.add(new SeededEvent(id, team, price));
+
+                int p = 1;
+                insert.setObject(p++, id);
+                insert.setString(p++, PREFIX + WORDS[i % WORDS.length] + " " + i);
+                insert.setString(p++, "A " + WORDS[i % WORDS.length].toLowerCase() + " event seeded for load testing");
+                insert.setObject(p++, categoryIds.get(i % categoryIds.size()));
+                insert.setObject(p++, collegeIds.get(i % collegeIds.size()));
+                insert.setObject(p++, organizerIds.get(i % organizerIds.size()));
+                insert.setObject(p++, start);
+                insert.setObject(p++, start.plusHours(8));
+                insert.setString(p++, "Auditorium " + (i % 12));
+                insert.setObject(p++, team ? "BOTH" : "INDIVIDUAL", Types.OTHER);
+                insert.setObject(p++, "PUBLISHED", Types.OTHER);
+                insert.setInt(p++, 1);
+                insert.setInt(p++, team ? 4 : 1);
+                insert.setInt(p++, 100_000);
+                insert.setObject(p++, start.minusDays(1));
+                insert.setBoolean(p++, i % 20 == 0);
+                insert.setBoolean(p++, i % 50 == 0);
+                insert.setBigDecimal(p++, price);
+                insert.setBigDecimal(p++, team ? price.multiply(BigDecimal.valueOf(2)) : BigDecimal.ZERO);
+                insert.setBigDecimal(p++, team ? price.divide(BigDecimal.valueOf(2)) : BigDecimal.ZERO);
+                insert.setObject(p++, now);
+                insert.setObject(p, now);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        return events;
+    }
+
+    /**
+     * Registration n goes to attendee {@code n % A} and, as that attendee's
+     * j-th registration, to event {@code (attendee * 31 + j) % E}; no pair repeats.
+     */
+    private void insertRegistrations(OffsetDateTime now, int count, List<SeededEvent> events, List<UUID> attendees)
+            throws SQLException {
+        if (attendees.isEmpty() || events.isEmpty()) {
+            return;
+        }
+        int max = (int) Math.min(count, (long) attendees.size() * events.size());
+        try (PreparedStatement registration = connection.prepareStatement(
+                "INSERT INTO registrations (id, event_id, user_id, registration_status, registration_date, is_team, "
+                        + "team_size, team_name, team_leader_name, payment_status, payment_amount, payment_method, "
+                        + "transaction_id, paid_at, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement team = connection.prepareStatement(
+                     "INSERT INTO teams (id, registration_id, team_name, team_leader_id, team_leader_name, event_id, "
+                             + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement member = connection.prepareStatement(
+                     "INSERT INTO team_members (id, team_id, member_name, member_email, is_leader, joined_at) "
+                             + "VALUES (?, ?, ?, ?, ?, ?)");
+             PreparedStatement ticket = connection.prepareStatement(
+                     "INSERT INTO tickets (id, event_id, registration_id, ticket_type, price, ticket_code, is_valid, "
+                             + "issued_at, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, true, ?, ?, ?)")) {
+            for (int n = 0; n < max; n++) {
+                int a = n % attendees.size();
+                int j = n / attendees.size();
+                SeededEvent event = events.get((a * 31 + j) % events.size());
+                UUID userId = attendees.get(a);
+                UUID registrationId = UUID.randomUUID();
+                boolean isTeam = event.team() && random.nextInt(10) < 4;
+                int size = isTeam ? 2 + random.nextInt(3) : 1;
+                BigDecimal amount = isTeam ? event.price().multiply(BigDecimal.valueOf(size)) : event.price();
+                OffsetDateTime registeredAt = now.minusMinutes(random.nextInt(60 * 24 * 30));
+
+                int p = 1;
+                registration.setObject(p++, registrationId);
+                registration.setObject(p++, event.id());
+                registration.setObject(p++, userId);
+                registration.setObject(p++, "CONFIRMED", Types.OTHER);
+                registration.setObject(p++, registeredAt);
+                registration.setBoolean(p++, isTeam);
+                registration.setInt(p++, size);
+                registration.setString(p++, isTeam ? "Team " + n : null);
+                registration.setString(p++, isTeam ? "Load User " + a : null);
+                registration.setObject(p++, "COMPLETED", Types.OTHER);
+                registration.setBigDecimal(p++, amount);
+                registration.setString(p++, amount.signum() > 0 ? "upi" : null);
+                registration.setString(p++, amount.signum() > 0 ? "LT-TXN-" + n : null);
+                registration.setObject(p++, amount.signum() > 0 ? registeredAt : null);
+                registration.setObject(p++, registeredAt);
+                registration.setObject(p, registeredAt);
+                registration.addBatch();
+
+                if (isTeam) {
+                    UUID teamId = UUID.randomUUID();
+                    team.setObject(1, teamId);
+                    team.setObject(2, registrationId);
+                    team.setString(3, "Team " + n);
+                    team.setObject(4, userId);
+                    team.setString(5, "Load User " + a);
+                    team.setObject(6, event.id());
+                    team.setObject(7, registeredAt);
+                    team.setObject(8, registeredAt);
+                    team.addBatch();
+                    for (int m = 0; m < size; m++) {
+                        member.setObject(1, UUID.randomUUID());
+                        member.setObject(2, teamId);
+                        member.setString(3, m == 0 ? "Load User " + a : "Member " + n + "-" + m);
+                        member.setString(4, "member" + n + "-" + m + "@" + EMAIL_DOMAIN);
+                        member.setBoolean(5, m == 0);
+                        member.setObject(6, registeredAt);
+                        member.addBatch();
+                    }
+                }
+
+                ticket.setObject(1, UUID.randomUUID());
+                ticket.setObject(2, event.id());
+                ticket.setObject(3, registrationId);
+                ticket.setObject(4, amount.signum() > 0 ? "PAID" : "FREE", Types.OTHER);
+                ticket.setBigDecimal(5, amount);
+                ticket.setString(6, String.format("LT%010d", n));
+                ticket.setObject(7, registeredAt);
+                ticket.setObject(8, registeredAt);
+                ticket.setObject(9, registeredAt);
+                ticket.addBatch();
+
+                if (n % BATCH == BATCH - 1) {
+                    // Parents first: teams reference registrations, members reference teams
+                    registration.executeBatch();
+                    team.executeBatch();
+                    member.executeBatch();
+                    ticket.executeBatch();
+                }
+            }
+            registration.executeBatch();
+            team.executeBatch();
+            member.executeBatch();
+            ticket.executeBatch();
+        }
+    }
+
+    private boolean hasAuthUsers() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT to_regclass('auth.users') IS NOT NULL")) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private record SeededEvent(UUID id, boolean team, BigDecimal price) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.backend.loadtest;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mints HS256 tokens the way Supabase does, signed with the backend's
+ * {@code jwt.secret}, so load runs need no auth server.
+ */
+final class Tokens {
+
+    private final SecretKey key;
+
+    Tokens(String jwtSecret) {
+        this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    String mint(UUID userId, String email, String role) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(userId.toString())
+                .claim("email", email)
+                .claim("role", role)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + TimeUnit.HOURS.toMillis(6)))
+                .signWith(key)
+                .compact();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.backend.cache;
+
+import com.example.backend.changes.ChangeStream;
+import com.example.backend.config.CacheConfig;
+import com.example.backend.dto.CategoryDto;
+import com.example.backend.dto.CollectionVersion;
+import com.example.backend.dto.CollegeDto;
+import com.example.backend.dto.EventDto;
+import com.example.backend.entity.Category;
+import com.example.backend.entity.College;
+import com.example.backend.entity.Profile;
+import com.example.backend.repository.CategoryRepository;
+import com.example.backend.repository.CollegeRepository;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.ProfileRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cached lookups for reference data and event details.
+ * Cached entities are detached and shared between requests: use them as
+ * association targets or for reading, never modify them. Handlers that write
+ * the underlying rows evict the matching entries; events and colleges are
+ * also evicted from the {@link ChangeStream}, which carries seat count
+ * changes and writes made by other instances.
+ */
+@Service
+public class CachedLookups {
+
+    private final CategoryRepository categoryRepository;
+    private final CollegeRepository collegeRepository;
+    private final ProfileRepository profileRepository;
+    private final EventRepository eventRepository;
+
+    public CachedLookups(CategoryRepository categoryRepository,
+                         CollegeRepository collegeRepository,
+                         ProfileRepository profileRepository,
+                         EventRepository eventRepository,
+                         CacheManager cacheManager,
+                         ChangeStream changeStream) {
+        this.categoryRepository = categoryRepository;
+        this.collegeRepository = collegeRepository;
+        this.profileRepository = profileRepository;
+        this.eventRepository = eventRepository;
+        Cache eventDetails = Objects.requireNonNull(cacheManager.getCache(CacheConfig.EVENT_DETAIL));
+        Cache colleges = Objects.requireNonNull(cacheManager.getCache(CacheConfig.COLLEGE));
+        changeStream.subscribe(changes -> changes.forEach(change -> {
+            if ("Event".equals(change.entity())) {
+                eventDetails.evict(change.entityId());
+            } else if ("College".equals(change.entity())) {
+                colleges.evict(change.entityId());
+            }
+        }));
+    }
+
+    /**
+     * Get all categories. Keyed by the table version, so rows written
+     * outside this application are picked up as soon as the version moves.
+     */
+    @Cacheable(CacheConfig.CATEGORIES)
+    public List<CategoryDto> allCategories(CollectionVersion version) {
+        return categoryRepository.findAll().stream()
+                .map(CategoryDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Find a category by ID.
+     */
+    @Cacheable(cacheNames = CacheConfig.CATEGORY, unless = "#result == null")
+    public Optional<Category> category(UUID id) {
+        return categoryRepository.findById(id);
+    }
+
+    /**
+     * Get all colleges. Keyed by the table version, like {@link #allCategories}.
+     */
+    @Cacheable(CacheConfig.COLLEGES)
+    public List<CollegeDto> allColleges(CollectionVersion version) {
+        return collegeRepository.findAll().stream()
+                .map(CollegeDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Find a college by ID.
+     */
+    @Cacheable(cacheNames = CacheConfig.COLLEGE, unless = "#result == null")
+    public Optional<College> college(UUID id) {
+        return collegeRepository.findById(id);
+    }
+
+    /**
+     * Find a profile by ID with its college loaded.
+     */
+    @Cacheable(cacheNames = CacheConfig.PROFILE, unless = "#result == null")
+    public Optional<Profile> profile(UUID id) {
+        return profileRepository.findDetailedById(id);
+    }
+
+    /**
+     * Find an event's detail view by ID.
+     */
+    @Cacheable(cacheNames = CacheConfig.EVENT_DETAIL, unless = "#result == null")
+    public Optional<EventDto> eventDetail(UUID id) {
+        return eventRepository.findDetailedById(id).map(EventDto::from);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.backend.cache;
+
+import com.example.backend.changes.ChangeStream;
+import com.example.backend.config.CacheConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Rendered JSON bodies of single-entity GETs, so a hot read skips Jackson.
+ * Each entry holds the UTF-8 JSON of one entity, and a gzipped copy when the
+ * body is large enough to be worth compressing, tagged with the ETag it was
+ * rendered for. A request whose ETag differs re-renders the entry. The ETag
+ * comes from a cached lookup that can itself lag the row, so event and
+ * college entries are also evicted by ID from the {@link ChangeStream}, which
+ * carries seat count changes and writes made by other instances; local
+ * writes that change what an entity inlines evict the entry directly.
+ */
+@Service
+public class JsonResponseCache {
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final int gzipMinSize;
+
+    public JsonResponseCache(CacheManager cacheManager,
+                             ObjectMapper objectMapper,
+                             ChangeStream changeStream,
+                             @Value("${cache.json.gzip-min-size:2048}") int gzipMinSize) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.gzipMinSize = gzipMinSize;
+        Cache events = Objects.requireNonNull(cacheManager.getCache(CacheConfig.EVENT_JSON));
+        Cache colleges = Objects.requireNonNull(cacheManager.getCache(CacheConfig.COLLEGE_JSON));
+        changeStream.subscribe(changes -> changes.forEach(change -> {
+            if ("Event".equals(change.entity())) {
+                events.evict(change.entityId());
+            } else if ("College".equals(change.entity())) {
+                colleges.evict(change.entityId());
+            }
+        }));
+    }
+
+    /**
+     * Respond with 304 if the client's copy is current, otherwise 200 with the
+     * cached JSON, gzipped when the client accepts it.
+     * @param request the current request
+     * @param cacheName the cache holding bodies of this entity type
+     * @param id the entity ID
+     * @param etag strong ETag for the representation
+     * @param lastModified last modification time, or null if unknown
+     * @param body supplies the object to render when the entry is missing or stale
+     */
+    public ResponseEntity<byte[]> respond(WebRequest request, String cacheName, Object id, String etag,
+                                          OffsetDateTime lastModified, Supplier<?> body) {
+        long lastModifiedMillis = lastModified != null ? lastModified.toInstant().toEpochMilli() : -1;
+        if (request.checkNotModified(etag, lastModifiedMillis)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(cacheName), cacheName);
+        Rendered rendered = cache.get(id, Rendered.class);
+        if (rendered == null || !rendered.etag().equals(etag)) {
+            rendered = render(etag, body.get());
+            cache.put(id, rendered);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON);
+        if (rendered.gzip() == null) {
+            return response.body(rendered.json());
+        }
+        response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(rendered.gzip());
+        }
+        return response.body(rendered.json());
+    }
+
+    private Rendered render(String etag, Object body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Response body could not be serialized", e);
+        }
+        byte[] gzip = json.length >= gzipMinSize ? gzip(json) : null;
+        return new Rendered(etag, json, gzip != null && gzip.length < json.length ? gzip : null);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Whether an Accept-Encoding header lists gzip without {@code q=0}.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private record Rendered(String etag, byte[] json, byte[] gzip) {
+    }
+}
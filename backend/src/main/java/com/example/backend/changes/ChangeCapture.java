@@ -0,0 +1,167 @@
+package com.example.backend.changes;
+
+import com.example.backend.entity.Category;
+import com.example.backend.entity.College;
+import com.example.backend.entity.Event;
+import com.example.backend.entity.Payment;
+import com.example.backend.entity.Profile;
+import com.example.backend.entity.Registration;
+import com.example.backend.entity.Review;
+import com.example.backend.entity.Team;
+import com.example.backend.entity.TeamMember;
+import com.example.backend.entity.Ticket;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Captures every insert, update and delete of the domain entities into
+ * {@code entity_changes}. Hibernate reports each write as the session flushes
+ * it, at the same point as the entities' {@code @PostPersist}/{@code @PostUpdate}
+ * callbacks; the records are collected per transaction and inserted as one
+ * JDBC batch on the session's connection just before it commits, so they
+ * commit or roll back with the writes and cost one round trip.
+ */
+@Component
+public class ChangeCapture implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ChangeLog changeLog;
+
+    private final Map<SessionImplementor, List<Captured>> pending = new ConcurrentHashMap<>();
+
+    public ChangeCapture(EntityManagerFactory entityManagerFactory, ChangeLog changeLog) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.changeLog = changeLog;
+    }
+
+    @PostConstruct
+    void register() {
+        if (!changeLog.isEnabled()) {
+            return;
+        }
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        capture(event.getSession(), event.getEntity(), ChangeOperation.INSERT);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        capture(event.getSession(), event.getEntity(), ChangeOperation.UPDATE);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        capture(event.getSession(), event.getEntity(), ChangeOperation.DELETE);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void capture(SessionImplementor session, Object entity, ChangeOperation operation) {
+        Captured captured = describe(entity, operation);
+        if (captured == null) {
+            return;
+        }
+        List<Captured> changes = pending.computeIfAbsent(session, s -> {
+            s.getActionQueue().registerProcess(this::write);
+            s.getActionQueue().registerProcess((success, completed) -> pending.remove(s));
+            return new ArrayList<>();
+        });
+        changes.add(captured);
+    }
+
+    private void write(SessionImplementor session) {
+        List<Captured> changes = pending.remove(session);
+        if (changes == null || changes.isEmpty()) {
+            return;
+        }
+        Connection connection = session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+        try (PreparedStatement statement = connection.prepareStatement(ChangeLog.INSERT_SQL)) {
+            for (Captured change : changes) {
+                statement.setString(1, change.entity());
+                statement.setObject(2, change.entityId());
+                statement.setString(3, change.operation().name());
+                statement.setObject(4, change.eventId());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        } catch (SQLException e) {
+            throw session.getJdbcServices().getSqlExceptionHelper().convert(e, "Could not record entity changes");
+        }
+    }
+
+    /**
+     * The change record of a domain entity, or null for entities that are not captured.
+     */
+    private static Captured describe(Object entity, ChangeOperation operation) {
+        if (entity instanceof Event event) {
+            return new Captured("Event", event.getId(), operation, event.getId());
+        }
+        if (entity instanceof Registration registration) {
+            return new Captured("Registration", registration.getId(), operation, idOf(registration.getEvent()));
+        }
+        if (entity instanceof Ticket ticket) {
+            return new Captured("Ticket", ticket.getId(), operation, idOf(ticket.getEvent()));
+        }
+        if (entity instanceof Team team) {
+            return new Captured("Team", team.getId(), operation, idOf(team.getEvent()));
+        }
+        if (entity instanceof Review review) {
+            return new Captured("Review", review.getId(), operation, idOf(review.getEvent()));
+        }
+        // Payments and team members reach their event through a lazy association, which is not loaded here
+        if (entity instanceof Payment payment) {
+            return new Captured("Payment", payment.getId(), operation, null);
+        }
+        if (entity instanceof TeamMember member) {
+            return new Captured("TeamMember", member.getId(), operation, null);
+        }
+        if (entity instanceof Profile profile) {
+            return new Captured("Profile", profile.getId(), operation, null);
+        }
+        if (entity instanceof College college) {
+            return new Captured("College", college.getId(), operation, null);
+        }
+        if (entity instanceof Category category) {
+            return new Captured("Category", category.getId(), operation, null);
+        }
+        return null;
+    }
+
+    private static UUID idOf(Event event) {
+        return event != null ? event.getId() : null;
+    }
+
+    private record Captured(String entity, UUID entityId, ChangeOperation operation, UUID eventId) {
+    }
+}
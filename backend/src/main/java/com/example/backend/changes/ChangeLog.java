@@ -0,0 +1,49 @@
+package com.example.backend.changes;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+/**
+ * Records writes that bypass the entity lifecycle, such as bulk JPQL updates.
+ * Entity saves are captured by {@link ChangeCapture} without calling this.
+ * Call inside the transaction of the write so the record commits with it.
+ */
+@Component
+public class ChangeLog {
+
+    static final String INSERT_SQL =
+            "INSERT INTO entity_changes (entity, entity_id, operation, event_id) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public ChangeLog(DataSource dataSource,
+                     @Value("${changes.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.enabled = enabled;
+    }
+
+    /**
+     * Whether writes are being captured.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Record a write.
+     * @param entity entity name, e.g. {@code Event}
+     * @param entityId ID of the written row
+     * @param operation insert, update or delete
+     * @param eventId the event the row belongs to, or null
+     */
+    public void record(String entity, UUID entityId, ChangeOperation operation, UUID eventId) {
+        if (enabled) {
+            jdbcTemplate.update(INSERT_SQL, entity, entityId, operation.name(), eventId);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.backend.changes;
+
+/**
+ * Kind of write a change record describes.
+ */
+public enum ChangeOperation {
+    INSERT,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,268 @@
+package com.example.backend.changes;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Streams captured entity changes in commit order. Rows are written to
+ * {@code entity_changes} without a position; each poll stamps the committed
+ * ones with consecutive positions under an advisory lock, so one instance
+ * sequences at a time and a row is only numbered once it is visible. A
+ * position is therefore never handed out behind one a reader has already
+ * seen, and readers can resume from the last position they processed.
+ *
+ * <p>In-process subscribers are fed from one read per poll, starting at the
+ * lowest position any of them still needs. A subscriber that throws is handed
+ * the same changes again on the next poll. Consumers run on the scheduler
+ * thread and should only flag work, not do it.
+ */
+@Service
+public class ChangeStream {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeStream.class);
+
+    /** Advisory lock key of the sequencer ("festify" "changes"). */
+    private static final long SEQUENCER_LOCK = 0x66657374_63686e67L;
+    private static final int MAX_ROUNDS = 10;
+
+    private static final String SEQUENCE_SQL = """
+            UPDATE entity_changes c
+            SET position = s.base + s.rn
+            FROM (SELECT id,
+                         row_number() OVER (ORDER BY id) AS rn,
+                         (SELECT coalesce(max(position), 0) FROM entity_changes) AS base
+                  FROM entity_changes
+                  WHERE position IS NULL
+                  ORDER BY id
+                  LIMIT ?) s
+            WHERE c.id = s.id
+            """;
+
+    private static final String READ_SQL = """
+            SELECT position, entity, entity_id, operation, event_id, changed_at
+            FROM entity_changes
+            WHERE position > ?
+            ORDER BY position
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration retention;
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    public ChangeStream(DataSource dataSource,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${changes.enabled:true}") boolean enabled,
+                        @Value("${changes.batch-size:500}") int batchSize,
+                        @Value("${changes.retention-hours:72}") long retentionHours) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /**
+     * Receive changes committed from now on.
+     * @param consumer called with each new run of changes, in position order
+     */
+    public Subscription subscribe(Consumer<List<EntityChange>> consumer) {
+        return subscribe(-1, consumer);
+    }
+
+    /**
+     * Receive changes after a known position, catching up on the ones already stored.
+     * @param after last position the subscriber has processed
+     * @param consumer called with each new run of changes, in position order
+     */
+    public Subscription subscribe(long after, Consumer<List<EntityChange>> consumer) {
+        Subscription subscription = new Subscription(after, consumer);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Read sequenced changes after a position.
+     * @param after last position already seen, 0 for the oldest retained change
+     * @param limit maximum number of changes
+     */
+    public List<EntityChange> read(long after, int limit) {
+        return jdbcTemplate.query(READ_SQL, ChangeStream::change, after, limit);
+    }
+
+    /**
+     * Position of the latest sequenced change, 0 if there is none.
+     */
+    public long head() {
+        Long head = jdbcTemplate.queryForObject(
+                "SELECT coalesce(max(position), 0) FROM entity_changes", Long.class);
+        return head != null ? head : 0;
+    }
+
+    /**
+     * Sequence newly committed changes and hand them to subscribers.
+     */
+    @Scheduled(fixedDelayString = "${changes.poll-interval-ms:200}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int sequenced = sequence();
+            if (sequenced > 0) {
+                log.debug("Sequenced {} entity changes", sequenced);
+            }
+            deliver();
+        } catch (RuntimeException e) {
+            log.warn("Change stream poll failed", e);
+        }
+    }
+
+    /**
+     * Drop sequenced changes older than {@code changes.retention-hours}. The
+     * latest one is kept so numbering carries on from it.
+     */
+    @Scheduled(fixedDelayString = "${changes.prune-interval-ms:3600000}")
+    public void prune() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int pruned = jdbcTemplate.update(
+                    "DELETE FROM entity_changes WHERE position < (SELECT max(position) FROM entity_changes) "
+                            + "AND changed_at < ?",
+                    OffsetDateTime.now().minus(retention));
+            if (pruned > 0) {
+                log.info("Pruned {} entity changes", pruned);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Change stream prune failed", e);
+        }
+    }
+
+    private int sequence() {
+        Integer sequenced = transactionTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, SEQUENCER_LOCK);
+            if (!Boolean.TRUE.equals(locked)) {
+                // Another instance is sequencing; its positions show up on the next read
+                return 0;
+            }
+            int total = 0;
+            for (int round = 0; round < MAX_ROUNDS; round++) {
+                int stamped = jdbcTemplate.update(SEQUENCE_SQL, batchSize);
+                total += stamped;
+                if (stamped < batchSize) {
+                    break;
+                }
+            }
+            return total;
+        });
+        return sequenced != null ? sequenced : 0;
+    }
+
+    private void deliver() {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        long head = -1;
+        for (Subscription subscription : subscriptions) {
+            if (subscription.position < 0) {
+                if (head < 0) {
+                    head = head();
+                }
+                subscription.position = head;
+            }
+        }
+        for (int round = 0; round < MAX_ROUNDS; round++) {
+            long from = Long.MAX_VALUE;
+            for (Subscription subscription : subscriptions) {
+                from = Math.min(from, subscription.position);
+            }
+            List<EntityChange> changes = from == Long.MAX_VALUE ? List.of() : read(from, batchSize);
+            if (changes.isEmpty()) {
+                return;
+            }
+            for (Subscription subscription : subscriptions) {
+                subscription.offer(changes);
+            }
+            if (changes.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private static EntityChange change(ResultSet rs, int rowNum) throws SQLException {
+        return new EntityChange(
+                rs.getLong("position"),
+                rs.getString("entity"),
+                rs.getObject("entity_id", UUID.class),
+                ChangeOperation.valueOf(rs.getString("operation")),
+                rs.getObject("event_id", UUID.class),
+                rs.getObject("changed_at", OffsetDateTime.class));
+    }
+
+    /**
+     * An in-process subscriber and the last position it has processed.
+     */
+    public final class Subscription {
+
+        private final Consumer<List<EntityChange>> consumer;
+        private volatile long position;
+
+        private Subscription(long position, Consumer<List<EntityChange>> consumer) {
+            this.position = position;
+            this.consumer = consumer;
+        }
+
+        /**
+         * Last position handed to the consumer, -1 before the first poll.
+         */
+        public long position() {
+            return position;
+        }
+
+        /**
+         * Stop receiving changes.
+         */
+        public void cancel() {
+            subscriptions.remove(this);
+        }
+
+        private void offer(List<EntityChange> changes) {
+            int from = 0;
+            while (from < changes.size() && changes.get(from).position() <= position) {
+                from++;
+            }
+            if (from == changes.size()) {
+                return;
+            }
+            try {
+                consumer.accept(changes.subList(from, changes.size()));
+                position = changes.get(changes.size() - 1).position();
+            } catch (RuntimeException e) {
+                log.warn("Change subscriber failed at position {}, retrying on the next poll", position, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.backend.changes;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * One committed entity write, as streamed to subscribers.
+ * @param position stream offset; consecutive, and increasing in commit order
+ * @param entity entity name, e.g. {@code Registration}
+ * @param entityId ID of the written row
+ * @param operation insert, update or delete
+ * @param eventId the event the row belongs to, or null
+ * @param changedAt when the write happened
+ */
+public record EntityChange(
+        long position,
+        String entity,
+        UUID entityId,
+        ChangeOperation operation,
+        UUID eventId,
+        OffsetDateTime changedAt) {
+}
@@ -0,0 +1,20 @@
+package com.example.backend.checkin;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Result of a scan. Ticket fields are null for unknown codes; {@code usedAt}
+ * is when the ticket was first admitted.
+ */
+public record CheckinResult(
+        CheckinStatus status,
+        String ticketCode,
+        UUID ticketId,
+        UUID registrationId,
+        OffsetDateTime usedAt) {
+
+    static CheckinResult unknown(String code) {
+        return new CheckinResult(CheckinStatus.UNKNOWN, code, null, null, null);
+    }
+}
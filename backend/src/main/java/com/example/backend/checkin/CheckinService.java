@@ -0,0 +1,317 @@
+package com.example.backend.checkin;
+
+import com.example.backend.changes.ChangeLog;
+import com.example.backend.changes.ChangeOperation;
+import com.example.backend.dto.TicketCheckinRow;
+import com.example.backend.entity.Registration;
+import com.example.backend.entity.Ticket;
+import com.example.backend.entity.enums.RegistrationStatus;
+import com.example.backend.repository.RegistrationRepository;
+import com.example.backend.repository.TicketRepository;
+import com.example.backend.stats.StatsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gate check-in. Each event's ticket codes are held in an in-memory index that
+ * is loaded on first scan (or on preload), so unknown, revoked and repeated
+ * codes are rejected with a hash lookup. A code that passes is marked used in
+ * memory with a compare-and-set, then claimed with a conditional UPDATE on its
+ * ticket row, so a ticket is admitted once even when several instances serve
+ * the gates from their own index. ATTENDED registrations are written back
+ * asynchronously in batches.
+ */
+@Service
+public class CheckinService {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckinService.class);
+
+    private final TicketRepository ticketRepository;
+    private final RegistrationRepository registrationRepository;
+    private final StatsService statsService;
+    private final ChangeLog changeLog;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration idleEviction;
+
+    private final ConcurrentHashMap<UUID, EventCodes> events = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Admission> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final Map<CheckinStatus, Counter> scans = new EnumMap<>(CheckinStatus.class);
+    private final Timer scanTimer;
+
+    public CheckinService(TicketRepository ticketRepository,
+                          RegistrationRepository registrationRepository,
+                          StatsService statsService,
+                          ChangeLog changeLog,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${checkin.batch-size:200}") int batchSize,
+                          @Value("${checkin.idle-eviction-minutes:720}") long idleEvictionMinutes) {
+        this.ticketRepository = ticketRepository;
+        this.registrationRepository = registrationRepository;
+        this.statsService = statsService;
+        this.changeLog = changeLog;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.idleEviction = Duration.ofMinutes(idleEvictionMinutes);
+
+        for (CheckinStatus status : CheckinStatus.values()) {
+            scans.put(status, Counter.builder("festify.checkin.scans")
+                    .description("Ticket scans by outcome")
+                    .tag("result", status.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        this.scanTimer = Timer.builder("festify.checkin.scan")
+                .description("Time to validate and mark a scanned code")
+                .register(meterRegistry);
+        Gauge.builder("festify.checkin.pending", pendingCount, AtomicInteger::get)
+                .description("Admissions whose attendance is not yet written to the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Validate a scanned code and admit it if it has not been used.
+     * @param eventId the event being checked in
+     * @param rawCode the scanned ticket code
+     * @return the scan outcome
+     * @throws IllegalArgumentException if the code is blank
+     */
+    public CheckinResult scan(UUID eventId, String rawCode) {
+        String code = normalize(rawCode);
+        if (code.isEmpty()) {
+            throw new IllegalArgumentException("Ticket code is required");
+        }
+        long started = System.nanoTime();
+        CheckinResult result = admit(eventId, code);
+        scanTimer.record(Duration.ofNanos(System.nanoTime() - started));
+        scans.get(result.status()).increment();
+        return result;
+    }
+
+    /**
+     * Load (or reload) an event's codes ahead of the gates opening.
+     * @param eventId the event ID
+     * @return number of ticket codes in the index
+     */
+    public int preload(UUID eventId) {
+        EventCodes codes = events.computeIfAbsent(eventId, id -> new EventCodes());
+        codes.load(ticketRepository.findCheckinRowsByEventId(eventId));
+        return codes.size();
+    }
+
+    /**
+     * Reflect a created or edited ticket in the index, if its event is loaded.
+     * @param ticket the saved ticket
+     */
+    public void ticketSaved(Ticket ticket) {
+        if (ticket.getEvent() == null || ticket.getEvent().getId() == null) {
+            return;
+        }
+        UUID eventId = ticket.getEvent().getId();
+        events.forEach((id, codes) -> {
+            if (!id.equals(eventId)) {
+                codes.removeTicket(ticket.getId());
+            }
+        });
+        EventCodes codes = events.get(eventId);
+        if (codes != null && ticket.getTicketCode() != null) {
+            codes.put(new TicketCheckinRow(ticket.getId(), ticket.getTicketCode(), eventId,
+                    ticket.getRegistration() != null ? ticket.getRegistration().getId() : null,
+                    ticket.getValid(), ticket.getUsedAt()));
+        }
+    }
+
+    /**
+     * Drop a deleted ticket from the index.
+     * @param ticketId the ticket ID
+     */
+    public void ticketDeleted(UUID ticketId) {
+        events.values().forEach(codes -> codes.removeTicket(ticketId));
+    }
+
+    /**
+     * Write pending admissions to the database in batches. Failed batches are
+     * queued again and retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${checkin.flush-interval-ms:250}")
+    public void flush() {
+        List<Admission> batch = drain();
+        while (!batch.isEmpty()) {
+            try {
+                write(batch);
+            } catch (RuntimeException e) {
+                log.warn("Writing {} check-ins failed, will retry", batch.size(), e);
+                pending.addAll(batch);
+                pendingCount.addAndGet(batch.size());
+                return;
+            }
+            statsService.markDirty();
+            batch = drain();
+        }
+    }
+
+    /**
+     * Forget events that have not been scanned for a while.
+     */
+    @Scheduled(fixedDelayString = "${checkin.eviction-interval-ms:600000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleEviction.toMillis();
+        if (pendingCount.get() == 0) {
+            events.values().removeIf(codes -> codes.lastUsedMillis() < cutoff);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    static String normalize(String code) {
+        return code == null ? "" : code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private CheckinResult admit(UUID eventId, String code) {
+        EventCodes codes = codesFor(eventId);
+        EventCodes.Entry entry = codes.get(code);
+        if (entry == null) {
+            // Issued after the index was loaded, or not a ticket of this event at all
+            Optional<TicketCheckinRow> row = ticketRepository.findCheckinRowByCode(code);
+            if (row.isEmpty()) {
+                return CheckinResult.unknown(code);
+            }
+            if (!row.get().eventId().equals(eventId)) {
+                return new CheckinResult(CheckinStatus.WRONG_EVENT, code, row.get().ticketId(),
+                        row.get().registrationId(), row.get().usedAt());
+            }
+            entry = codes.put(row.get());
+        }
+
+        if (!entry.valid) {
+            return result(CheckinStatus.INVALID, code, entry);
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        if (!entry.markUsed(now)) {
+            return result(CheckinStatus.ALREADY_USED, code, entry);
+        }
+        if (!claim(entry, eventId, now)) {
+            // Admitted through another instance, or revoked since the index was loaded
+            Optional<TicketCheckinRow> row = ticketRepository.findCheckinRowByCode(code);
+            if (row.isEmpty()) {
+                codes.removeTicket(entry.ticketId);
+                return CheckinResult.unknown(code);
+            }
+            entry.reset(row.get());
+            return result(entry.valid ? CheckinStatus.ALREADY_USED : CheckinStatus.INVALID, code, entry);
+        }
+        pending.add(new Admission(entry.registrationId, now));
+        pendingCount.incrementAndGet();
+        return result(CheckinStatus.ADMITTED, code, entry);
+    }
+
+    /**
+     * Mark the ticket row used. The local mark is undone if the database cannot be reached,
+     * so the ticket can be scanned again once it is back.
+     */
+    private boolean claim(EventCodes.Entry entry, UUID eventId, OffsetDateTime now) {
+        try {
+            Boolean claimed = transactionTemplate.execute(status -> {
+                if (ticketRepository.claim(entry.ticketId, now) == 0) {
+                    return Boolean.FALSE;
+                }
+                changeLog.record("Ticket", entry.ticketId, ChangeOperation.UPDATE, eventId);
+                return Boolean.TRUE;
+            });
+            return Boolean.TRUE.equals(claimed);
+        } catch (RuntimeException e) {
+            entry.unmark(now);
+            throw e;
+        }
+    }
+
+    private EventCodes codesFor(UUID eventId) {
+        EventCodes codes = events.computeIfAbsent(eventId, id -> new EventCodes());
+        if (!codes.isLoaded()) {
+            synchronized (codes) {
+                if (!codes.isLoaded()) {
+                    codes.load(ticketRepository.findCheckinRowsByEventId(eventId));
+                }
+            }
+        }
+        return codes;
+    }
+
+    private List<Admission> drain() {
+        List<Admission> batch = new ArrayList<>();
+        Admission admission;
+        while (batch.size() < batchSize && (admission = pending.poll()) != null) {
+            batch.add(admission);
+        }
+        pendingCount.addAndGet(-batch.size());
+        return batch;
+    }
+
+    /**
+     * One transaction per batch: an IN-list select, then the updates go out
+     * as JDBC batches (hibernate.jdbc.batch_size) when the transaction commits.
+     */
+    private void write(List<Admission> batch) {
+        Map<UUID, OffsetDateTime> attendedAtByRegistration = new HashMap<>();
+        for (Admission admission : batch) {
+            if (admission.registrationId() != null) {
+                attendedAtByRegistration.merge(admission.registrationId(), admission.usedAt(),
+                        (a, b) -> a.isBefore(b) ? a : b);
+            }
+        }
+        if (attendedAtByRegistration.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            OffsetDateTime now = OffsetDateTime.now();
+            for (Registration registration : registrationRepository.findAllById(attendedAtByRegistration.keySet())) {
+                if (registration.getRegistrationStatus() == RegistrationStatus.ATTENDED
+                        || registration.getRegistrationStatus() == RegistrationStatus.CANCELLED) {
+                    continue;
+                }
+                registration.setRegistrationStatus(RegistrationStatus.ATTENDED);
+                if (registration.getAttendedAt() == null) {
+                    registration.setAttendedAt(attendedAtByRegistration.get(registration.getId()));
+                }
+                registration.setUpdatedAt(now);
+            }
+        });
+    }
+
+    private static CheckinResult result(CheckinStatus status, String code, EventCodes.Entry entry) {
+        return new CheckinResult(status, code, entry.ticketId, entry.registrationId, entry.usedAt());
+    }
+
+    private record Admission(UUID registrationId, OffsetDateTime usedAt) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.backend.checkin;
+
+/**
+ * Outcome of scanning a ticket code at the gate.
+ */
+public enum CheckinStatus {
+    /** First scan of a valid ticket; the holder may enter. */
+    ADMITTED,
+    /** The ticket was already used. */
+    ALREADY_USED,
+    /** The ticket exists but is no longer valid. */
+    INVALID,
+    /** The ticket belongs to a different event. */
+    WRONG_EVENT,
+    /** No ticket has this code. */
+    UNKNOWN
+}
@@ -0,0 +1,123 @@
+package com.example.backend.checkin;
+
+import com.example.backend.dto.TicketCheckinRow;
+
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Ticket codes of one event. Entries are updated in place on reload so a scan
+ * racing a reload always marks the same object, which is what makes
+ * {@link Entry#markUsed} a single-use guarantee within this instance; the
+ * database claim extends it across instances.
+ */
+class EventCodes {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    private volatile long lastUsedMillis = System.currentTimeMillis();
+
+    Entry get(String code) {
+        lastUsedMillis = System.currentTimeMillis();
+        return entries.get(code);
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    long lastUsedMillis() {
+        return lastUsedMillis;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Replace the contents with the event's tickets, keeping the used marks of
+     * codes that are still present.
+     */
+    synchronized void load(List<TicketCheckinRow> rows) {
+        Set<String> codes = new HashSet<>(rows.size() * 2);
+        for (TicketCheckinRow row : rows) {
+            String code = CheckinService.normalize(row.ticketCode());
+            codes.add(code);
+            entries.compute(code, (k, existing) -> existing == null ? new Entry(row) : existing.refresh(row));
+        }
+        entries.keySet().retainAll(codes);
+        loaded = true;
+    }
+
+    /**
+     * Add or update a single ticket, dropping its previous code if it changed.
+     */
+    Entry put(TicketCheckinRow row) {
+        String code = CheckinService.normalize(row.ticketCode());
+        entries.entrySet().removeIf(e -> e.getValue().ticketId.equals(row.ticketId()) && !e.getKey().equals(code));
+        return entries.compute(code, (k, existing) -> existing == null ? new Entry(row) : existing.refresh(row));
+    }
+
+    void removeTicket(UUID ticketId) {
+        entries.values().removeIf(entry -> entry.ticketId.equals(ticketId));
+    }
+
+    /**
+     * A ticket code and its single-use state.
+     */
+    static final class Entry {
+
+        final UUID ticketId;
+        volatile UUID registrationId;
+        volatile boolean valid;
+        private final AtomicReference<OffsetDateTime> usedAt;
+
+        private Entry(TicketCheckinRow row) {
+            this.ticketId = row.ticketId();
+            this.registrationId = row.registrationId();
+            this.valid = !Boolean.FALSE.equals(row.valid());
+            this.usedAt = new AtomicReference<>(row.usedAt());
+        }
+
+        private Entry refresh(TicketCheckinRow row) {
+            registrationId = row.registrationId();
+            valid = !Boolean.FALSE.equals(row.valid());
+            if (row.usedAt() != null) {
+                usedAt.compareAndSet(null, row.usedAt());
+            }
+            return this;
+        }
+
+        /**
+         * Mark the ticket used.
+         * @return true for exactly one caller over the lifetime of the entry
+         */
+        boolean markUsed(OffsetDateTime now) {
+            return usedAt.compareAndSet(null, now);
+        }
+
+        /**
+         * Undo a {@link #markUsed} whose database claim did not go through.
+         */
+        void unmark(OffsetDateTime markedAt) {
+            usedAt.compareAndSet(markedAt, null);
+        }
+
+        /**
+         * Take the used time and validity from the row, which wins over the local mark.
+         */
+        void reset(TicketCheckinRow row) {
+            valid = !Boolean.FALSE.equals(row.valid());
+            usedAt.set(row.usedAt());
+        }
+
+        OffsetDateTime usedAt() {
+            return usedAt.get();
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package com.example.backend.checkout;
+
+import com.example.backend.dto.CheckoutCompletion;
+import com.example.backend.dto.CheckoutRequest;
+import com.example.backend.dto.CheckoutResponse;
+import com.example.backend.entity.Event;
+import com.example.backend.entity.Payment;
+import com.example.backend.entity.Profile;
+import com.example.backend.entity.Registration;
+import com.example.backend.entity.Team;
+import com.example.backend.entity.TeamMember;
+import com.example.backend.entity.Ticket;
+import com.example.backend.entity.enums.ParticipationType;
+import com.example.backend.entity.enums.PaymentStatus;
+import com.example.backend.entity.enums.RegistrationStatus;
+import com.example.backend.entity.enums.TicketType;
+import com.example.backend.notification.NotificationOutbox;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.PaymentRepository;
+import com.example.backend.repository.ProfileRepository;
+import com.example.backend.repository.RegistrationRepository;
+import com.example.backend.repository.TeamMemberRepository;
+import com.example.backend.repository.TeamRepository;
+import com.example.backend.repository.TicketRepository;
+import com.example.backend.reservation.Reservation;
+import com.example.backend.reservation.SeatReservationService;
+import com.example.backend.ticket.TicketCodes;
+import com.example.backend.ticket.TicketTokens;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Registration checkout: registration, team, team members, ticket and payment
+ * written in one transaction together with the seat reservation. Inserts are
+ * sent in JDBC batches (see hibernate.jdbc.batch_size), so a team of any size
+ * costs a handful of round trips to the database and nothing is left half
+ * created when a step fails. Registrations waitlisted by a full event are
+ * finished by {@link #complete} once the waitlist promotes them.
+ */
+@Service
+public class CheckoutService {
+
+    private final EventRepository eventRepository;
+    private final ProfileRepository profileRepository;
+    private final RegistrationRepository registrationRepository;
+    private final TeamRepository teamRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final TicketRepository ticketRepository;
+    private final PaymentRepository paymentRepository;
+    private final SeatReservationService seatReservationService;
+    private final TicketTokens ticketTokens;
+    private final NotificationOutbox notificationOutbox;
+    private final TransactionTemplate transactionTemplate;
+
+    public CheckoutService(EventRepository eventRepository,
+                           ProfileRepository profileRepository,
+                           RegistrationRepository registrationRepository,
+                           TeamRepository teamRepository,
+                           TeamMemberRepository teamMemberRepository,
+                           TicketRepository ticketRepository,
+                           PaymentRepository paymentRepository,
+                           SeatReservationService seatReservationService,
+                           TicketTokens ticketTokens,
+                           NotificationOutbox notificationOutbox,
+                           PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.profileRepository = profileRepository;
+        this.registrationRepository = registrationRepository;
+        this.teamRepository = teamRepository;
+        this.teamMemberRepository = teamMemberRepository;
+        this.ticketRepository = ticketRepository;
+        this.paymentRepository = paymentRepository;
+        this.seatReservationService = seatReservationService;
+        this.ticketTokens = ticketTokens;
+        this.notificationOutbox = notificationOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Register, pay and issue a ticket in one transaction.
+     * When the event is full the registration and its team are waitlisted instead, without
+     * payment or ticket; see {@link #complete} for finishing it once a seat is offered.
+     * @param request the checkout request
+     * @return IDs of the created rows and the issued ticket code, or the waitlist position
+     * @throws IllegalArgumentException if the request is invalid for the event
+     * @throws com.example.backend.reservation.SeatsUnavailableException if registration for the event is closed
+     * @throws com.example.backend.reservation.ReservationBusyException if the event is saturated
+     */
+    public CheckoutResponse checkout(CheckoutRequest request) {
+        if (request.eventId() == null) {
+            throw new IllegalArgumentException("Event is required");
+        }
+        if (request.userId() == null) {
+            throw new IllegalArgumentException("User is required");
+        }
+        Event event = eventRepository.findById(request.eventId())
+                .orElseThrow(() -> new IllegalArgumentException("Event not found"));
+        if (!profileRepository.existsById(request.userId())) {
+            throw new IllegalArgumentException("User not found");
+        }
+
+        boolean team = Boolean.TRUE.equals(request.team());
+        List<CheckoutRequest.Member> members = request.members() != null ? request.members() : List.of();
+        int teamSize = team ? validateTeam(event, request, members) : 1;
+        if (!team && event.getParticipationType() == ParticipationType.TEAM) {
+            throw new IllegalArgumentException("This event only accepts team registrations");
+        }
+
+        BigDecimal amount = price(event, team, teamSize);
+        boolean paid = amount.compareTo(BigDecimal.ZERO) > 0;
+
+        CheckoutResponse seated = seatReservationService.tryWithSeats(event.getId(), teamSize, () -> {
+            OffsetDateTime now = OffsetDateTime.now();
+            Event eventRef = eventRepository.getReferenceById(event.getId());
+            Profile user = profileRepository.getReferenceById(request.userId());
+
+            Registration registration = newRegistration(eventRef, user, request, team, teamSize, amount, now);
+            registration.setRegistrationStatus(RegistrationStatus.CONFIRMED);
+            registration.setPaymentStatus(PaymentStatus.COMPLETED);
+            registration.setPaymentMethod(request.paymentMethod());
+            registration.setTransactionId(request.transactionId());
+            registration.setPaidAt(paid ? now : null);
+            registrationRepository.save(registration);
+
+            Team savedTeam = team ? saveTeam(eventRef, user, registration, request, members, now) : null;
+            Ticket ticket = issueTicket(eventRef, registration, amount, now);
+            Payment payment = paid
+                    ? recordPayment(registration, ticket, amount, request.paymentMethod(), request.transactionId(), now)
+                    : null;
+            return seated(registration, savedTeam, ticket, payment, amount);
+        });
+        if (seated != null) {
+            return seated;
+        }
+
+        // Event is full: queue the registration like POST /api/registrations does, with its team.
+        // Nothing is charged and no ticket is issued until a seat frees up; a free registration is
+        // then confirmed and ticketed by the promotion, a paid one is finished with complete().
+        OffsetDateTime now = OffsetDateTime.now();
+        Profile user = profileRepository.getReferenceById(request.userId());
+        Registration registration = newRegistration(event, user, request, team, teamSize, amount, now);
+        registration.setPaymentStatus(PaymentStatus.PENDING);
+        Team[] savedTeam = new Team[1];
+        Reservation reservation = seatReservationService.waitlist(registration, waitlisted -> {
+            if (team) {
+                savedTeam[0] = saveTeam(event, user, waitlisted, request, members, now);
+            }
+        });
+        Registration waitlisted = reservation.registration();
+        return new CheckoutResponse(
+                waitlisted.getId(),
+                savedTeam[0] != null ? savedTeam[0].getId() : null,
+                null,
+                null,
+                null,
+                null,
+                amount,
+                waitlisted.getRegistrationStatus(),
+                waitlisted.getPaymentStatus(),
+                true,
+                reservation.waitlistPosition());
+    }
+
+    /**
+     * Finish checkout for a registration promoted from the waitlist: record the
+     * payment, issue the ticket and confirm it. The promotion already took the
+     * seats and the team was saved when the registration was waitlisted; the
+     * price is the one quoted then.
+     * @param registrationId the promoted registration
+     * @param request the registrant and payment details
+     * @return IDs of the created rows and the issued ticket code
+     * @throws IllegalArgumentException if the registration does not exist or belongs to another user
+     * @throws IllegalStateException if the registration is not awaiting payment (still waitlisted,
+     *         already confirmed, or its hold expired)
+     */
+    public CheckoutResponse complete(UUID registrationId, CheckoutCompletion request) {
+        if (request.userId() == null) {
+            throw new IllegalArgumentException("User is required");
+        }
+        return transactionTemplate.execute(status -> {
+            // Locked so the hold sweep cannot cancel it while it is being paid for
+            Registration registration = registrationRepository.findByIdForUpdate(registrationId)
+                    .orElseThrow(() -> new IllegalArgumentException("Registration not found"));
+            if (!request.userId().equals(registration.getUser().getId())) {
+                throw new IllegalArgumentException("Registration not found");
+            }
+            if (registration.getRegistrationStatus() == RegistrationStatus.WAITLISTED) {
+                throw new IllegalStateException("Registration is still on the waitlist");
+            }
+            if (registration.getRegistrationStatus() != RegistrationStatus.PENDING
+                    || registration.getPaymentStatus() != PaymentStatus.PENDING
+                    || ticketRepository.findByRegistrationId(registrationId).isPresent()) {
+                throw new IllegalStateException("Registration is not awaiting payment");
+            }
+
+            OffsetDateTime now = OffsetDateTime.now();
+            BigDecimal amount = orZero(registration.getPaymentAmount());
+            boolean paid = amount.compareTo(BigDecimal.ZERO) > 0;
+            registration.setRegistrationStatus(RegistrationStatus.CONFIRMED);
+            registration.setPaymentStatus(PaymentStatus.COMPLETED);
+            registration.setPaymentMethod(request.paymentMethod());
+            registration.setTransactionId(request.transactionId());
+            registration.setPaidAt(paid ? now : null);
+            registration.setUpdatedAt(now);
+            registrationRepository.save(registration);
+
+            Team savedTeam = teamRepository.findByRegistrationId(registrationId).orElse(null);
+            Ticket ticket = issueTicket(registration.getEvent(), registration, amount, now);
+            Payment payment = paid
+                    ? recordPayment(registration, ticket, amount, request.paymentMethod(), request.transactionId(), now)
+                    : null;
+            return seated(registration, savedTeam, ticket, payment, amount);
+        });
+    }
+
+    private Team saveTeam(Event event, Profile user, Registration registration, CheckoutRequest request,
+                          List<CheckoutRequest.Member> members, OffsetDateTime now) {
+        Team team = new Team();
+        team.setEvent(event);
+        team.setTeamLeader(user);
+        team.setRegistration(registration);
+        team.setTeamName(request.teamName());
+        team.setTeamLeaderName(request.teamLeaderName());
+        team.setTeamLeaderPhone(request.teamLeaderPhone());
+        team.setTeamLeaderEmail(request.teamLeaderEmail());
+        team.setTeamLeaderUniversityReg(request.teamLeaderUniversityReg());
+        team.setCreatedAt(now);
+        team.setUpdatedAt(now);
+        teamRepository.save(team);
+
+        List<TeamMember> teamMembers = new ArrayList<>(members.size());
+        for (CheckoutRequest.Member member : members) {
+            TeamMember teamMember = new TeamMember();
+            teamMember.setTeam(team);
+            teamMember.setMemberName(member.name());
+            teamMember.setMemberEmail(member.email());
+            teamMember.setMemberPhone(member.phone());
+            teamMember.setUniversityRegistrationNumber(member.universityReg());
+            teamMember.setLeader(Boolean.FALSE);
+            teamMember.setJoinedAt(now);
+            teamMembers.add(teamMember);
+        }
+        teamMemberRepository.saveAll(teamMembers);
+        return team;
+    }
+
+    private Ticket issueTicket(Event event, Registration registration, BigDecimal amount, OffsetDateTime now) {
+        Ticket ticket = new Ticket();
+        ticket.setEvent(event);
+        ticket.setRegistration(registration);
+        ticket.setTicketType(amount.compareTo(BigDecimal.ZERO) > 0 ? TicketType.PAID : TicketType.FREE);
+        ticket.setPrice(amount);
+        ticket.setTicketCode(TicketCodes.generate());
+        ticket.setValid(Boolean.TRUE);
+        ticket.setIssuedAt(now);
+        ticket.setCreatedAt(now);
+        ticket.setUpdatedAt(now);
+        ticketRepository.save(ticket);
+        // The ticket email doubles as the registration confirmation
+        notificationOutbox.ticketsIssued(List.of(ticket));
+        return ticket;
+    }
+
+    private Payment recordPayment(Registration registration, Ticket ticket, BigDecimal amount,
+                                  String paymentMethod, String transactionId, OffsetDateTime now) {
+        Payment payment = new Payment();
+        payment.setRegistration(registration);
+        payment.setTicket(ticket);
+        payment.setPaymentStatus(PaymentStatus.COMPLETED);
+        payment.setAmount(amount);
+        payment.setPaymentMethod(paymentMethod);
+        payment.setTransactionId(transactionId);
+        payment.setPaymentDate(now);
+        payment.setCreatedAt(now);
+        payment.setUpdatedAt(now);
+        paymentRepository.save(payment);
+        return payment;
+    }
+
+    private CheckoutResponse seated(Registration registration, Team team, Ticket ticket, Payment payment,
+                                    BigDecimal amount) {
+        return new CheckoutResponse(
+                registration.getId(),
+                team != null ? team.getId() : null,
+                ticket.getId(),
+                ticket.getTicketCode(),
+                ticketTokens.issue(ticket.getId(), ticket.getEvent().getId(), ticket.getTicketType()),
+                payment != null ? payment.getId() : null,
+                amount,
+                registration.getRegistrationStatus(),
+                registration.getPaymentStatus(),
+                false,
+                0);
+    }
+
+    private static Registration newRegistration(Event event, Profile user, CheckoutRequest request, boolean team,
+                                                int teamSize, BigDecimal amount, OffsetDateTime now) {
+        Registration registration = new Registration();
+        registration.setEvent(event);
+        registration.setUser(user);
+        registration.setRegistrationDate(now);
+        registration.setNotes(request.notes());
+        registration.setTeam(team);
+        registration.setTeamSize(teamSize);
+        registration.setPaymentAmount(amount);
+        registration.setCreatedAt(now);
+        registration.setUpdatedAt(now);
+        if (team) {
+            registration.setTeamName(request.teamName());
+            registration.setTeamLeaderName(request.teamLeaderName());
+            registration.setTeamLeaderPhone(request.teamLeaderPhone());
+            registration.setTeamLeaderEmail(request.teamLeaderEmail());
+            registration.setTeamLeaderUniversityReg(request.teamLeaderUniversityReg());
+        }
+        return registration;
+    }
+
+    /**
+     * Price of a registration, matching the calculate_registration_price database function.
+     */
+    BigDecimal price(Event event, boolean team, int teamSize) {
+        if (!team) {
+            return orZero(event.getIndividualPrice());
+        }
+        if (Boolean.TRUE.equals(event.getHasCustomTeamPricing())) {
+            BigDecimal tierPrice = eventRepository.findTeamTierPrice(event.getId(), teamSize).orElse(null);
+            if (tierPrice != null) {
+                return tierPrice;
+            }
+        }
+        return orZero(event.getTeamBasePrice())
+                .add(orZero(event.getPricePerMember()).multiply(BigDecimal.valueOf(teamSize)));
+    }
+
+    private static int validateTeam(Event event, CheckoutRequest request, List<CheckoutRequest.Member> members) {
+        if (event.getParticipationType() == ParticipationType.INDIVIDUAL) {
+            throw new IllegalArgumentException("This event only accepts individual registrations");
+        }
+        if (isBlank(request.teamName()) || isBlank(request.teamLeaderName())) {
+            throw new IllegalArgumentException("Team name and team leader name are required");
+        }
+        int teamSize = request.teamSize() != null ? request.teamSize() : members.size() + 1;
+        if (members.size() + 1 != teamSize) {
+            throw new IllegalArgumentException("Total team size should be " + teamSize + " (including leader)");
+        }
+        if (event.getTeamSizeMin() != null && teamSize < event.getTeamSizeMin()
+                || event.getTeamSizeMax() != null && teamSize > event.getTeamSizeMax()) {
+            throw new IllegalArgumentException("Team size must be between " + event.getTeamSizeMin()
+                    + " and " + event.getTeamSizeMax());
+        }
+        for (CheckoutRequest.Member member : members) {
+            if (member == null || isBlank(member.name())) {
+                throw new IllegalArgumentException("Every team member needs a name");
+            }
+        }
+        return teamSize;
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
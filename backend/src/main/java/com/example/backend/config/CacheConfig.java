@@ -0,0 +1,58 @@
+package com.example.backend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caffeine-backed caches for reference data, event detail lookups and
+ * rendered JSON bodies.
+ * Each named cache has its own size and TTL policy, overridable with
+ * {@code cache.spec.<name>} in Caffeine spec syntax. Stats are recorded so
+ * hits, misses and evictions show up under the actuator {@code cache.*} metrics.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CATEGORIES = "categories";
+    public static final String CATEGORY = "category";
+    public static final String COLLEGES = "colleges";
+    public static final String COLLEGE = "college";
+    public static final String PROFILE = "profile";
+    public static final String EVENT_DETAIL = "eventDetail";
+    public static final String EVENT_JSON = "eventJson";
+    public static final String COLLEGE_JSON = "collegeJson";
+
+    private static final Map<String, String> DEFAULT_SPECS = new LinkedHashMap<>();
+
+    static {
+        DEFAULT_SPECS.put(CATEGORIES, "maximumSize=1,expireAfterWrite=10m");
+        DEFAULT_SPECS.put(CATEGORY, "maximumSize=500,expireAfterWrite=10m");
+        DEFAULT_SPECS.put(COLLEGES, "maximumSize=1,expireAfterWrite=10m");
+        DEFAULT_SPECS.put(COLLEGE, "maximumSize=2000,expireAfterWrite=10m");
+        DEFAULT_SPECS.put(PROFILE, "maximumSize=5000,expireAfterWrite=5m");
+        // Evicted from the change stream on seat changes; the TTL bounds staleness if the stream is off
+        DEFAULT_SPECS.put(EVENT_DETAIL, "maximumSize=5000,expireAfterWrite=30s");
+        // Rendered bodies are checked against the current ETag and evicted from the change stream
+        DEFAULT_SPECS.put(EVENT_JSON, "maximumSize=5000,expireAfterAccess=10m");
+        DEFAULT_SPECS.put(COLLEGE_JSON, "maximumSize=2000,expireAfterAccess=10m");
+    }
+
+    @Bean
+    public CacheManager cacheManager(Environment environment) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        DEFAULT_SPECS.forEach((name, defaultSpec) -> {
+            String spec = environment.getProperty("cache.spec." + name, defaultSpec);
+            cacheManager.registerCustomCache(name, Caffeine.from(spec).recordStats().build());
+        });
+        return cacheManager;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.backend.config;
+
+import com.example.backend.web.HandlerNames;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.repository.Repository;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Extra tags on the timers Spring Boot already records. Request timers
+ * ({@code http.server.requests}) get the handling controller method, and
+ * repository timers ({@code spring.data.repository.invocations}) the entity
+ * the repository manages, so a slow page can be followed to its queries.
+ * Histogram buckets are switched on per timer in application.properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context)
+                        .and(KeyValue.of("handler", HandlerNames.of(context.getCarrier())));
+            }
+        };
+    }
+
+    @Bean
+    public RepositoryTagsProvider repositoryTagsProvider() {
+        Map<Class<?>, Tag> entities = new ConcurrentHashMap<>();
+        DefaultRepositoryTagsProvider defaults = new DefaultRepositoryTagsProvider();
+        return invocation -> Tags.of(defaults.repositoryTags(invocation))
+                .and(entities.computeIfAbsent(invocation.getRepositoryInterface(), MetricsConfig::entity));
+    }
+
+    private static Tag entity(Class<?> repositoryInterface) {
+        Class<?> domainType = ResolvableType.forClass(repositoryInterface).as(Repository.class).resolveGeneric(0);
+        return Tag.of("entity", domainType != null ? domainType.getSimpleName() : "unknown");
+    }
+}
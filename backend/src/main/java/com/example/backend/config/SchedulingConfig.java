@@ -0,0 +1,12 @@
+package com.example.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs (index rebuilds, expiry sweeps, rollups).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,11 +1,20 @@
 package com.example.backend.controller;
 
+import com.example.backend.cache.CachedLookups;
+import com.example.backend.config.CacheConfig;
+import com.example.backend.dto.CategoryDto;
+import com.example.backend.dto.CollectionVersion;
 import com.example.backend.entity.Category;
 import com.example.backend.repository.CategoryRepository;
+import com.example.backend.search.SearchService;
+import com.example.backend.web.ConditionalGet;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -24,25 +33,35 @@ public class CategoryController {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private CachedLookups cachedLookups;
+
     /**
      * Get all categories.
+     * Answers 304 when the category table has not changed since the client's copy.
      * @return List of all categories
      */
     @GetMapping
-    public ResponseEntity<List<Category>> getAllCategories() {
-        List<Category> categories = categoryRepository.findAll();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<List<CategoryDto>> getAllCategories(WebRequest request) {
+        CollectionVersion version = categoryRepository.findVersion();
+        return ConditionalGet.respond(request, "categories", version, () -> cachedLookups.allCategories(version));
     }
 
     /**
      * Get a single category by ID.
+     * Answers 304 when the category is unchanged.
      * @param id the category UUID
      * @return Category entity or 404 if not found
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Category> getCategoryById(@PathVariable UUID id) {
-        return categoryRepository.findById(id)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<CategoryDto> getCategoryById(@PathVariable UUID id, WebRequest request) {
+        return cachedLookups.category(id)
+                .map(CategoryDto::from)
+                .map(category -> ConditionalGet.respond(request,
+                        ConditionalGet.etag(category.id(), category.updatedAt()), category.updatedAt(), () -> category))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -52,8 +71,10 @@ public class CategoryController {
      * @return Created category with 201 status
      */
     @PostMapping
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true)
     public ResponseEntity<Category> createCategory(@RequestBody Category category) {
         Category savedCategory = categoryRepository.save(category);
+        searchService.indexCategory(savedCategory);
         return ResponseEntity.status(HttpStatus.CREATED).body(savedCategory);
     }
 
@@ -64,6 +85,12 @@ public class CategoryController {
      * @return Updated category or 404 if not found
      */
     @PutMapping("/{id}")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORY, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_DETAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_JSON, allEntries = true)
+    })
     public ResponseEntity<Category> updateCategory(
             @PathVariable UUID id,
             @RequestBody Category categoryDetails) {
@@ -75,6 +102,7 @@ public class CategoryController {
                     category.setIconName(categoryDetails.getIconName());
                     category.setUpdatedAt(OffsetDateTime.now());
                     Category updatedCategory = categoryRepository.save(category);
+                    searchService.indexCategory(updatedCategory);
                     return ResponseEntity.ok(updatedCategory);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -86,9 +114,16 @@ public class CategoryController {
      * @return 204 No Content if deleted, 404 if not found
      */
     @DeleteMapping("/{id}")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORY, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_DETAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_JSON, allEntries = true)
+    })
     public ResponseEntity<Void> deleteCategory(@PathVariable UUID id) {
         if (categoryRepository.existsById(id)) {
             categoryRepository.deleteById(id);
+            searchService.removeCategory(id);
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
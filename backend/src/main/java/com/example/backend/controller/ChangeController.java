@@ -0,0 +1,49 @@
+package com.example.backend.controller;
+
+import com.example.backend.changes.ChangeStream;
+import com.example.backend.changes.EntityChange;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for the entity change stream.
+ * Lets consumers outside the backend catch up from the last position they processed.
+ */
+@RestController
+@RequestMapping("/api/changes")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ChangeController {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    @Autowired
+    private ChangeStream changeStream;
+
+    /**
+     * Get changes after a position, oldest first.
+     * @param after last position already processed, 0 to start from the oldest retained change
+     * @param limit maximum number of changes, capped at 1000
+     * @return The changes; the position of the last one is the next {@code after}
+     */
+    @GetMapping
+    public ResponseEntity<?> getChanges(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit) {
+        if (after < 0) {
+            return ResponseEntity.badRequest().body("Position must not be negative");
+        }
+        List<EntityChange> changes = changeStream.read(after, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * Get the position of the latest change, to start following the stream from now.
+     */
+    @GetMapping("/head")
+    public ResponseEntity<Long> getHead() {
+        return ResponseEntity.ok(changeStream.head());
+    }
+}
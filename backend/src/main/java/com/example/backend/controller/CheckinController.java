@@ -0,0 +1,67 @@
+package com.example.backend.controller;
+
+import com.example.backend.checkin.CheckinResult;
+import com.example.backend.checkin.CheckinService;
+import com.example.backend.dto.CheckinRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * REST controller for gate check-in.
+ * Validates scanned ticket codes against an in-memory index of the event's tickets.
+ */
+@RestController
+@RequestMapping("/api/checkin")
+@CrossOrigin(origins = "http://localhost:3000")
+public class CheckinController {
+
+    @Autowired
+    private CheckinService checkinService;
+
+    /**
+     * Load an event's ticket codes before the gates open.
+     * @param eventId the event ID
+     * @return number of codes in the index
+     */
+    @PostMapping("/events/{eventId}/preload")
+    public ResponseEntity<Map<String, Object>> preload(@PathVariable UUID eventId) {
+        int tickets = checkinService.preload(eventId);
+        return ResponseEntity.ok(Map.of("eventId", eventId, "tickets", tickets));
+    }
+
+    /**
+     * Scan a ticket code. The first scan of a valid ticket returns 200 ADMITTED;
+     * repeated, revoked or foreign tickets return 409 and unknown codes 404,
+     * each with the result body. 503 when the ticket could not be claimed in
+     * the database; the scan can be retried.
+     * @param eventId the event being checked in
+     * @param request the scanned code
+     * @return the scan result
+     */
+    @PostMapping("/events/{eventId}/scan")
+    public ResponseEntity<?> scan(@PathVariable UUID eventId, @RequestBody CheckinRequest request) {
+        CheckinResult result;
+        try {
+            result = checkinService.scan(eventId, request.code());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (DataAccessException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Check-in is temporarily unavailable, please rescan");
+        }
+        HttpStatus status = switch (result.status()) {
+            case ADMITTED -> HttpStatus.OK;
+            case UNKNOWN -> HttpStatus.NOT_FOUND;
+            case ALREADY_USED, INVALID, WRONG_EVENT -> HttpStatus.CONFLICT;
+        };
+        return ResponseEntity.status(status).body(result);
+    }
+}
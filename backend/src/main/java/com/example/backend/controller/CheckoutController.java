@@ -0,0 +1,86 @@
+package com.example.backend.controller;
+
+import com.example.backend.checkout.CheckoutService;
+import com.example.backend.dto.CheckoutCompletion;
+import com.example.backend.dto.CheckoutRequest;
+import com.example.backend.dto.CheckoutResponse;
+import com.example.backend.reservation.ReservationBusyException;
+import com.example.backend.reservation.SeatsUnavailableException;
+import com.example.backend.stats.StatsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST controller for registration checkout.
+ * Replaces the separate registration, team, team member, ticket and payment calls
+ * made by the registration page with a single transactional request.
+ */
+@RestController
+@RequestMapping("/api/checkout")
+@CrossOrigin(origins = "http://localhost:3000")
+public class CheckoutController {
+
+    @Autowired
+    private CheckoutService checkoutService;
+
+    @Autowired
+    private StatsService statsService;
+
+    /**
+     * Register for an event, record payment and issue a ticket.
+     * @param request the registration, team and payment details
+     * @return IDs of the created rows and the ticket code; 202 Accepted with the
+     *         waitlist position when the event is full (finish it with /{registrationId}/complete
+     *         once promoted; free registrations are confirmed by the promotion itself)
+     */
+    @PostMapping
+    public ResponseEntity<?> checkout(@RequestBody CheckoutRequest request) {
+        try {
+            CheckoutResponse response = checkoutService.checkout(request);
+            statsService.markDirty();
+            if (response.waitlisted()) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+            }
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (SeatsUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("User is already registered for this event");
+        } catch (ReservationBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(e.getMessage());
+        }
+    }
+
+    /**
+     * Pay for a registration promoted from the waitlist and issue its ticket.
+     * @param registrationId the promoted registration
+     * @param request the registrant and payment details
+     * @return IDs of the created rows and the ticket code; 404 if not found, 409 if it is
+     *         still waitlisted, already paid or its hold expired
+     */
+    @PostMapping("/{registrationId}/complete")
+    public ResponseEntity<?> complete(@PathVariable UUID registrationId, @RequestBody CheckoutCompletion request) {
+        if (request.userId() == null) {
+            return ResponseEntity.badRequest().body("User is required");
+        }
+        try {
+            CheckoutResponse response = checkoutService.complete(registrationId, request);
+            statsService.markDirty();
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+}
@@ -1,11 +1,22 @@
 package com.example.backend.controller;
 
+import com.example.backend.cache.CachedLookups;
+import com.example.backend.cache.JsonResponseCache;
+import com.example.backend.config.CacheConfig;
+import com.example.backend.dto.CollectionVersion;
+import com.example.backend.dto.CollegeDto;
 import com.example.backend.entity.College;
 import com.example.backend.repository.CollegeRepository;
+import com.example.backend.search.SearchService;
+import com.example.backend.stats.StatsService;
+import com.example.backend.web.ConditionalGet;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -24,25 +35,41 @@ public class CollegeController {
     @Autowired
     private CollegeRepository collegeRepository;
 
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private CachedLookups cachedLookups;
+
+    @Autowired
+    private JsonResponseCache jsonResponseCache;
+
+    @Autowired
+    private StatsService statsService;
+
     /**
      * Get all colleges.
+     * Answers 304 when the college table has not changed since the client's copy.
      * @return List of all colleges
      */
     @GetMapping
-    public ResponseEntity<List<College>> getAllColleges() {
-        List<College> colleges = collegeRepository.findAll();
-        return ResponseEntity.ok(colleges);
+    public ResponseEntity<List<CollegeDto>> getAllColleges(WebRequest request) {
+        CollectionVersion version = collegeRepository.findVersion();
+        return ConditionalGet.respond(request, "colleges", version, () -> cachedLookups.allColleges(version));
     }
 
     /**
      * Get a single college by ID.
+     * Answers 304 when the college is unchanged, otherwise the cached rendered JSON.
      * @param id the college UUID
-     * @return College entity or 404 if not found
+     * @return College JSON or 404 if not found
      */
     @GetMapping("/{id}")
-    public ResponseEntity<College> getCollegeById(@PathVariable UUID id) {
-        return collegeRepository.findById(id)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<byte[]> getCollegeById(@PathVariable UUID id, WebRequest request) {
+        return cachedLookups.college(id)
+                .map(CollegeDto::from)
+                .map(college -> jsonResponseCache.respond(request, CacheConfig.COLLEGE_JSON, id,
+                        ConditionalGet.etag(college.id(), college.updatedAt()), college.updatedAt(), () -> college))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -52,8 +79,11 @@ public class CollegeController {
      * @return Created college with 201 status
      */
     @PostMapping
+    @CacheEvict(cacheNames = CacheConfig.COLLEGES, allEntries = true)
     public ResponseEntity<College> createCollege(@RequestBody College college) {
         College savedCollege = collegeRepository.save(college);
+        searchService.indexCollege(savedCollege);
+        statsService.markDirty();
         return ResponseEntity.status(HttpStatus.CREATED).body(savedCollege);
     }
 
@@ -64,6 +94,14 @@ public class CollegeController {
      * @return Updated college or 404 if not found
      */
     @PutMapping("/{id}")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COLLEGES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COLLEGE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.COLLEGE_JSON, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.PROFILE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_DETAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_JSON, allEntries = true)
+    })
     public ResponseEntity<College> updateCollege(
             @PathVariable UUID id,
             @RequestBody College collegeDetails) {
@@ -80,6 +118,8 @@ public class CollegeController {
                     college.setContactPhone(collegeDetails.getContactPhone());
                     college.setUpdatedAt(OffsetDateTime.now());
                     College updatedCollege = collegeRepository.save(college);
+                    searchService.indexCollege(updatedCollege);
+                    statsService.markDirty();
                     return ResponseEntity.ok(updatedCollege);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -91,9 +131,19 @@ public class CollegeController {
      * @return 204 No Content if deleted, 404 if not found
      */
     @DeleteMapping("/{id}")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COLLEGES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COLLEGE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.COLLEGE_JSON, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.PROFILE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_DETAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_JSON, allEntries = true)
+    })
     public ResponseEntity<Void> deleteCollege(@PathVariable UUID id) {
         if (collegeRepository.existsById(id)) {
             collegeRepository.deleteById(id);
+            searchService.removeCollege(id);
+            statsService.markDirty();
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
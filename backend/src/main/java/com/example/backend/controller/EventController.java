@@ -1,19 +1,39 @@
 package com.example.backend.controller;
 
+import com.example.backend.cache.CachedLookups;
+import com.example.backend.cache.JsonResponseCache;
+import com.example.backend.config.CacheConfig;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.EventCursor;
+import com.example.backend.dto.EventDto;
+import com.example.backend.dto.EventFilter;
 import com.example.backend.entity.Event;
 import com.example.backend.entity.enums.EventStatus;
-import com.example.backend.repository.CategoryRepository;
-import com.example.backend.repository.CollegeRepository;
+import com.example.backend.live.LiveEventFeed;
+import com.example.backend.notification.NotificationOutbox;
 import com.example.backend.repository.EventRepository;
-import com.example.backend.repository.ProfileRepository;
+import com.example.backend.search.SearchService;
+import com.example.backend.stats.StatsService;
+import com.example.backend.upcoming.UpcomingEvents;
+import com.example.backend.web.ConditionalGet;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * REST controller for Event entity.
@@ -25,48 +45,137 @@ import java.util.UUID;
 @SuppressWarnings("null")
 public class EventController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private EventRepository eventRepository;
 
     @Autowired
-    private CategoryRepository categoryRepository;
+    private CachedLookups cachedLookups;
+
+    @Autowired
+    private JsonResponseCache jsonResponseCache;
 
     @Autowired
-    private CollegeRepository collegeRepository;
+    private SearchService searchService;
 
     @Autowired
-    private ProfileRepository profileRepository;
+    private StatsService statsService;
+
+    @Autowired
+    private UpcomingEvents upcomingEvents;
+
+    @Autowired
+    private NotificationOutbox notificationOutbox;
+
+    @Autowired
+    private LiveEventFeed liveEventFeed;
 
     /**
      * Get all events.
+     * Answers 304 when no event has changed since the client's copy.
      * @return List of all events
      */
     @GetMapping
-    public ResponseEntity<List<Event>> getAllEvents() {
-        List<Event> events = eventRepository.findAll();
-        return ResponseEntity.ok(events);
+    public ResponseEntity<List<EventDto>> getAllEvents(WebRequest request) {
+        return ConditionalGet.respond(request, "events", eventRepository.findVersion(),
+                () -> eventRepository.findAll().stream()
+                        .map(EventDto::from)
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Get a keyset-paginated, filtered page of events ordered by start date.
+     * @param cursor opaque cursor returned as nextCursor by the previous page
+     * @param limit page size, capped at 100
+     * @return Page of events with the cursor for the next page, or 400 if the cursor is invalid
+     */
+    @GetMapping("/page")
+    public ResponseEntity<?> getEventPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) UUID collegeId,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) EventStatus status,
+            @RequestParam(required = false) Boolean featured,
+            @RequestParam(required = false) Boolean global,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice) {
+
+        EventCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                after = EventCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body("Invalid cursor");
+            }
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        EventFilter filter = new EventFilter(collegeId, categoryId, status, featured, global, minPrice, maxPrice);
+
+        // Fetch one extra row to learn whether another page exists
+        List<Event> rows = eventRepository.findPage(filter, after, pageSize + 1);
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            Event last = rows.get(pageSize - 1);
+            nextCursor = new EventCursor(last.getStartDate(), last.getId()).encode();
+        }
+        List<EventDto> items = rows.stream()
+                .map(EventDto::from)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(new CursorPage<>(items, nextCursor, pageSize));
     }
 
     /**
      * Get a single event by ID.
+     * Answers 304 when the event and its seat count are unchanged, otherwise
+     * the cached rendered JSON.
      * @param id the event UUID
-     * @return Event entity or 404 if not found
+     * @return Event JSON or 404 if not found
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Event> getEventById(@PathVariable UUID id) {
-        return eventRepository.findById(id)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<byte[]> getEventById(@PathVariable UUID id, WebRequest request) {
+        return cachedLookups.eventDetail(id)
+                .map(event -> jsonResponseCache.respond(request, CacheConfig.EVENT_JSON, id,
+                        ConditionalGet.etag(event.id(), event.updatedAt(), event.currentAttendees()),
+                        event.updatedAt(), () -> event))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Follow an event's seat count and status as Server-Sent Events.
+     * Sends a {@code seats} event with the current state, then one per change;
+     * {@code deleted} is sent when the event is deleted.
+     * @param id the event UUID
+     * @return The event stream, 404 if not found, or 503 when this instance has too many viewers
+     */
+    @GetMapping(value = "/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> getEventLive(@PathVariable UUID id) {
+        try {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                    // Tell nginx-style proxies not to buffer the stream
+                    .header("X-Accel-Buffering", "no")
+                    .body(liveEventFeed.subscribe(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return unavailable(e);
+        }
+    }
+
     /**
      * Get all events by college ID.
      * @param collegeId the college UUID
      * @return List of events for the specified college
      */
     @GetMapping("/college/{collegeId}")
-    public ResponseEntity<List<Event>> getEventsByCollege(@PathVariable UUID collegeId) {
-        List<Event> events = eventRepository.findByCollegeId(collegeId);
+    public ResponseEntity<List<EventDto>> getEventsByCollege(@PathVariable UUID collegeId) {
+        List<EventDto> events = eventRepository.findByCollegeId(collegeId).stream()
+                .map(EventDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(events);
     }
 
@@ -76,8 +185,10 @@ public class EventController {
      * @return List of events in the specified category
      */
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<Event>> getEventsByCategory(@PathVariable UUID categoryId) {
-        List<Event> events = eventRepository.findByCategoryId(categoryId);
+    public ResponseEntity<List<EventDto>> getEventsByCategory(@PathVariable UUID categoryId) {
+        List<EventDto> events = eventRepository.findByCategoryId(categoryId).stream()
+                .map(EventDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(events);
     }
 
@@ -87,8 +198,10 @@ public class EventController {
      * @return List of events organized by the specified user
      */
     @GetMapping("/organizer/{organizerId}")
-    public ResponseEntity<List<Event>> getEventsByOrganizer(@PathVariable UUID organizerId) {
-        List<Event> events = eventRepository.findByOrganizerId(organizerId);
+    public ResponseEntity<List<EventDto>> getEventsByOrganizer(@PathVariable UUID organizerId) {
+        List<EventDto> events = eventRepository.findByOrganizerId(organizerId).stream()
+                .map(EventDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(events);
     }
 
@@ -98,19 +211,38 @@ public class EventController {
      * @return List of events with the specified status
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Event>> getEventsByStatus(@PathVariable EventStatus status) {
-        List<Event> events = eventRepository.findByEventStatus(status);
+    public ResponseEntity<List<EventDto>> getEventsByStatus(@PathVariable EventStatus status) {
+        List<EventDto> events = eventRepository.findByEventStatus(status).stream()
+                .map(EventDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(events);
     }
 
     /**
-     * Get all upcoming published events.
-     * @return List of future published events
+     * Get all upcoming published events, soonest first.
+     * Served from the in-memory snapshot in {@link UpcomingEvents}.
+     * @return JSON list of future published events, or 503 before the first snapshot
      */
     @GetMapping("/upcoming")
-    public ResponseEntity<List<Event>> getUpcomingEvents() {
-        List<Event> events = eventRepository.findUpcomingPublishedEvents(OffsetDateTime.now());
-        return ResponseEntity.ok(events);
+    public ResponseEntity<?> getUpcomingEvents() {
+        try {
+            return json(upcomingEvents.upcomingJson());
+        } catch (IllegalStateException e) {
+            return unavailable(e);
+        }
+    }
+
+    /**
+     * Get the featured upcoming published events, soonest first.
+     * @return JSON list of future featured events, or 503 before the first snapshot
+     */
+    @GetMapping("/upcoming/featured")
+    public ResponseEntity<?> getFeaturedUpcomingEvents() {
+        try {
+            return json(upcomingEvents.featuredJson());
+        } catch (IllegalStateException e) {
+            return unavailable(e);
+        }
     }
 
     /**
@@ -124,7 +256,7 @@ public class EventController {
         if (event.getCategory() == null || event.getCategory().getId() == null) {
             return ResponseEntity.badRequest().body("Category is required");
         }
-        var category = categoryRepository.findById(event.getCategory().getId())
+        var category = cachedLookups.category(event.getCategory().getId())
                 .orElse(null);
         if (category == null) {
             return ResponseEntity.badRequest().body("Category not found");
@@ -135,7 +267,7 @@ public class EventController {
         if (event.getCollege() == null || event.getCollege().getId() == null) {
             return ResponseEntity.badRequest().body("College is required");
         }
-        var college = collegeRepository.findById(event.getCollege().getId())
+        var college = cachedLookups.college(event.getCollege().getId())
                 .orElse(null);
         if (college == null) {
             return ResponseEntity.badRequest().body("College not found");
@@ -146,7 +278,7 @@ public class EventController {
         if (event.getOrganizer() == null || event.getOrganizer().getId() == null) {
             return ResponseEntity.badRequest().body("Organizer is required");
         }
-        var organizer = profileRepository.findById(event.getOrganizer().getId())
+        var organizer = cachedLookups.profile(event.getOrganizer().getId())
                 .orElse(null);
         if (organizer == null) {
             return ResponseEntity.badRequest().body("Organizer not found");
@@ -154,6 +286,9 @@ public class EventController {
         event.setOrganizer(organizer);
 
         Event savedEvent = eventRepository.save(event);
+        searchService.indexEvent(savedEvent.getId());
+        statsService.markDirty();
+        upcomingEvents.markDirty();
         return ResponseEntity.status(HttpStatus.CREATED).body(savedEvent);
     }
 
@@ -164,12 +299,17 @@ public class EventController {
      * @return Updated event or 404 if not found
      */
     @PutMapping("/{id}")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EVENT_DETAIL, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_JSON, key = "#id")
+    })
     public ResponseEntity<?> updateEvent(
             @PathVariable UUID id,
             @RequestBody Event eventDetails) {
         
         return eventRepository.findById(id)
                 .map(event -> {
+                    List<Object> announced = announcedDetails(event);
                     if (eventDetails.getTitle() != null) {
                         event.setTitle(eventDetails.getTitle());
                     }
@@ -202,9 +342,6 @@ public class EventController {
                         event.setTeamSizeMax(eventDetails.getTeamSizeMax());
                     }
                     event.setMaxAttendees(eventDetails.getMaxAttendees());
-                    if (eventDetails.getCurrentAttendees() != null) {
-                        event.setCurrentAttendees(eventDetails.getCurrentAttendees());
-                    }
                     event.setRegistrationDeadline(eventDetails.getRegistrationDeadline());
                     if (eventDetails.getFeatured() != null) {
                         event.setFeatured(eventDetails.getFeatured());
@@ -227,24 +364,30 @@ public class EventController {
 
                     // Update category if provided
                     if (eventDetails.getCategory() != null && eventDetails.getCategory().getId() != null) {
-                        categoryRepository.findById(eventDetails.getCategory().getId())
+                        cachedLookups.category(eventDetails.getCategory().getId())
                                 .ifPresent(event::setCategory);
                     }
 
                     // Update college if provided
                     if (eventDetails.getCollege() != null && eventDetails.getCollege().getId() != null) {
-                        collegeRepository.findById(eventDetails.getCollege().getId())
+                        cachedLookups.college(eventDetails.getCollege().getId())
                                 .ifPresent(event::setCollege);
                     }
 
                     // Update organizer if provided
                     if (eventDetails.getOrganizer() != null && eventDetails.getOrganizer().getId() != null) {
-                        profileRepository.findById(eventDetails.getOrganizer().getId())
+                        cachedLookups.profile(eventDetails.getOrganizer().getId())
                                 .ifPresent(event::setOrganizer);
                     }
 
                     event.setUpdatedAt(OffsetDateTime.now());
                     Event updatedEvent = eventRepository.save(event);
+                    searchService.indexEvent(updatedEvent.getId());
+                    statsService.markDirty();
+                    upcomingEvents.markDirty();
+                    if (!Objects.equals(announced, announcedDetails(updatedEvent))) {
+                        notificationOutbox.eventUpdated(updatedEvent.getId());
+                    }
                     return ResponseEntity.ok(updatedEvent);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -256,11 +399,40 @@ public class EventController {
      * @return 204 No Content if deleted, 404 if not found
      */
     @DeleteMapping("/{id}")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EVENT_DETAIL, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_JSON, key = "#id")
+    })
     public ResponseEntity<Void> deleteEvent(@PathVariable UUID id) {
         if (eventRepository.existsById(id)) {
             eventRepository.deleteById(id);
+            searchService.removeEvent(id);
+            statsService.markDirty();
+            upcomingEvents.markDirty();
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
     }
+
+    /**
+     * The details registrants are told about when they change.
+     */
+    private static List<Object> announcedDetails(Event event) {
+        return Arrays.asList(event.getTitle(), instant(event.getStartDate()), instant(event.getEndDate()),
+                event.getLocation(), event.getVenueDetails(), event.getEventStatus());
+    }
+
+    private static Instant instant(OffsetDateTime time) {
+        return time != null ? time.toInstant() : null;
+    }
+
+    private static ResponseEntity<byte[]> json(byte[] body) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private static ResponseEntity<String> unavailable(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(e.getMessage());
+    }
 }
@@ -0,0 +1,83 @@
+package com.example.backend.controller;
+
+import com.example.backend.export.ExportFormat;
+import com.example.backend.export.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * REST controller for attendee exports.
+ * Streams an event's registrations or teams with members as CSV or NDJSON
+ * in a single request instead of one call per team. Requests beyond
+ * {@code export.max-concurrent} get 503 with Retry-After.
+ */
+@RestController
+@RequestMapping("/api/exports")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ExportController {
+
+    @Autowired
+    private ExportService exportService;
+
+    /**
+     * Export the registrations of an event.
+     * @param format csv (default) or ndjson
+     */
+    @GetMapping("/events/{eventId}/registrations")
+    public ResponseEntity<StreamingResponseBody> exportRegistrations(@PathVariable UUID eventId,
+                                                                     @RequestParam(defaultValue = "csv") String format) {
+        return export(eventId, format, "registrations", exportService::registrations);
+    }
+
+    /**
+     * Export the teams of an event joined to their members, one row per member.
+     * @param format csv (default) or ndjson
+     */
+    @GetMapping("/events/{eventId}/teams")
+    public ResponseEntity<StreamingResponseBody> exportTeams(@PathVariable UUID eventId,
+                                                             @RequestParam(defaultValue = "csv") String format) {
+        return export(eventId, format, "teams", exportService::teams);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(UUID eventId, String format, String name,
+                                                         BiFunction<UUID, ExportFormat, StreamingResponseBody> exporter) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.parse(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body(message(e.getMessage()));
+        }
+        try {
+            StreamingResponseBody body = exporter.apply(eventId, exportFormat);
+            String filename = "event-" + eventId + "-" + name + "." + exportFormat.extension();
+            return ResponseEntity.ok()
+                    .contentType(exportFormat.mediaType())
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment().filename(filename).build().toString())
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body(message(e.getMessage()));
+        }
+    }
+
+    private static StreamingResponseBody message(String message) {
+        return out -> out.write(message.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.backend.controller;
+
+import com.example.backend.config.CacheConfig;
+import com.example.backend.dto.ImportReport;
+import com.example.backend.importer.ImportFormat;
+import com.example.backend.importer.ImportKind;
+import com.example.backend.importer.ImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+/**
+ * REST controller for bulk imports.
+ * Takes a CSV or JSON file as the request body and answers with a per-row report.
+ */
+@RestController
+@RequestMapping("/api/imports")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ImportController {
+
+    @Autowired
+    private ImportService importService;
+
+    /**
+     * Import colleges, categories or events.
+     * @param kind colleges, categories or events
+     * @param format csv or json; taken from Content-Type when omitted
+     * @return the import report, with 400 when the input was malformed part way
+     */
+    @PostMapping("/{kind}")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORY, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COLLEGES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COLLEGE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COLLEGE_JSON, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.PROFILE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_DETAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_JSON, allEntries = true)
+    })
+    public ResponseEntity<?> importRows(@PathVariable String kind,
+                                        @RequestParam(required = false) String format,
+                                        @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                        InputStream body) {
+        ImportKind importKind;
+        ImportFormat importFormat;
+        try {
+            importKind = ImportKind.parse(kind);
+            importFormat = ImportFormat.of(format, contentType);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        try {
+            ImportReport report = importService.importRows(importKind, importFormat, body);
+            return report.aborted() != null
+                    ? ResponseEntity.badRequest().body(report)
+                    : ResponseEntity.ok(report);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .body(e.getMessage());
+        }
+    }
+}
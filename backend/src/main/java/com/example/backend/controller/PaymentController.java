@@ -1,7 +1,9 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.PaymentDto;
 import com.example.backend.entity.Payment;
 import com.example.backend.repository.PaymentRepository;
+import com.example.backend.stats.StatsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * REST Controller for Payment entity.
@@ -24,12 +27,17 @@ public class PaymentController {
     @Autowired
     private PaymentRepository paymentRepository;
 
+    @Autowired
+    private StatsService statsService;
+
     /**
      * Get all payments.
      */
     @GetMapping
-    public ResponseEntity<List<Payment>> getAllPayments() {
-        List<Payment> payments = paymentRepository.findAll();
+    public ResponseEntity<List<PaymentDto>> getAllPayments() {
+        List<PaymentDto> payments = paymentRepository.findAll().stream()
+                .map(PaymentDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(payments);
     }
 
@@ -37,8 +45,9 @@ public class PaymentController {
      * Get payment by ID.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Payment> getPaymentById(@PathVariable UUID id) {
-        return paymentRepository.findById(id)
+    public ResponseEntity<PaymentDto> getPaymentById(@PathVariable UUID id) {
+        return paymentRepository.findDetailedById(id)
+                .map(PaymentDto::from)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -55,6 +64,7 @@ public class PaymentController {
         payment.setCreatedAt(now);
         payment.setUpdatedAt(now);
         Payment savedPayment = paymentRepository.save(payment);
+        statsService.markDirty();
         return ResponseEntity.status(HttpStatus.CREATED).body(savedPayment);
     }
 
@@ -78,6 +88,7 @@ public class PaymentController {
                     payment.setUpdatedAt(OffsetDateTime.now());
                     
                     Payment updatedPayment = paymentRepository.save(payment);
+                    statsService.markDirty();
                     return ResponseEntity.ok(updatedPayment);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -90,6 +101,7 @@ public class PaymentController {
     public ResponseEntity<Void> deletePayment(@PathVariable UUID id) {
         if (paymentRepository.existsById(id)) {
             paymentRepository.deleteById(id);
+            statsService.markDirty();
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
@@ -99,8 +111,10 @@ public class PaymentController {
      * Get payments by registration ID.
      */
     @GetMapping("/registration/{registrationId}")
-    public ResponseEntity<List<Payment>> getPaymentsByRegistration(@PathVariable UUID registrationId) {
-        List<Payment> payments = paymentRepository.findByRegistrationId(registrationId);
+    public ResponseEntity<List<PaymentDto>> getPaymentsByRegistration(@PathVariable UUID registrationId) {
+        List<PaymentDto> payments = paymentRepository.findByRegistrationId(registrationId).stream()
+                .map(PaymentDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(payments);
     }
 
@@ -108,8 +122,9 @@ public class PaymentController {
      * Get payment by transaction ID.
      */
     @GetMapping("/transaction/{transactionId}")
-    public ResponseEntity<Payment> getPaymentByTransactionId(@PathVariable String transactionId) {
+    public ResponseEntity<PaymentDto> getPaymentByTransactionId(@PathVariable String transactionId) {
         return paymentRepository.findByTransactionId(transactionId)
+                .map(PaymentDto::from)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -1,9 +1,14 @@
 package com.example.backend.controller;
 
+import com.example.backend.cache.CachedLookups;
+import com.example.backend.config.CacheConfig;
+import com.example.backend.dto.ProfileDto;
 import com.example.backend.entity.Profile;
-import com.example.backend.repository.CollegeRepository;
 import com.example.backend.repository.ProfileRepository;
+import com.example.backend.stats.StatsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -11,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * REST controller for Profile entity.
@@ -26,15 +32,20 @@ public class ProfileController {
     private ProfileRepository profileRepository;
 
     @Autowired
-    private CollegeRepository collegeRepository;
+    private CachedLookups cachedLookups;
+
+    @Autowired
+    private StatsService statsService;
 
     /**
      * Get all profiles.
      * @return List of all profiles
      */
     @GetMapping
-    public ResponseEntity<List<Profile>> getAllProfiles() {
-        List<Profile> profiles = profileRepository.findAll();
+    public ResponseEntity<List<ProfileDto>> getAllProfiles() {
+        List<ProfileDto> profiles = profileRepository.findAll().stream()
+                .map(ProfileDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(profiles);
     }
 
@@ -44,8 +55,9 @@ public class ProfileController {
      * @return Profile entity or 404 if not found
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Profile> getProfileById(@PathVariable UUID id) {
-        return profileRepository.findById(id)
+    public ResponseEntity<ProfileDto> getProfileById(@PathVariable UUID id) {
+        return profileRepository.findDetailedById(id)
+                .map(ProfileDto::from)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -56,8 +68,9 @@ public class ProfileController {
      * @return Profile entity or 404 if not found
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<Profile> getProfileByUserId(@PathVariable UUID userId) {
-        return profileRepository.findById(userId)
+    public ResponseEntity<ProfileDto> getProfileByUserId(@PathVariable UUID userId) {
+        return profileRepository.findDetailedById(userId)
+                .map(ProfileDto::from)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -68,8 +81,9 @@ public class ProfileController {
      * @return Profile entity or 404 if not found
      */
     @GetMapping("/email/{email}")
-    public ResponseEntity<Profile> getProfileByEmail(@PathVariable String email) {
+    public ResponseEntity<ProfileDto> getProfileByEmail(@PathVariable String email) {
         return profileRepository.findByEmail(email)
+                .map(ProfileDto::from)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -82,6 +96,7 @@ public class ProfileController {
     @PostMapping
     public ResponseEntity<Profile> createProfile(@RequestBody Profile profile) {
         Profile savedProfile = profileRepository.save(profile);
+        statsService.markDirty();
         return ResponseEntity.status(HttpStatus.CREATED).body(savedProfile);
     }
 
@@ -92,6 +107,11 @@ public class ProfileController {
      * @return Updated profile or 404 if not found
      */
     @PutMapping("/{id}")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PROFILE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_DETAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_JSON, allEntries = true)
+    })
     public ResponseEntity<Profile> updateProfile(
             @PathVariable UUID id,
             @RequestBody Profile profileDetails) {
@@ -109,7 +129,7 @@ public class ProfileController {
                     
                     // Update college relationship if provided
                     if (profileDetails.getCollege() != null && profileDetails.getCollege().getId() != null) {
-                        collegeRepository.findById(profileDetails.getCollege().getId())
+                        cachedLookups.college(profileDetails.getCollege().getId())
                                 .ifPresent(profile::setCollege);
                     }
                     
@@ -126,9 +146,15 @@ public class ProfileController {
      * @return 204 No Content if deleted, 404 if not found
      */
     @DeleteMapping("/{id}")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PROFILE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_DETAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_JSON, allEntries = true)
+    })
     public ResponseEntity<Void> deleteProfile(@PathVariable UUID id) {
         if (profileRepository.existsById(id)) {
             profileRepository.deleteById(id);
+            statsService.markDirty();
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
@@ -1,15 +1,25 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.RegistrationDto;
 import com.example.backend.entity.Registration;
 import com.example.backend.repository.RegistrationRepository;
+import com.example.backend.reservation.Reservation;
+import com.example.backend.reservation.ReservationBusyException;
+import com.example.backend.reservation.SeatReservationService;
+import com.example.backend.reservation.SeatsUnavailableException;
+import com.example.backend.stats.StatsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * REST Controller for Registration entity.
@@ -24,12 +34,20 @@ public class RegistrationController {
     @Autowired
     private RegistrationRepository registrationRepository;
 
+    @Autowired
+    private SeatReservationService seatReservationService;
+
+    @Autowired
+    private StatsService statsService;
+
     /**
      * Get all registrations.
      */
     @GetMapping
-    public ResponseEntity<List<Registration>> getAllRegistrations() {
-        List<Registration> registrations = registrationRepository.findAll();
+    public ResponseEntity<List<RegistrationDto>> getAllRegistrations() {
+        List<RegistrationDto> registrations = registrationRepository.findAll().stream()
+                .map(RegistrationDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(registrations);
     }
 
@@ -37,77 +55,104 @@ public class RegistrationController {
      * Get registration by ID.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Registration> getRegistrationById(@PathVariable UUID id) {
-        return registrationRepository.findById(id)
+    public ResponseEntity<RegistrationDto> getRegistrationById(@PathVariable UUID id) {
+        return registrationRepository.findDetailedById(id)
+                .map(RegistrationDto::from)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
      * Create a new registration.
+     * Takes seats on the event atomically; when the event is full the
+     * registration is waitlisted and 202 Accepted is returned instead.
      */
     @PostMapping
-    public ResponseEntity<Registration> createRegistration(@RequestBody Registration registration) {
+    public ResponseEntity<?> createRegistration(@RequestBody Registration registration) {
         registration.setCreatedAt(OffsetDateTime.now());
         registration.setUpdatedAt(OffsetDateTime.now());
-        Registration savedRegistration = registrationRepository.save(registration);
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedRegistration);
+        try {
+            Reservation reservation = seatReservationService.reserve(registration);
+            statsService.markDirty();
+            if (reservation.waitlisted()) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(reservation);
+            }
+            return ResponseEntity.status(HttpStatus.CREATED).body(reservation.registration());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (SeatsUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("User is already registered for this event");
+        } catch (ReservationBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(e.getMessage());
+        }
     }
 
     /**
      * Update an existing registration.
+     * Seats follow changes to status, team size or event.
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Registration> updateRegistration(
+    public ResponseEntity<?> updateRegistration(
             @PathVariable UUID id,
             @RequestBody Registration registrationDetails) {
         
-        return registrationRepository.findById(id)
-                .map(registration -> {
-                    registration.setEvent(registrationDetails.getEvent());
-                    registration.setUser(registrationDetails.getUser());
-                    registration.setRegistrationStatus(registrationDetails.getRegistrationStatus());
-                    registration.setRegistrationDate(registrationDetails.getRegistrationDate());
-                    registration.setAttendedAt(registrationDetails.getAttendedAt());
-                    registration.setNotes(registrationDetails.getNotes());
-                    registration.setTeam(registrationDetails.getTeam());
-                    registration.setTeamSize(registrationDetails.getTeamSize());
-                    registration.setTeamName(registrationDetails.getTeamName());
-                    registration.setTeamLeaderName(registrationDetails.getTeamLeaderName());
-                    registration.setTeamLeaderPhone(registrationDetails.getTeamLeaderPhone());
-                    registration.setTeamLeaderEmail(registrationDetails.getTeamLeaderEmail());
-                    registration.setTeamLeaderUniversityReg(registrationDetails.getTeamLeaderUniversityReg());
-                    registration.setPaymentStatus(registrationDetails.getPaymentStatus());
-                    registration.setPaymentAmount(registrationDetails.getPaymentAmount());
-                    registration.setPaymentMethod(registrationDetails.getPaymentMethod());
-                    registration.setTransactionId(registrationDetails.getTransactionId());
-                    registration.setPaidAt(registrationDetails.getPaidAt());
-                    registration.setUpdatedAt(OffsetDateTime.now());
-                    
-                    Registration updatedRegistration = registrationRepository.save(registration);
-                    return ResponseEntity.ok(updatedRegistration);
-                })
-                .orElse(ResponseEntity.notFound().build());
+        try {
+            Optional<Registration> updatedRegistration = seatReservationService.update(id, registration -> {
+                registration.setEvent(registrationDetails.getEvent());
+                registration.setUser(registrationDetails.getUser());
+                registration.setRegistrationStatus(registrationDetails.getRegistrationStatus());
+                registration.setRegistrationDate(registrationDetails.getRegistrationDate());
+                registration.setAttendedAt(registrationDetails.getAttendedAt());
+                registration.setNotes(registrationDetails.getNotes());
+                registration.setTeam(registrationDetails.getTeam());
+                registration.setTeamSize(registrationDetails.getTeamSize());
+                registration.setTeamName(registrationDetails.getTeamName());
+                registration.setTeamLeaderName(registrationDetails.getTeamLeaderName());
+                registration.setTeamLeaderPhone(registrationDetails.getTeamLeaderPhone());
+                registration.setTeamLeaderEmail(registrationDetails.getTeamLeaderEmail());
+                registration.setTeamLeaderUniversityReg(registrationDetails.getTeamLeaderUniversityReg());
+                registration.setPaymentStatus(registrationDetails.getPaymentStatus());
+                registration.setPaymentAmount(registrationDetails.getPaymentAmount());
+                registration.setPaymentMethod(registrationDetails.getPaymentMethod());
+                registration.setTransactionId(registrationDetails.getTransactionId());
+                registration.setPaidAt(registrationDetails.getPaidAt());
+                registration.setUpdatedAt(OffsetDateTime.now());
+            });
+            if (updatedRegistration.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            statsService.markDirty();
+            return ResponseEntity.ok(updatedRegistration.get());
+        } catch (SeatsUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
     }
 
     /**
      * Delete a registration.
+     * Seats it held are released to the event's waitlist.
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteRegistration(@PathVariable UUID id) {
-        if (registrationRepository.existsById(id)) {
-            registrationRepository.deleteById(id);
-            return ResponseEntity.noContent().build();
+        if (!seatReservationService.delete(id)) {
+            return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.notFound().build();
+        statsService.markDirty();
+        return ResponseEntity.noContent().build();
     }
 
     /**
      * Get registrations by event ID.
      */
     @GetMapping("/event/{eventId}")
-    public ResponseEntity<List<Registration>> getRegistrationsByEvent(@PathVariable UUID eventId) {
-        List<Registration> registrations = registrationRepository.findByEventId(eventId);
+    public ResponseEntity<List<RegistrationDto>> getRegistrationsByEvent(@PathVariable UUID eventId) {
+        List<RegistrationDto> registrations = registrationRepository.findByEventId(eventId).stream()
+                .map(RegistrationDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(registrations);
     }
 
@@ -115,8 +160,10 @@ public class RegistrationController {
      * Get registrations by user ID.
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Registration>> getRegistrationsByUser(@PathVariable UUID userId) {
-        List<Registration> registrations = registrationRepository.findByUser_Id(userId);
+    public ResponseEntity<List<RegistrationDto>> getRegistrationsByUser(@PathVariable UUID userId) {
+        List<RegistrationDto> registrations = registrationRepository.findByUser_Id(userId).stream()
+                .map(RegistrationDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(registrations);
     }
 }
@@ -1,5 +1,6 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.ReviewDto;
 import com.example.backend.entity.Review;
 import com.example.backend.repository.ReviewRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * REST Controller for Review entity.
@@ -28,8 +30,10 @@ public class ReviewController {
      * Get all reviews.
      */
     @GetMapping
-    public ResponseEntity<List<Review>> getAllReviews() {
-        List<Review> reviews = reviewRepository.findAll();
+    public ResponseEntity<List<ReviewDto>> getAllReviews() {
+        List<ReviewDto> reviews = reviewRepository.findAll().stream()
+                .map(ReviewDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(reviews);
     }
 
@@ -37,8 +41,9 @@ public class ReviewController {
      * Get review by ID.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Review> getReviewById(@PathVariable UUID id) {
-        return reviewRepository.findById(id)
+    public ResponseEntity<ReviewDto> getReviewById(@PathVariable UUID id) {
+        return reviewRepository.findDetailedById(id)
+                .map(ReviewDto::from)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -93,8 +98,10 @@ public class ReviewController {
      * Get reviews by event ID.
      */
     @GetMapping("/event/{eventId}")
-    public ResponseEntity<List<Review>> getReviewsByEvent(@PathVariable UUID eventId) {
-        List<Review> reviews = reviewRepository.findByEventId(eventId);
+    public ResponseEntity<List<ReviewDto>> getReviewsByEvent(@PathVariable UUID eventId) {
+        List<ReviewDto> reviews = reviewRepository.findByEventId(eventId).stream()
+                .map(ReviewDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(reviews);
     }
 
@@ -102,8 +109,10 @@ public class ReviewController {
      * Get reviews by user ID.
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Review>> getReviewsByUser(@PathVariable UUID userId) {
-        List<Review> reviews = reviewRepository.findByUser_Id(userId);
+    public ResponseEntity<List<ReviewDto>> getReviewsByUser(@PathVariable UUID userId) {
+        List<ReviewDto> reviews = reviewRepository.findByUser_Id(userId).stream()
+                .map(ReviewDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(reviews);
     }
 }
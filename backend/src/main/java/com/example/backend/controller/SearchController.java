@@ -0,0 +1,48 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.SearchResponse;
+import com.example.backend.entity.enums.EventStatus;
+import com.example.backend.search.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST controller for full-text search.
+ * Searches events, colleges and categories in a single request.
+ */
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "http://localhost:3000")
+public class SearchController {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    @Autowired
+    private SearchService searchService;
+
+    /**
+     * Search events, colleges and categories.
+     * @param q the free-text query
+     * @param page zero-based page of event results
+     * @param size event results per page, capped at 50
+     * @param collegeId optional college filter
+     * @param categoryId optional category filter
+     * @param status optional event status filter
+     * @return Ranked, paginated results with facet counts
+     */
+    @GetMapping
+    public ResponseEntity<SearchResponse> search(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) UUID collegeId,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) EventStatus status) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageIndex = Math.max(0, page);
+        return ResponseEntity.ok(searchService.search(q, pageIndex, pageSize, collegeId, categoryId, status));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.backend.controller;
+
+import com.example.backend.stats.StatsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST controller for admin dashboard statistics.
+ * Serves pre-aggregated counts and revenue instead of raw rows.
+ */
+@RestController
+@RequestMapping("/api/stats")
+@CrossOrigin(origins = "http://localhost:3000")
+public class StatsController {
+
+    @Autowired
+    private StatsService statsService;
+
+    /**
+     * Get global totals with overall and per-college aggregates.
+     */
+    @GetMapping
+    public ResponseEntity<?> getOverview() {
+        try {
+            return ResponseEntity.ok(statsService.overview());
+        } catch (IllegalStateException e) {
+            return unavailable(e);
+        }
+    }
+
+    /**
+     * Get aggregates of every event.
+     */
+    @GetMapping("/events")
+    public ResponseEntity<?> getAllEventStats() {
+        try {
+            return ResponseEntity.ok(statsService.events());
+        } catch (IllegalStateException e) {
+            return unavailable(e);
+        }
+    }
+
+    /**
+     * Get aggregates of a single event.
+     */
+    @GetMapping("/events/{id}")
+    public ResponseEntity<?> getEventStats(@PathVariable UUID id) {
+        try {
+            return statsService.event(id)
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalStateException e) {
+            return unavailable(e);
+        }
+    }
+
+    /**
+     * Get aggregates of a single college over all of its events.
+     */
+    @GetMapping("/colleges/{id}")
+    public ResponseEntity<?> getCollegeStats(@PathVariable UUID id) {
+        try {
+            return statsService.college(id)
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalStateException e) {
+            return unavailable(e);
+        }
+    }
+
+    private static ResponseEntity<String> unavailable(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(e.getMessage());
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.TeamDto;
 import com.example.backend.entity.Team;
 import com.example.backend.repository.TeamRepository;
+import com.example.backend.stats.StatsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * REST Controller for Team entity.
@@ -24,12 +27,17 @@ public class TeamController {
     @Autowired
     private TeamRepository teamRepository;
 
+    @Autowired
+    private StatsService statsService;
+
     /**
      * Get all teams.
      */
     @GetMapping
-    public ResponseEntity<List<Team>> getAllTeams() {
-        List<Team> teams = teamRepository.findAll();
+    public ResponseEntity<List<TeamDto>> getAllTeams() {
+        List<TeamDto> teams = teamRepository.findAll().stream()
+                .map(TeamDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(teams);
     }
 
@@ -37,8 +45,9 @@ public class TeamController {
      * Get team by ID.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Team> getTeamById(@PathVariable UUID id) {
-        return teamRepository.findById(id)
+    public ResponseEntity<TeamDto> getTeamById(@PathVariable UUID id) {
+        return teamRepository.findDetailedById(id)
+                .map(TeamDto::from)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -52,6 +61,7 @@ public class TeamController {
     team.setCreatedAt(now);
     team.setUpdatedAt(now);
         Team savedTeam = teamRepository.save(team);
+        statsService.markDirty();
         return ResponseEntity.status(HttpStatus.CREATED).body(savedTeam);
     }
 
@@ -88,6 +98,7 @@ public class TeamController {
     public ResponseEntity<Void> deleteTeam(@PathVariable UUID id) {
         if (teamRepository.existsById(id)) {
             teamRepository.deleteById(id);
+            statsService.markDirty();
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
@@ -97,8 +108,10 @@ public class TeamController {
      * Get teams by event ID.
      */
     @GetMapping("/event/{eventId}")
-    public ResponseEntity<List<Team>> getTeamsByEvent(@PathVariable UUID eventId) {
-        List<Team> teams = teamRepository.findByEventId(eventId);
+    public ResponseEntity<List<TeamDto>> getTeamsByEvent(@PathVariable UUID eventId) {
+        List<TeamDto> teams = teamRepository.findByEventId(eventId).stream()
+                .map(TeamDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(teams);
     }
 
@@ -106,8 +119,10 @@ public class TeamController {
      * Get teams by leader ID.
      */
     @GetMapping("/leader/{leaderId}")
-    public ResponseEntity<List<Team>> getTeamsByLeader(@PathVariable UUID leaderId) {
-        List<Team> teams = teamRepository.findByTeamLeaderId(leaderId);
+    public ResponseEntity<List<TeamDto>> getTeamsByLeader(@PathVariable UUID leaderId) {
+        List<TeamDto> teams = teamRepository.findByTeamLeaderId(leaderId).stream()
+                .map(TeamDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(teams);
     }
 }
@@ -1,5 +1,6 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.TeamMemberDto;
 import com.example.backend.entity.TeamMember;
 import com.example.backend.repository.TeamMemberRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * REST Controller for TeamMember entity.
@@ -28,8 +30,10 @@ public class TeamMemberController {
      * Get all team members.
      */
     @GetMapping
-    public ResponseEntity<List<TeamMember>> getAllTeamMembers() {
-        List<TeamMember> teamMembers = teamMemberRepository.findAll();
+    public ResponseEntity<List<TeamMemberDto>> getAllTeamMembers() {
+        List<TeamMemberDto> teamMembers = teamMemberRepository.findAll().stream()
+                .map(TeamMemberDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(teamMembers);
     }
 
@@ -37,8 +41,9 @@ public class TeamMemberController {
      * Get team member by ID.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TeamMember> getTeamMemberById(@PathVariable UUID id) {
+    public ResponseEntity<TeamMemberDto> getTeamMemberById(@PathVariable UUID id) {
         return teamMemberRepository.findById(id)
+                .map(TeamMemberDto::from)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -95,8 +100,10 @@ public class TeamMemberController {
      * Get members by team ID.
      */
     @GetMapping("/team/{teamId}")
-    public ResponseEntity<List<TeamMember>> getMembersByTeam(@PathVariable UUID teamId) {
-        List<TeamMember> teamMembers = teamMemberRepository.findByTeamId(teamId);
+    public ResponseEntity<List<TeamMemberDto>> getMembersByTeam(@PathVariable UUID teamId) {
+        List<TeamMemberDto> teamMembers = teamMemberRepository.findByTeamId(teamId).stream()
+                .map(TeamMemberDto::from)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(teamMembers);
     }
 
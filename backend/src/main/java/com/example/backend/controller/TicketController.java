@@ -1,7 +1,12 @@
 package com.example.backend.controller;
 
+import com.example.backend.checkin.CheckinService;
+import com.example.backend.dto.TicketDto;
 import com.example.backend.entity.Ticket;
 import com.example.backend.repository.TicketRepository;
+import com.example.backend.stats.StatsService;
+import com.example.backend.ticket.TicketCodes;
+import com.example.backend.ticket.TicketRevocations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * REST Controller for Ticket entity.
@@ -24,12 +30,23 @@ public class TicketController {
     @Autowired
     private TicketRepository ticketRepository;
 
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private CheckinService checkinService;
+
+    @Autowired
+    private TicketRevocations ticketRevocations;
+
     /**
      * Get all tickets.
      */
     @GetMapping
-    public ResponseEntity<List<Ticket>> getAllTickets() {
-        List<Ticket> tickets = ticketRepository.findAll();
+    public ResponseEntity<List<TicketDto>> getAllTickets() {
+        List<TicketDto> tickets = ticketRepository.findAll().stream()
+                .map(TicketDto::forViewer)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(tickets);
     }
 
@@ -37,8 +54,9 @@ public class TicketController {
      * Get ticket by ID.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Ticket> getTicketById(@PathVariable UUID id) {
-        return ticketRepository.findById(id)
+    public ResponseEntity<TicketDto> getTicketById(@PathVariable UUID id) {
+        return ticketRepository.findDetailedById(id)
+                .map(TicketDto::forViewer)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -51,7 +69,11 @@ public class TicketController {
         if (ticket.getIssuedAt() == null) {
             ticket.setIssuedAt(OffsetDateTime.now());
         }
+        // Codes are always generated here; client-built codes were guessable
+        ticket.setTicketCode(TicketCodes.generate());
         Ticket savedTicket = ticketRepository.save(ticket);
+        statsService.markDirty();
+        checkinService.ticketSaved(savedTicket);
         return ResponseEntity.status(HttpStatus.CREATED).body(savedTicket);
     }
 
@@ -76,6 +98,13 @@ public class TicketController {
                     ticket.setUpdatedAt(OffsetDateTime.now());
                     
                     Ticket updatedTicket = ticketRepository.save(ticket);
+                    statsService.markDirty();
+                    checkinService.ticketSaved(updatedTicket);
+                    if (Boolean.FALSE.equals(updatedTicket.getValid())) {
+                        ticketRevocations.revoke(updatedTicket.getEvent().getId(), updatedTicket.getId());
+                    } else {
+                        ticketRevocations.reinstate(updatedTicket.getEvent().getId(), updatedTicket.getId());
+                    }
                     return ResponseEntity.ok(updatedTicket);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -86,19 +115,25 @@ public class TicketController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTicket(@PathVariable UUID id) {
-        if (ticketRepository.existsById(id)) {
-            ticketRepository.deleteById(id);
-            return ResponseEntity.noContent().build();
-        }
-        return ResponseEntity.notFound().build();
+        return ticketRepository.findById(id)
+                .map(ticket -> {
+                    UUID eventId = ticket.getEvent().getId();
+                    ticketRepository.delete(ticket);
+                    statsService.markDirty();
+                    checkinService.ticketDeleted(id);
+                    ticketRevocations.deleted(eventId, id);
+                    return ResponseEntity.noContent().<Void>build();
+                })
+                .orElse(ResponseEntity.notFound().build());
     }
 
     /**
      * Get ticket by registration ID.
      */
     @GetMapping("/registration/{registrationId}")
-    public ResponseEntity<Ticket> getTicketByRegistration(@PathVariable UUID registrationId) {
+    public ResponseEntity<TicketDto> getTicketByRegistration(@PathVariable UUID registrationId) {
         return ticketRepository.findByRegistrationId(registrationId)
+                .map(TicketDto::forViewer)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -107,8 +142,10 @@ public class TicketController {
      * Get tickets by event ID.
      */
     @GetMapping("/event/{eventId}")
-    public ResponseEntity<List<Ticket>> getTicketsByEvent(@PathVariable UUID eventId) {
-        List<Ticket> tickets = ticketRepository.findByEventId(eventId);
+    public ResponseEntity<List<TicketDto>> getTicketsByEvent(@PathVariable UUID eventId) {
+        List<TicketDto> tickets = ticketRepository.findByEventId(eventId).stream()
+                .map(TicketDto::forViewer)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(tickets);
     }
 }
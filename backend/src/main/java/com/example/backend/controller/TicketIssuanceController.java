@@ -0,0 +1,55 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.TicketIssuanceRequest;
+import com.example.backend.dto.TicketIssuanceStatus;
+import com.example.backend.entity.enums.RegistrationStatus;
+import com.example.backend.ticket.TicketIssuanceService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * REST controller for bulk ticket issuance.
+ * Organizers start a background job for an event and poll its progress.
+ */
+@RestController
+@RequestMapping("/api/ticket-issuance")
+@CrossOrigin(origins = "http://localhost:3000")
+public class TicketIssuanceController {
+
+    @Autowired
+    private TicketIssuanceService ticketIssuanceService;
+
+    /**
+     * Issue tickets to every registration of an event in the given status that
+     * has none yet. Starting again after a failure or restart resumes the work.
+     * @return 202 with the job status and its URL in Location
+     */
+    @PostMapping
+    public ResponseEntity<?> start(@RequestBody TicketIssuanceRequest request) {
+        RegistrationStatus status = request.registrationStatus() != null
+                ? request.registrationStatus()
+                : RegistrationStatus.CONFIRMED;
+        try {
+            TicketIssuanceStatus job = ticketIssuanceService.start(request.eventId(), status);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/ticket-issuance/" + job.jobId()))
+                    .body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Get the progress of a job.
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<TicketIssuanceStatus> getStatus(@PathVariable UUID jobId) {
+        return ticketIssuanceService.status(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
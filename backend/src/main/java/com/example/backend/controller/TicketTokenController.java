@@ -0,0 +1,89 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.RevocationList;
+import com.example.backend.dto.TicketTokenRequest;
+import com.example.backend.dto.TicketTokenResponse;
+import com.example.backend.dto.TicketTokenVerification;
+import com.example.backend.repository.TicketRepository;
+import com.example.backend.ticket.TicketAccess;
+import com.example.backend.ticket.TicketRevocations;
+import com.example.backend.ticket.TicketTokens;
+import com.example.backend.ticket.TicketVerifier;
+import com.example.backend.web.ConditionalGet;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.UUID;
+
+/**
+ * REST controller for signed ticket tokens.
+ * Issues tokens, verifies them without a database hit and serves per-event
+ * revocation lists for scanners to cache.
+ */
+@RestController
+@RequestMapping("/api/ticket-tokens")
+@CrossOrigin(origins = "http://localhost:3000")
+public class TicketTokenController {
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private TicketTokens ticketTokens;
+
+    @Autowired
+    private TicketVerifier ticketVerifier;
+
+    @Autowired
+    private TicketRevocations ticketRevocations;
+
+    /**
+     * Get the signed token of a ticket. Only its holder, the event's organizer
+     * and admins get one; anyone else gets 403.
+     */
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<TicketTokenResponse> getToken(@PathVariable UUID ticketId) {
+        return ticketRepository.findDetailedById(ticketId)
+                .map(ticket -> TicketAccess.canUse(ticket)
+                        ? ResponseEntity.ok(new TicketTokenResponse(ticket.getId(), ticket.getEvent().getId(),
+                                ticket.getTicketType(),
+                                ticketTokens.issue(ticket.getId(), ticket.getEvent().getId(), ticket.getTicketType())))
+                        : ResponseEntity.status(HttpStatus.FORBIDDEN).<TicketTokenResponse>build())
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Verify a scanned token: 200 when valid, 409 when revoked or for another
+     * event, 400 when malformed or not signed by this server, 503 when the
+     * event's revocation list is unavailable.
+     */
+    @PostMapping("/verify")
+    public ResponseEntity<TicketTokenVerification> verify(@RequestBody TicketTokenRequest request) {
+        TicketTokenVerification result = ticketVerifier.verify(request.token(), request.eventId());
+        HttpStatus status = switch (result.status()) {
+            case VALID -> HttpStatus.OK;
+            case REVOKED, WRONG_EVENT -> HttpStatus.CONFLICT;
+            case INVALID -> HttpStatus.BAD_REQUEST;
+            case UNKNOWN -> HttpStatus.SERVICE_UNAVAILABLE;
+        };
+        return ResponseEntity.status(status).body(result);
+    }
+
+    /**
+     * Get an event's revocation list; answers 304 while the scanner's copy is current.
+     */
+    @GetMapping("/events/{eventId}/revocations")
+    public ResponseEntity<?> getRevocations(@PathVariable UUID eventId, WebRequest request) {
+        RevocationList list;
+        try {
+            list = ticketRevocations.list(eventId);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        }
+        return ConditionalGet.respond(request, ConditionalGet.etag("revocations", eventId, list.version(), list.asOf()),
+                list.asOf(), () -> list);
+    }
+}
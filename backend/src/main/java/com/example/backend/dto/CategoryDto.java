@@ -0,0 +1,26 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Category;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Read model for a category.
+ */
+public record CategoryDto(
+        UUID id,
+        String name,
+        String description,
+        String iconName,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt) {
+
+    public static CategoryDto from(Category category) {
+        if (category == null) {
+            return null;
+        }
+        return new CategoryDto(category.getId(), category.getName(), category.getDescription(),
+                category.getIconName(), category.getCreatedAt(), category.getUpdatedAt());
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.backend.dto;
+
+/**
+ * A code scanned at the gate.
+ */
+public record CheckinRequest(String code) {
+}
@@ -0,0 +1,15 @@
+package com.example.backend.dto;
+
+import java.util.UUID;
+
+/**
+ * Payment for a registration promoted from the waitlist, finishing its checkout.
+ * @param userId the registrant's profile ID
+ * @param paymentMethod how the registration was paid for
+ * @param transactionId payment provider transaction ID
+ */
+public record CheckoutCompletion(
+        UUID userId,
+        String paymentMethod,
+        String transactionId) {
+}
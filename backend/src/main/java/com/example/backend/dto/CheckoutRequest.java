@@ -0,0 +1,46 @@
+package com.example.backend.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Everything needed to register for an event in one call.
+ * @param eventId the event to register for
+ * @param userId the registering user's profile ID
+ * @param team whether this is a team registration
+ * @param teamSize number of people on the team, including the leader
+ * @param teamName team name, required for team registrations
+ * @param teamLeaderName team leader name, required for team registrations
+ * @param teamLeaderPhone team leader phone
+ * @param teamLeaderEmail team leader email
+ * @param teamLeaderUniversityReg team leader university registration number
+ * @param members team members other than the leader
+ * @param paymentMethod how the registration was paid for
+ * @param transactionId payment provider transaction ID
+ * @param notes free-form notes for the organizer
+ */
+public record CheckoutRequest(
+        UUID eventId,
+        UUID userId,
+        Boolean team,
+        Integer teamSize,
+        String teamName,
+        String teamLeaderName,
+        String teamLeaderPhone,
+        String teamLeaderEmail,
+        String teamLeaderUniversityReg,
+        List<Member> members,
+        String paymentMethod,
+        String transactionId,
+        String notes) {
+
+    /**
+     * A team member other than the leader.
+     */
+    public record Member(
+            String name,
+            String email,
+            String phone,
+            String universityReg) {
+    }
+}
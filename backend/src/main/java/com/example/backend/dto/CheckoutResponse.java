@@ -0,0 +1,35 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.enums.PaymentStatus;
+import com.example.backend.entity.enums.RegistrationStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Rows created by a checkout. A waitlisted checkout only creates the registration.
+ * @param registrationId the new registration
+ * @param teamId the new team, or null for individual or waitlisted registrations
+ * @param ticketId the issued ticket, or null when waitlisted
+ * @param ticketCode the server-generated ticket code, or null when waitlisted
+ * @param ticketToken signed token of the ticket, for the QR code, or null when waitlisted
+ * @param paymentId the payment record, or null for free or waitlisted registrations
+ * @param amount the price charged, computed from the event's pricing
+ * @param registrationStatus status of the new registration
+ * @param paymentStatus payment status of the new registration
+ * @param waitlisted whether the event was full and the registration was waitlisted
+ * @param waitlistPosition 1-based position on the waitlist, or 0 when seated
+ */
+public record CheckoutResponse(
+        UUID registrationId,
+        UUID teamId,
+        UUID ticketId,
+        String ticketCode,
+        String ticketToken,
+        UUID paymentId,
+        BigDecimal amount,
+        RegistrationStatus registrationStatus,
+        PaymentStatus paymentStatus,
+        boolean waitlisted,
+        long waitlistPosition) {
+}
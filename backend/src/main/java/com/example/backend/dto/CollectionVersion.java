@@ -0,0 +1,18 @@
+package com.example.backend.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Cheap fingerprint of a table used to answer conditional GETs on collection
+ * endpoints without loading the rows. Inserts and updates move lastModified,
+ * deletes move count; checksum covers columns written without touching updatedAt.
+ * @param count number of rows
+ * @param lastModified latest updatedAt, or null for an empty table
+ * @param checksum table-specific extra component, 0 when unused
+ */
+public record CollectionVersion(long count, OffsetDateTime lastModified, long checksum) {
+
+    public CollectionVersion(long count, OffsetDateTime lastModified) {
+        this(count, lastModified, 0L);
+    }
+}
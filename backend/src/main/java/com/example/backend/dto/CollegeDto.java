@@ -0,0 +1,33 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.College;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Read model for a college.
+ */
+public record CollegeDto(
+        UUID id,
+        String name,
+        String location,
+        String description,
+        String logoUrl,
+        String website,
+        Integer establishedYear,
+        String contactEmail,
+        String contactPhone,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt) {
+
+    public static CollegeDto from(College college) {
+        if (college == null) {
+            return null;
+        }
+        return new CollegeDto(college.getId(), college.getName(), college.getLocation(),
+                college.getDescription(), college.getLogoUrl(), college.getWebsite(),
+                college.getEstablishedYear(), college.getContactEmail(), college.getContactPhone(),
+                college.getCreatedAt(), college.getUpdatedAt());
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.backend.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ * @param items the rows on this page
+ * @param nextCursor cursor for the following page, or null when this is the last page
+ * @param limit the page size that was applied
+ */
+public record CursorPage<T>(List<T> items, String nextCursor, int limit) {
+}
@@ -0,0 +1,49 @@
+package com.example.backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in the event listing, ordered by (start_date, id).
+ * Serialized to clients as an opaque URL-safe token.
+ */
+public record EventCursor(OffsetDateTime startDate, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encode this position as an opaque cursor token.
+     * @return URL-safe Base64 token
+     */
+    public String encode() {
+        String raw = startDate.toInstant().toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor token previously produced by {@link #encode()}.
+     * @param token the opaque cursor
+     * @return the decoded position
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static EventCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.indexOf(SEPARATOR);
+            if (split < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            OffsetDateTime startDate = Instant.parse(raw.substring(0, split)).atOffset(ZoneOffset.UTC);
+            UUID id = UUID.fromString(raw.substring(split + 1));
+            return new EventCursor(startDate, id);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
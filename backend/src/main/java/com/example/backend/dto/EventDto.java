@@ -0,0 +1,64 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Event;
+import com.example.backend.entity.enums.EventStatus;
+import com.example.backend.entity.enums.ParticipationType;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Read model for an event, with category, college and organizer inlined.
+ */
+public record EventDto(
+        UUID id,
+        String title,
+        String description,
+        String imageUrl,
+        UUID categoryId,
+        CategoryDto category,
+        UUID collegeId,
+        CollegeDto college,
+        UUID organizerId,
+        ProfileSummary organizer,
+        OffsetDateTime startDate,
+        OffsetDateTime endDate,
+        String location,
+        String venueDetails,
+        ParticipationType participationType,
+        EventStatus eventStatus,
+        Integer teamSizeMin,
+        Integer teamSizeMax,
+        Integer maxAttendees,
+        Integer currentAttendees,
+        OffsetDateTime registrationDeadline,
+        Boolean featured,
+        Boolean global,
+        BigDecimal individualPrice,
+        BigDecimal teamBasePrice,
+        BigDecimal pricePerMember,
+        Boolean hasCustomTeamPricing,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt) {
+
+    /**
+     * Map an event whose category, college and organizer have been fetched.
+     */
+    public static EventDto from(Event event) {
+        return new EventDto(event.getId(), event.getTitle(), event.getDescription(), event.getImageUrl(),
+                event.getCategory() == null ? null : event.getCategory().getId(),
+                CategoryDto.from(event.getCategory()),
+                event.getCollege() == null ? null : event.getCollege().getId(),
+                CollegeDto.from(event.getCollege()),
+                event.getOrganizer() == null ? null : event.getOrganizer().getId(),
+                ProfileSummary.from(event.getOrganizer()),
+                event.getStartDate(), event.getEndDate(), event.getLocation(), event.getVenueDetails(),
+                event.getParticipationType(), event.getEventStatus(),
+                event.getTeamSizeMin(), event.getTeamSizeMax(),
+                event.getMaxAttendees(), event.getCurrentAttendees(), event.getRegistrationDeadline(),
+                event.getFeatured(), event.getGlobal(),
+                event.getIndividualPrice(), event.getTeamBasePrice(), event.getPricePerMember(),
+                event.getHasCustomTeamPricing(), event.getCreatedAt(), event.getUpdatedAt());
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.enums.EventStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Optional filters for the event listing. Null fields are not applied.
+ */
+public record EventFilter(
+        UUID collegeId,
+        UUID categoryId,
+        EventStatus status,
+        Boolean featured,
+        Boolean global,
+        BigDecimal minPrice,
+        BigDecimal maxPrice) {
+}
@@ -0,0 +1,23 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.enums.EventStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Flat event row used to build the search index, loaded with its college and
+ * category names in a single query.
+ */
+public record EventSearchRow(
+        UUID id,
+        String title,
+        String description,
+        String location,
+        OffsetDateTime startDate,
+        EventStatus eventStatus,
+        UUID collegeId,
+        String collegeName,
+        UUID categoryId,
+        String categoryName) {
+}
@@ -0,0 +1,20 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.enums.EventStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Seat availability and status of an event, as pushed to live viewers.
+ * @param seatsLeft seats still free, or null when attendance is unlimited
+ */
+public record EventSeats(
+        UUID eventId,
+        int currentAttendees,
+        Integer maxAttendees,
+        Integer seatsLeft,
+        EventStatus eventStatus,
+        OffsetDateTime registrationDeadline
+) {
+}
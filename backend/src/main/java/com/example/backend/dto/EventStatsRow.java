@@ -0,0 +1,9 @@
+package com.example.backend.dto;
+
+import java.util.UUID;
+
+/**
+ * An event with the college it belongs to, read by the statistics rollup.
+ */
+public record EventStatsRow(UUID eventId, String title, UUID collegeId, String collegeName) {
+}
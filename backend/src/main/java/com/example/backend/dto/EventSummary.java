@@ -0,0 +1,20 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Event;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Minimal event reference embedded in other read models.
+ */
+public record EventSummary(UUID id, String title, String location, OffsetDateTime startDate, String imageUrl) {
+
+    public static EventSummary from(Event event) {
+        if (event == null) {
+            return null;
+        }
+        return new EventSummary(event.getId(), event.getTitle(), event.getLocation(),
+                event.getStartDate(), event.getImageUrl());
+    }
+}
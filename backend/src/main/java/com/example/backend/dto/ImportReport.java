@@ -0,0 +1,31 @@
+package com.example.backend.dto;
+
+import com.example.backend.importer.ImportFormat;
+import com.example.backend.importer.ImportKind;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import.
+ * @param rows input rows read
+ * @param inserted rows written as new records
+ * @param updated rows that replaced existing records
+ * @param failed rows rejected by validation or by the database
+ * @param errors reasons of rejected rows, up to {@code import.max-reported-errors}
+ * @param aborted why reading stopped early (malformed input), or null
+ */
+public record ImportReport(
+        ImportKind kind,
+        ImportFormat format,
+        long rows,
+        long inserted,
+        long updated,
+        long failed,
+        List<RowError> errors,
+        boolean errorsTruncated,
+        String aborted,
+        long durationMs) {
+
+    public record RowError(long row, String message) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Payment;
+import com.example.backend.entity.Registration;
+import com.example.backend.entity.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Read model for a payment, with the paying registration summarized.
+ */
+public record PaymentDto(
+        UUID id,
+        UUID registrationId,
+        RegistrationRef registration,
+        UUID ticketId,
+        PaymentStatus paymentStatus,
+        BigDecimal amount,
+        String paymentMethod,
+        String transactionId,
+        OffsetDateTime paymentDate,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt) {
+
+    /**
+     * The registration a payment belongs to, with its event and user.
+     */
+    public record RegistrationRef(UUID id, EventSummary event, ProfileSummary user) {
+
+        static RegistrationRef from(Registration registration) {
+            if (registration == null) {
+                return null;
+            }
+            return new RegistrationRef(registration.getId(),
+                    EventSummary.from(registration.getEvent()), ProfileSummary.from(registration.getUser()));
+        }
+    }
+
+    /**
+     * Map a payment whose registration, registration event and user have been fetched.
+     */
+    public static PaymentDto from(Payment payment) {
+        return new PaymentDto(payment.getId(),
+                payment.getRegistration() == null ? null : payment.getRegistration().getId(),
+                RegistrationRef.from(payment.getRegistration()),
+                payment.getTicket() == null ? null : payment.getTicket().getId(),
+                payment.getPaymentStatus(), payment.getAmount(), payment.getPaymentMethod(),
+                payment.getTransactionId(), payment.getPaymentDate(),
+                payment.getCreatedAt(), payment.getUpdatedAt());
+    }
+}
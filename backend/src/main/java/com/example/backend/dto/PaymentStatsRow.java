@@ -0,0 +1,13 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Number and total amount of an event's payments with the given status, read
+ * by the statistics rollup.
+ */
+public record PaymentStatsRow(UUID eventId, PaymentStatus paymentStatus, long count, BigDecimal amount) {
+}
@@ -0,0 +1,38 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Profile;
+import com.example.backend.entity.enums.UserRole;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Read model for a profile, with its college inlined.
+ */
+public record ProfileDto(
+        UUID id,
+        String fullName,
+        String email,
+        String avatarUrl,
+        String phone,
+        String bio,
+        String organizationName,
+        String website,
+        UserRole role,
+        UUID collegeId,
+        CollegeDto college,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt) {
+
+    /**
+     * Map a profile whose college association has been fetched.
+     */
+    public static ProfileDto from(Profile profile) {
+        return new ProfileDto(profile.getId(), profile.getFullName(), profile.getEmail(),
+                profile.getAvatarUrl(), profile.getPhone(), profile.getBio(),
+                profile.getOrganizationName(), profile.getWebsite(), profile.getRole(),
+                profile.getCollege() == null ? null : profile.getCollege().getId(),
+                CollegeDto.from(profile.getCollege()),
+                profile.getCreatedAt(), profile.getUpdatedAt());
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Profile;
+
+import java.util.UUID;
+
+/**
+ * Minimal profile reference embedded in other read models.
+ */
+public record ProfileSummary(UUID id, String fullName, String email, String avatarUrl) {
+
+    public static ProfileSummary from(Profile profile) {
+        if (profile == null) {
+            return null;
+        }
+        return new ProfileSummary(profile.getId(), profile.getFullName(), profile.getEmail(), profile.getAvatarUrl());
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Registration;
+import com.example.backend.entity.enums.PaymentStatus;
+import com.example.backend.entity.enums.RegistrationStatus;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Read model for a registration, with event and user summaries inlined.
+ */
+public record RegistrationDto(
+        UUID id,
+        UUID eventId,
+        EventSummary event,
+        UUID userId,
+        ProfileSummary user,
+        RegistrationStatus registrationStatus,
+        OffsetDateTime registrationDate,
+        OffsetDateTime attendedAt,
+        String notes,
+        Boolean team,
+        Integer teamSize,
+        String teamName,
+        String teamLeaderName,
+        String teamLeaderPhone,
+        String teamLeaderEmail,
+        String teamLeaderUniversityReg,
+        PaymentStatus paymentStatus,
+        BigDecimal paymentAmount,
+        String paymentMethod,
+        String transactionId,
+        OffsetDateTime paidAt,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt) {
+
+    /**
+     * Map a registration whose event and user have been fetched.
+     */
+    public static RegistrationDto from(Registration registration) {
+        return new RegistrationDto(registration.getId(),
+                registration.getEvent() == null ? null : registration.getEvent().getId(),
+                EventSummary.from(registration.getEvent()),
+                registration.getUser() == null ? null : registration.getUser().getId(),
+                ProfileSummary.from(registration.getUser()),
+                registration.getRegistrationStatus(), registration.getRegistrationDate(),
+                registration.getAttendedAt(), registration.getNotes(), registration.getTeam(),
+                registration.getTeamSize(), registration.getTeamName(), registration.getTeamLeaderName(),
+                registration.getTeamLeaderPhone(), registration.getTeamLeaderEmail(),
+                registration.getTeamLeaderUniversityReg(), registration.getPaymentStatus(),
+                registration.getPaymentAmount(), registration.getPaymentMethod(),
+                registration.getTransactionId(), registration.getPaidAt(),
+                registration.getCreatedAt(), registration.getUpdatedAt());
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.enums.PaymentStatus;
+import com.example.backend.entity.enums.RegistrationStatus;
+
+import java.util.UUID;
+
+/**
+ * Number of registrations of an event with the given registration and payment
+ * status, read by the statistics rollup.
+ */
+public record RegistrationStatsRow(
+        UUID eventId,
+        RegistrationStatus registrationStatus,
+        PaymentStatus paymentStatus,
+        long count) {
+}
@@ -0,0 +1,31 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Review;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Read model for a review, with its author summarized.
+ */
+public record ReviewDto(
+        UUID id,
+        UUID eventId,
+        UUID userId,
+        ProfileSummary user,
+        Integer rating,
+        String comment,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt) {
+
+    /**
+     * Map a review whose user has been fetched.
+     */
+    public static ReviewDto from(Review review) {
+        return new ReviewDto(review.getId(),
+                review.getEvent() == null ? null : review.getEvent().getId(),
+                review.getUser() == null ? null : review.getUser().getId(),
+                ProfileSummary.from(review.getUser()),
+                review.getRating(), review.getComment(), review.getCreatedAt(), review.getUpdatedAt());
+    }
+}
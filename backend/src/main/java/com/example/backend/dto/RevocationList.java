@@ -0,0 +1,12 @@
+package com.example.backend.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Revoked ticket IDs of an event. Scanners cache it and reject signed tokens
+ * of listed tickets; {@code version} increases whenever the list changes.
+ */
+public record RevocationList(UUID eventId, long version, OffsetDateTime asOf, List<UUID> revokedTicketIds) {
+}
@@ -0,0 +1,59 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.enums.EventStatus;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Ranked search results with facet counts.
+ * @param query the normalized query string
+ * @param total number of matching events across all pages
+ * @param page zero-based page index of the event hits
+ * @param size page size of the event hits
+ * @param events ranked event hits on this page
+ * @param colleges best matching colleges
+ * @param categories best matching categories
+ * @param facets counts of matching events per college, category and status
+ */
+public record SearchResponse(
+        String query,
+        long total,
+        int page,
+        int size,
+        List<EventHit> events,
+        List<EntityHit> colleges,
+        List<EntityHit> categories,
+        Map<String, List<FacetCount>> facets) {
+
+    /**
+     * A matching event.
+     */
+    public record EventHit(
+            UUID id,
+            String title,
+            String description,
+            String location,
+            OffsetDateTime startDate,
+            EventStatus eventStatus,
+            UUID collegeId,
+            String collegeName,
+            UUID categoryId,
+            String categoryName,
+            double score) {
+    }
+
+    /**
+     * A matching college or category. Location is only set for colleges.
+     */
+    public record EntityHit(UUID id, String name, String description, String location, double score) {
+    }
+
+    /**
+     * Number of matching events sharing one facet value.
+     */
+    public record FacetCount(String value, String label, long count) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.enums.PaymentStatus;
+import com.example.backend.entity.enums.RegistrationStatus;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Admin dashboard statistics: global totals, overall aggregates and one
+ * aggregate per college, as of {@code computedAt}.
+ */
+public record StatsResponse(
+        OffsetDateTime computedAt,
+        Totals totals,
+        GroupStats overall,
+        List<GroupStats> colleges) {
+
+    /**
+     * Row counts of the main tables.
+     */
+    public record Totals(
+            long events,
+            long colleges,
+            long users,
+            long teams,
+            long registrations,
+            long tickets,
+            long payments) {
+    }
+
+    /**
+     * Aggregates for one event, one college or everything. Revenue is the sum
+     * of completed payments; attended counts ATTENDED registrations.
+     */
+    public record GroupStats(
+            UUID id,
+            String name,
+            long registrations,
+            Map<RegistrationStatus, Long> registrationsByStatus,
+            Map<PaymentStatus, Long> registrationsByPaymentStatus,
+            long payments,
+            Map<PaymentStatus, Long> paymentsByStatus,
+            Map<PaymentStatus, BigDecimal> paymentAmountsByStatus,
+            BigDecimal revenue,
+            long ticketsIssued,
+            long ticketsUsed,
+            long attended) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Team;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Read model for a team, with its event summary inlined.
+ */
+public record TeamDto(
+        UUID id,
+        UUID eventId,
+        EventSummary event,
+        UUID teamLeaderId,
+        UUID registrationId,
+        String teamName,
+        String teamLeaderName,
+        String teamLeaderPhone,
+        String teamLeaderEmail,
+        String teamLeaderUniversityReg,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt) {
+
+    /**
+     * Map a team whose event has been fetched. Leader and registration are
+     * exposed by ID only, which Hibernate resolves without loading them.
+     */
+    public static TeamDto from(Team team) {
+        return new TeamDto(team.getId(),
+                team.getEvent() == null ? null : team.getEvent().getId(),
+                EventSummary.from(team.getEvent()),
+                team.getTeamLeader() == null ? null : team.getTeamLeader().getId(),
+                team.getRegistration() == null ? null : team.getRegistration().getId(),
+                team.getTeamName(), team.getTeamLeaderName(), team.getTeamLeaderPhone(),
+                team.getTeamLeaderEmail(), team.getTeamLeaderUniversityReg(),
+                team.getCreatedAt(), team.getUpdatedAt());
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.TeamMember;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Read model for a team member.
+ */
+public record TeamMemberDto(
+        UUID id,
+        UUID teamId,
+        String memberName,
+        String memberEmail,
+        String memberPhone,
+        String universityRegistrationNumber,
+        Boolean leader,
+        OffsetDateTime joinedAt) {
+
+    public static TeamMemberDto from(TeamMember member) {
+        return new TeamMemberDto(member.getId(),
+                member.getTeam() == null ? null : member.getTeam().getId(),
+                member.getMemberName(), member.getMemberEmail(), member.getMemberPhone(),
+                member.getUniversityRegistrationNumber(), member.getLeader(), member.getJoinedAt());
+    }
+}
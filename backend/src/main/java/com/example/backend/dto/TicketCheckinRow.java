@@ -0,0 +1,16 @@
+package com.example.backend.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * The columns of a ticket the check-in index needs, loaded without the entity graph.
+ */
+public record TicketCheckinRow(
+        UUID ticketId,
+        String ticketCode,
+        UUID eventId,
+        UUID registrationId,
+        Boolean valid,
+        OffsetDateTime usedAt) {
+}
@@ -0,0 +1,56 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Ticket;
+import com.example.backend.entity.enums.TicketType;
+import com.example.backend.ticket.TicketAccess;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Read model for a ticket, with event and holder summaries inlined. The code
+ * is only filled in for viewers who may use the ticket (see {@link TicketAccess}).
+ */
+public record TicketDto(
+        UUID id,
+        UUID eventId,
+        EventSummary event,
+        UUID registrationId,
+        ProfileSummary user,
+        TicketType ticketType,
+        BigDecimal price,
+        String ticketCode,
+        Boolean valid,
+        OffsetDateTime issuedAt,
+        OffsetDateTime usedAt,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt) {
+
+    /**
+     * Map a ticket whose event, registration and registration user have been fetched.
+     */
+    public static TicketDto from(Ticket ticket) {
+        var registration = ticket.getRegistration();
+        return new TicketDto(ticket.getId(),
+                ticket.getEvent() == null ? null : ticket.getEvent().getId(),
+                EventSummary.from(ticket.getEvent()),
+                registration == null ? null : registration.getId(),
+                registration == null ? null : ProfileSummary.from(registration.getUser()),
+                ticket.getTicketType(), ticket.getPrice(), ticket.getTicketCode(), ticket.getValid(),
+                ticket.getIssuedAt(), ticket.getUsedAt(), ticket.getCreatedAt(), ticket.getUpdatedAt());
+    }
+
+    /**
+     * Map a ticket for the current user, leaving out the code unless they may use the ticket.
+     */
+    public static TicketDto forViewer(Ticket ticket) {
+        TicketDto dto = from(ticket);
+        if (TicketAccess.canUse(ticket)) {
+            return dto;
+        }
+        return new TicketDto(dto.id(), dto.eventId(), dto.event(), dto.registrationId(), dto.user(),
+                dto.ticketType(), dto.price(), null, dto.valid(), dto.issuedAt(), dto.usedAt(),
+                dto.createdAt(), dto.updatedAt());
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.enums.RegistrationStatus;
+
+import java.util.UUID;
+
+/**
+ * Start issuing tickets for an event's registrations in the given status
+ * (CONFIRMED when omitted).
+ */
+public record TicketIssuanceRequest(UUID eventId, RegistrationStatus registrationStatus) {
+}
@@ -0,0 +1,31 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.enums.RegistrationStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Progress of a bulk ticket issuance job.
+ * @param total registrations without a ticket when the job started
+ * @param issued tickets created so far
+ * @param error reason the job failed, or null
+ */
+public record TicketIssuanceStatus(
+        UUID jobId,
+        UUID eventId,
+        RegistrationStatus registrationStatus,
+        State state,
+        long total,
+        long issued,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt,
+        String error) {
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        INTERRUPTED
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.backend.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * A registration that still needs a ticket, read by bulk ticket issuance.
+ */
+public record TicketIssueRow(UUID registrationId, BigDecimal paymentAmount) {
+}
@@ -0,0 +1,10 @@
+package com.example.backend.dto;
+
+import java.util.UUID;
+
+/**
+ * Tickets issued for an event and how many of them were used, read by the
+ * statistics rollup.
+ */
+public record TicketStatsRow(UUID eventId, long issued, long used) {
+}
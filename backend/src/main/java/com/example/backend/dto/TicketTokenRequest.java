@@ -0,0 +1,9 @@
+package com.example.backend.dto;
+
+import java.util.UUID;
+
+/**
+ * A scanned token to verify, optionally for a specific event.
+ */
+public record TicketTokenRequest(String token, UUID eventId) {
+}
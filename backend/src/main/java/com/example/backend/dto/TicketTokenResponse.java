@@ -0,0 +1,11 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.enums.TicketType;
+
+import java.util.UUID;
+
+/**
+ * A signed token for a ticket, for rendering as a QR code.
+ */
+public record TicketTokenResponse(UUID ticketId, UUID eventId, TicketType ticketType, String token) {
+}
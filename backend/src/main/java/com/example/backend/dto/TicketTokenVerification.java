@@ -0,0 +1,24 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.enums.TicketType;
+
+import java.util.UUID;
+
+/**
+ * Result of verifying a signed ticket token.
+ * @param status VALID, REVOKED, WRONG_EVENT, INVALID (malformed or bad signature) or
+ *               UNKNOWN (signed, but the event's revocation list is unavailable)
+ * @param ticketId the ticket, or null when the token is invalid
+ * @param eventId the ticket's event, or null when the token is invalid
+ * @param ticketType the ticket type, or null when the token is invalid
+ */
+public record TicketTokenVerification(Status status, UUID ticketId, UUID eventId, TicketType ticketType) {
+
+    public enum Status {
+        VALID,
+        REVOKED,
+        WRONG_EVENT,
+        INVALID,
+        UNKNOWN
+    }
+}
@@ -70,7 +70,8 @@ public class Event {
     @Column(name = "max_attendees")
     private Integer maxAttendees;
 
-    @Column(name = "current_attendees", nullable = false)
+    // Only changed by the conditional seat UPDATEs in EventRepository, never by entity saves.
+    @Column(name = "current_attendees", nullable = false, updatable = false)
     private Integer currentAttendees;
 
     @Column(name = "registration_deadline")
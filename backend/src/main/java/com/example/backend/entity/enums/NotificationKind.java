@@ -0,0 +1,10 @@
+package com.example.backend.entity.enums;
+
+/**
+ * Enumeration for notification outbox message kinds.
+ */
+public enum NotificationKind {
+    REGISTRATION_STATUS,
+    TICKET_ISSUED,
+    EVENT_UPDATED
+}
@@ -0,0 +1,11 @@
+package com.example.backend.entity.enums;
+
+/**
+ * Enumeration for notification outbox delivery states.
+ */
+public enum NotificationStatus {
+    PENDING,
+    SENT,
+    FAILED,
+    DISCARDED
+}
@@ -7,5 +7,6 @@ public enum RegistrationStatus {
     PENDING,
     CONFIRMED,
     CANCELLED,
-    ATTENDED
+    ATTENDED,
+    WAITLISTED
 }
@@ -0,0 +1,77 @@
+package com.example.backend.export;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * CSV with a header row. Fields containing a separator, quote or line break
+ * are quoted with embedded quotes doubled (RFC 4180). Text starting with a
+ * character spreadsheets read as a formula is prefixed with a single quote, so
+ * a registrant's name or team cannot run as a formula when the file is opened.
+ */
+class CsvRowWriter extends RowWriter {
+
+    private final Writer out;
+
+    CsvRowWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    void header(String[] labels) throws IOException {
+        line(labels);
+    }
+
+    @Override
+    void row(String[] labels, Object[] values) throws IOException {
+        line(values);
+    }
+
+    @Override
+    void flush() throws IOException {
+        out.flush();
+    }
+
+    private void line(Object[] fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            if (fields[i] instanceof CharSequence text) {
+                field(defuse(text.toString()));
+            } else if (fields[i] != null) {
+                field(fields[i].toString());
+            }
+        }
+        out.write("\r\n");
+    }
+
+    /**
+     * Neutralize text a spreadsheet would evaluate. Numbers are written by
+     * {@link #line} unchanged, so negative amounts stay numbers.
+     */
+    private static String defuse(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        char first = value.charAt(0);
+        boolean formula = first == '=' || first == '+' || first == '-' || first == '@'
+                || first == '\t' || first == '\r';
+        return formula ? "'" + value : value;
+    }
+
+    private void field(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.backend.export;
+
+import com.example.backend.repository.EventRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Attendee exports streamed straight from the database. Each export is one
+ * query read through a forward-only cursor inside a read-only transaction
+ * (PostgreSQL only honours the fetch size with autocommit off), so at most
+ * {@code export.fetch-size} rows are in memory however large the event is.
+ * Each running export holds a connection for as long as the client reads, so
+ * at most {@code export.max-concurrent} run at once.
+ */
+@Service
+public class ExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    private static final String REGISTRATIONS_SQL = """
+            SELECT r.id AS registration_id,
+                   r.registration_status::text AS registration_status,
+                   r.registration_date,
+                   r.attended_at,
+                   p.id AS user_id,
+                   p.full_name,
+                   p.email,
+                   p.phone,
+                   c.name AS college,
+                   r.is_team,
+                   r.team_name,
+                   r.team_size,
+                   r.payment_status::text AS payment_status,
+                   r.payment_amount,
+                   r.payment_method,
+                   r.transaction_id,
+                   r.paid_at,
+                   t.ticket_code,
+                   t.used_at AS ticket_used_at
+            FROM registrations r
+            JOIN profiles p ON p.id = r.user_id
+            LEFT JOIN colleges c ON c.id = p.college_id
+            LEFT JOIN tickets t ON t.registration_id = r.id
+            WHERE r.event_id = ?
+            ORDER BY r.registration_date, r.id
+            """;
+
+    // One row per member; teams without members still appear once with empty member columns
+    private static final String TEAMS_SQL = """
+            SELECT tm.id AS team_id,
+                   tm.team_name,
+                   tm.team_leader_name,
+                   tm.team_leader_email,
+                   tm.team_leader_phone,
+                   tm.team_leader_university_reg,
+                   tm.registration_id,
+                   r.registration_status::text AS registration_status,
+                   r.payment_status::text AS payment_status,
+                   m.id AS member_id,
+                   m.member_name,
+                   m.member_email,
+                   m.member_phone,
+                   m.university_registration_number,
+                   m.is_leader,
+                   m.joined_at
+            FROM teams tm
+            JOIN registrations r ON r.id = tm.registration_id
+            LEFT JOIN team_members m ON m.team_id = tm.id
+            WHERE tm.event_id = ?
+            ORDER BY tm.team_name, tm.id, m.is_leader DESC, m.joined_at, m.id
+            """;
+
+    private final EventRepository eventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+
+    public ExportService(EventRepository eventRepository,
+                         DataSource dataSource,
+                         PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper,
+                         @Value("${export.fetch-size:500}") int fetchSize,
+                         @Value("${export.max-concurrent:2}") int maxConcurrent) {
+        this.eventRepository = eventRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Registrations of an event with the registrant, their college and ticket.
+     * @param eventId the event ID
+     * @param format the output format
+     * @return a body that runs the query while the response is being written
+     * @throws IllegalArgumentException if the event does not exist
+     * @throws IllegalStateException if {@code export.max-concurrent} exports are running
+     */
+    public StreamingResponseBody registrations(UUID eventId, ExportFormat format) {
+        return stream("registrations", REGISTRATIONS_SQL, eventId, format);
+    }
+
+    /**
+     * Teams of an event joined to their members, one row per member.
+     * @param eventId the event ID
+     * @param format the output format
+     * @return a body that runs the query while the response is being written
+     * @throws IllegalArgumentException if the event does not exist
+     * @throws IllegalStateException if {@code export.max-concurrent} exports are running
+     */
+    public StreamingResponseBody teams(UUID eventId, ExportFormat format) {
+        return stream("teams", TEAMS_SQL, eventId, format);
+    }
+
+    private StreamingResponseBody stream(String name, String sql, UUID eventId, ExportFormat format) {
+        if (eventId == null || !eventRepository.existsById(eventId)) {
+            throw new IllegalArgumentException("Event not found");
+        }
+        // Taken here so a busy server answers before the response starts; the body releases it
+        if (!permits.tryAcquire()) {
+            throw new IllegalStateException("Too many exports running, please retry");
+        }
+        return out -> {
+            try {
+                long started = System.nanoTime();
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+                RowWriter rows = rowWriter(format, writer);
+                Long count = transactionTemplate.execute(status -> jdbcTemplate.query(sql, rs -> {
+                    try {
+                        return rows.writeAll(rs);
+                    } catch (IOException e) {
+                        // Client went away; rolling back closes the cursor
+                        throw new UncheckedIOException(e);
+                    }
+                }, eventId));
+                writer.flush();
+                log.debug("Exported {} {} rows of event {} as {} in {} ms",
+                        count, name, eventId, format, (System.nanoTime() - started) / 1_000_000);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private RowWriter rowWriter(ExportFormat format, Writer writer) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            JsonGenerator json = objectMapper.getFactory().createGenerator(writer);
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            return new NdjsonRowWriter(json);
+        }
+        return new CsvRowWriter(writer);
+    }
+}
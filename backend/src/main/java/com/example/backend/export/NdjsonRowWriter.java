@@ -0,0 +1,57 @@
+package com.example.backend.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Newline-delimited JSON: one object per row keyed by column label, with
+ * timestamps as ISO-8601 strings.
+ */
+class NdjsonRowWriter extends RowWriter {
+
+    private final JsonGenerator json;
+
+    NdjsonRowWriter(JsonGenerator json) {
+        this.json = json;
+        // Rows are separated by the newline written after each object
+        json.setRootValueSeparator(null);
+    }
+
+    @Override
+    void header(String[] labels) {
+    }
+
+    @Override
+    void row(String[] labels, Object[] values) throws IOException {
+        json.writeStartObject();
+        for (int i = 0; i < labels.length; i++) {
+            json.writeFieldName(labels[i]);
+            Object value = values[i];
+            if (value == null) {
+                json.writeNull();
+            } else if (value instanceof Boolean b) {
+                json.writeBoolean(b);
+            } else if (value instanceof Integer n) {
+                json.writeNumber(n);
+            } else if (value instanceof Long n) {
+                json.writeNumber(n);
+            } else if (value instanceof BigDecimal n) {
+                json.writeNumber(n);
+            } else if (value instanceof OffsetDateTime t) {
+                json.writeString(t.toString());
+            } else {
+                json.writeString(value.toString());
+            }
+        }
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    @Override
+    void flush() throws IOException {
+        json.flush();
+    }
+}
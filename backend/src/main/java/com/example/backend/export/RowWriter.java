@@ -0,0 +1,68 @@
+package com.example.backend.export;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+
+/**
+ * Writes a result set in an export format. Column labels and types are read
+ * once from the result set metadata and each row is written straight to the
+ * underlying stream as it is fetched, so nothing accumulates across rows.
+ */
+abstract class RowWriter {
+
+    /**
+     * Write the header and then every remaining row of the result set.
+     * @return number of rows written
+     */
+    final long writeAll(ResultSet rs) throws SQLException, IOException {
+        ResultSetMetaData meta = rs.getMetaData();
+        int count = meta.getColumnCount();
+        String[] labels = new String[count];
+        int[] types = new int[count];
+        for (int i = 0; i < count; i++) {
+            labels[i] = meta.getColumnLabel(i + 1);
+            types[i] = meta.getColumnType(i + 1);
+        }
+        header(labels);
+
+        Object[] values = new Object[count];
+        long rows = 0;
+        while (rs.next()) {
+            for (int i = 0; i < count; i++) {
+                values[i] = value(rs, i + 1, types[i]);
+            }
+            row(labels, values);
+            rows++;
+        }
+        flush();
+        return rows;
+    }
+
+    abstract void header(String[] labels) throws IOException;
+
+    abstract void row(String[] labels, Object[] values) throws IOException;
+
+    abstract void flush() throws IOException;
+
+    /**
+     * Timestamps as {@link OffsetDateTime}, numbers as {@link Number}, booleans
+     * as {@link Boolean}, everything else (text, UUIDs, enums) as a string.
+     */
+    private static Object value(ResultSet rs, int column, int type) throws SQLException {
+        Object value = switch (type) {
+            case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> rs.getObject(column, OffsetDateTime.class);
+            case Types.BOOLEAN, Types.BIT -> rs.getBoolean(column);
+            case Types.SMALLINT, Types.INTEGER -> rs.getInt(column);
+            case Types.BIGINT -> rs.getLong(column);
+            case Types.NUMERIC, Types.DECIMAL -> rs.getBigDecimal(column);
+            case Types.REAL, Types.DOUBLE, Types.FLOAT -> BigDecimal.valueOf(rs.getDouble(column));
+            default -> rs.getString(column);
+        };
+        return rs.wasNull() ? null : value;
+    }
+}
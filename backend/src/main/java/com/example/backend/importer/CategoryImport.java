@@ -0,0 +1,48 @@
+package com.example.backend.importer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Categories, upserted by name.
+ */
+final class CategoryImport extends ImportTarget {
+
+    private static final MultiRowUpsert UPSERT = new MultiRowUpsert("categories",
+            List.of("id", "name", "description", "icon_name", "created_at", "updated_at"),
+            "name",
+            List.of("description", "icon_name", "updated_at"),
+            "Category", null);
+
+    private final Map<String, UUID> idsByName = new HashMap<>();
+
+    CategoryImport(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.query("SELECT id, name FROM categories",
+                rs -> { idsByName.put(rs.getString(2), rs.getObject(1, UUID.class)); });
+    }
+
+    @Override
+    MultiRowUpsert upsert() {
+        return UPSERT;
+    }
+
+    @Override
+    PendingRow parse(ImportRecord record) {
+        String name = record.required("name");
+        OffsetDateTime now = OffsetDateTime.now();
+        UUID id = idsByName.computeIfAbsent(name, n -> UUID.randomUUID());
+        return new PendingRow(record.row(), name, new Object[] {
+                id,
+                name,
+                record.text("description"),
+                record.text("icon_name"),
+                now,
+                now
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.backend.importer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Colleges, upserted by name.
+ */
+final class CollegeImport extends ImportTarget {
+
+    private static final MultiRowUpsert UPSERT = new MultiRowUpsert("colleges",
+            List.of("id", "name", "location", "description", "logo_url", "website", "established_year",
+                    "contact_email", "contact_phone", "created_at", "updated_at"),
+            "name",
+            List.of("location", "description", "logo_url", "website", "established_year",
+                    "contact_email", "contact_phone", "updated_at"),
+            "College", null);
+
+    private final Map<String, UUID> idsByName = new HashMap<>();
+
+    CollegeImport(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.query("SELECT id, name FROM colleges",
+                rs -> { idsByName.put(rs.getString(2), rs.getObject(1, UUID.class)); });
+    }
+
+    @Override
+    MultiRowUpsert upsert() {
+        return UPSERT;
+    }
+
+    @Override
+    PendingRow parse(ImportRecord record) {
+        String name = record.required("name");
+        OffsetDateTime now = OffsetDateTime.now();
+        UUID id = idsByName.computeIfAbsent(name, n -> UUID.randomUUID());
+        return new PendingRow(record.row(), name, new Object[] {
+                id,
+                name,
+                record.required("location"),
+                record.text("description"),
+                record.text("logo_url"),
+                record.text("website"),
+                record.integer("established_year", null),
+                record.text("contact_email"),
+                record.text("contact_phone"),
+                now,
+                now
+        });
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.backend.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV: the first record is the header; quoted fields may contain
+ * separators, doubled quotes and line breaks. Blank lines are skipped.
+ */
+final class CsvRecordReader implements RecordReader {
+
+    private final Reader in;
+    private final StringBuilder field = new StringBuilder();
+    private String[] header;
+    private int pushedBack = -2;
+    private long row;
+
+    CsvRecordReader(Reader in) {
+        this.in = in;
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        if (header == null) {
+            List<String> names = readFields();
+            if (names == null) {
+                return null;
+            }
+            if (!names.isEmpty() && names.get(0).startsWith("\uFEFF")) {
+                names.set(0, names.get(0).substring(1));
+            }
+            header = names.stream().map(ImportRecord::key).toArray(String[]::new);
+        }
+        List<String> fields = readFields();
+        if (fields == null) {
+            return null;
+        }
+        row++;
+        if (fields.size() > header.length) {
+            throw new IOException("Row " + row + " has " + fields.size() + " fields, header has " + header.length);
+        }
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            values.put(header[i], fields.get(i).isEmpty() ? null : fields.get(i));
+        }
+        return new ImportRecord(row, values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Fields of the next non-blank record, or null at the end of the input.
+     */
+    private List<String> readFields() throws IOException {
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        int c;
+        while (true) {
+            c = read();
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(next);
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty() && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        unread(next);
+                    }
+                }
+                if (fields.isEmpty() && field.isEmpty() && !wasQuoted) {
+                    if (c == -1) {
+                        return null;
+                    }
+                    continue;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return in.read();
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.backend.importer;
+
+import com.example.backend.entity.enums.EventStatus;
+import com.example.backend.entity.enums.ParticipationType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Events, upserted by id. Rows without an id update the event with the same
+ * title, college and start date, if there is one. Categories and colleges are
+ * referenced by id or name and organizers by id or email; categories, colleges
+ * and existing events are preloaded, organizer emails are looked up once per
+ * batch and remembered.
+ */
+final class EventImport extends ImportTarget {
+
+    private static final MultiRowUpsert UPSERT = new MultiRowUpsert("events",
+            List.of("id", "title", "description", "image_url", "category_id", "college_id", "organizer_id",
+                    "start_date", "end_date", "location", "venue_details", "participation_type", "event_status",
+                    "team_size_min", "team_size_max", "max_attendees", "registration_deadline",
+                    "is_featured", "is_global", "individual_price", "team_base_price", "price_per_member",
+                    "has_custom_team_pricing", "created_at", "updated_at"),
+            "id",
+            List.of("title", "description", "image_url", "category_id", "college_id", "organizer_id",
+                    "start_date", "end_date", "location", "venue_details", "participation_type", "event_status",
+                    "team_size_min", "team_size_max", "max_attendees", "registration_deadline",
+                    "is_featured", "is_global", "individual_price", "team_base_price", "price_per_member",
+                    "has_custom_team_pricing", "updated_at"),
+            "Event", "id");
+
+    private static final int ORGANIZER = 6;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final References categories = new References("category");
+    private final References colleges = new References("college");
+    private final Map<String, UUID> eventsByNaturalKey = new HashMap<>();
+    private final Map<String, UUID> organizersByEmail = new HashMap<>();
+    private final Set<String> unknownEmails = new HashSet<>();
+
+    EventImport(JdbcTemplate jdbcTemplate) {
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        jdbcTemplate.query("SELECT id, name FROM categories",
+                rs -> { categories.put(rs.getObject(1, UUID.class), rs.getString(2)); });
+        jdbcTemplate.query("SELECT id, name FROM colleges",
+                rs -> { colleges.put(rs.getObject(1, UUID.class), rs.getString(2)); });
+        jdbcTemplate.query("SELECT id, title, college_id, start_date FROM events",
+                rs -> {
+                    eventsByNaturalKey.put(naturalKey(rs.getString(2), rs.getObject(3, UUID.class),
+                            rs.getObject(4, OffsetDateTime.class)), rs.getObject(1, UUID.class));
+                });
+    }
+
+    @Override
+    MultiRowUpsert upsert() {
+        return UPSERT;
+    }
+
+    @Override
+    PendingRow parse(ImportRecord record) {
+        String title = record.required("title");
+        UUID categoryId = categories.resolve(record.uuid("category_id"), record.text("category", "category_name"));
+        UUID collegeId = colleges.resolve(record.uuid("college_id"), record.text("college", "college_name"));
+
+        Object organizer = record.uuid("organizer_id");
+        if (organizer == null) {
+            String email = record.text("organizer_email", "organizer");
+            if (email == null) {
+                throw new IllegalArgumentException("organizer_id or organizer_email is required");
+            }
+            email = email.toLowerCase(Locale.ROOT);
+            if (unknownEmails.contains(email)) {
+                throw new IllegalArgumentException("Organizer not found: " + email);
+            }
+            // Replaced by the profile ID in resolve() when not known yet
+            organizer = organizersByEmail.containsKey(email) ? organizersByEmail.get(email) : email;
+        }
+
+        OffsetDateTime startDate = record.timestamp("start_date");
+        OffsetDateTime endDate = record.timestamp("end_date");
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("start_date and end_date are required");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("end_date is before start_date");
+        }
+        int teamSizeMin = record.integer("team_size_min", 1);
+        int teamSizeMax = record.integer("team_size_max", teamSizeMin);
+        if (teamSizeMin < 1 || teamSizeMax < teamSizeMin) {
+            throw new IllegalArgumentException("Invalid team size range " + teamSizeMin + "-" + teamSizeMax);
+        }
+        BigDecimal individualPrice = price(record, "individual_price");
+        BigDecimal teamBasePrice = price(record, "team_base_price");
+        BigDecimal pricePerMember = price(record, "price_per_member");
+
+        UUID id = record.uuid("id");
+        if (id == null) {
+            id = eventsByNaturalKey.computeIfAbsent(naturalKey(title, collegeId, startDate), k -> UUID.randomUUID());
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        return new PendingRow(record.row(), id.toString(), new Object[] {
+                id,
+                title,
+                record.text("description"),
+                record.text("image_url"),
+                categoryId,
+                collegeId,
+                organizer,
+                startDate,
+                endDate,
+                record.required("location"),
+                record.text("venue_details"),
+                record.enumValue("participation_type", ParticipationType.class, ParticipationType.INDIVIDUAL),
+                record.enumValue("event_status", EventStatus.class, EventStatus.DRAFT),
+                teamSizeMin,
+                teamSizeMax,
+                record.integer("max_attendees", null),
+                record.timestamp("registration_deadline"),
+                record.bool(false, "is_featured", "featured"),
+                record.bool(false, "is_global", "global"),
+                individualPrice,
+                teamBasePrice,
+                pricePerMember,
+                record.bool(false, "has_custom_team_pricing"),
+                now,
+                now
+        });
+    }
+
+    @Override
+    List<PendingRow> resolve(List<PendingRow> rows, BiConsumer<Long, String> reject) {
+        Set<String> lookup = new LinkedHashSet<>();
+        for (PendingRow row : rows) {
+            if (row.values()[ORGANIZER] instanceof String email && !organizersByEmail.containsKey(email)) {
+                lookup.add(email);
+            }
+        }
+        if (!lookup.isEmpty()) {
+            namedJdbcTemplate.query("SELECT id, email FROM profiles WHERE lower(email) IN (:emails)",
+                    Map.of("emails", lookup),
+                    rs -> {
+                        organizersByEmail.put(rs.getString(2).toLowerCase(Locale.ROOT), rs.getObject(1, UUID.class));
+                    });
+        }
+
+        List<PendingRow> resolved = new ArrayList<>(rows.size());
+        for (PendingRow row : rows) {
+            if (row.values()[ORGANIZER] instanceof String email) {
+                UUID organizerId = organizersByEmail.get(email);
+                if (organizerId == null) {
+                    unknownEmails.add(email);
+                    reject.accept(row.row(), "Organizer not found: " + email);
+                    continue;
+                }
+                row.values()[ORGANIZER] = organizerId;
+            }
+            resolved.add(row);
+        }
+        return resolved;
+    }
+
+    private static BigDecimal price(ImportRecord record, String name) {
+        BigDecimal price = record.decimal(name, BigDecimal.ZERO);
+        if (price.signum() < 0) {
+            throw new IllegalArgumentException(name + " must not be negative");
+        }
+        return price;
+    }
+
+    private static String naturalKey(String title, UUID collegeId, OffsetDateTime startDate) {
+        return title + '\u0000' + collegeId + '\u0000' + startDate.toInstant();
+    }
+
+    /**
+     * IDs of a referenced table, addressable by ID or by (case-insensitive) name.
+     */
+    private static final class References {
+
+        private final String name;
+        private final Set<UUID> ids = new HashSet<>();
+        private final Map<String, UUID> idsByName = new HashMap<>();
+
+        private References(String name) {
+            this.name = name;
+        }
+
+        private void put(UUID id, String displayName) {
+            ids.add(id);
+            idsByName.put(displayName.toLowerCase(Locale.ROOT), id);
+        }
+
+        private UUID resolve(UUID id, String displayName) {
+            if (id != null) {
+                if (!ids.contains(id)) {
+                    throw new IllegalArgumentException(name + " not found: " + id);
+                }
+                return id;
+            }
+            if (displayName == null) {
+                throw new IllegalArgumentException(name + "_id or " + name + " name is required");
+            }
+            UUID byName = idsByName.get(displayName.toLowerCase(Locale.ROOT));
+            if (byName == null) {
+                throw new IllegalArgumentException(name + " not found: " + displayName);
+            }
+            return byName;
+        }
+    }
+}
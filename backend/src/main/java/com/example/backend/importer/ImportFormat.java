@@ -0,0 +1,36 @@
+package com.example.backend.importer;
+
+import java.util.Locale;
+
+/**
+ * Input formats of bulk imports.
+ */
+public enum ImportFormat {
+    /** Comma separated values with a header row. */
+    CSV,
+    /** A JSON array of objects, or one object per line (NDJSON). */
+    JSON;
+
+    /**
+     * Pick the format from an explicit {@code format} parameter, falling back
+     * to the request content type and then to CSV.
+     * @throws IllegalArgumentException if the explicit format is not supported
+     */
+    public static ImportFormat of(String format, String contentType) {
+        if (format != null && !format.isBlank()) {
+            String value = format.trim().toUpperCase(Locale.ROOT);
+            if (value.equals("NDJSON")) {
+                return JSON;
+            }
+            try {
+                return valueOf(value);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported import format: " + format + " (use csv or json)");
+            }
+        }
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("json")) {
+            return JSON;
+        }
+        return CSV;
+    }
+}
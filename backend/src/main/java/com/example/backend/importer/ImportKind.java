@@ -0,0 +1,27 @@
+package com.example.backend.importer;
+
+import java.util.Locale;
+
+/**
+ * Tables that can be bulk imported.
+ */
+public enum ImportKind {
+    /** Upserted by name. */
+    COLLEGES,
+    /** Upserted by name. */
+    CATEGORIES,
+    /** Upserted by id, or by title, college and start date when no id is given. */
+    EVENTS;
+
+    /**
+     * Parse a path segment such as {@code colleges}.
+     * @throws IllegalArgumentException if nothing can be imported under that name
+     */
+    public static ImportKind parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Unsupported import: " + value + " (use colleges, categories or events)");
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.backend.importer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One input row. Field names are matched loosely, so {@code start_date},
+ * {@code startDate} and {@code Start Date} are the same field. Typed getters
+ * throw {@link IllegalArgumentException} with a message fit for the error report.
+ */
+final class ImportRecord {
+
+    private final long row;
+    private final Map<String, String> values;
+
+    ImportRecord(long row, Map<String, String> values) {
+        this.row = row;
+        this.values = values;
+    }
+
+    /**
+     * Normalize a field name: lower case without separators.
+     */
+    static String key(String name) {
+        StringBuilder key = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '_' && c != '-' && c != '.' && !Character.isWhitespace(c)) {
+                key.append(Character.toLowerCase(c));
+            }
+        }
+        return key.toString();
+    }
+
+    long row() {
+        return row;
+    }
+
+    /**
+     * The trimmed value of the first of the given fields that is not blank.
+     */
+    String text(String... names) {
+        for (String name : names) {
+            String value = values.get(key(name));
+            if (value != null && !value.isBlank()) {
+                return value.trim();
+            }
+        }
+        return null;
+    }
+
+    String required(String name) {
+        String value = text(name);
+        if (value == null) {
+            throw new IllegalArgumentException(name + " is required");
+        }
+        return value;
+    }
+
+    UUID uuid(String name) {
+        String value = text(name);
+        try {
+            return value != null ? UUID.fromString(value) : null;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    Integer integer(String name, Integer defaultValue) {
+        String value = text(name);
+        try {
+            return value != null ? Integer.valueOf(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    BigDecimal decimal(String name, BigDecimal defaultValue) {
+        String value = text(name);
+        try {
+            return value != null ? new BigDecimal(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    boolean bool(boolean defaultValue, String... names) {
+        String value = text(names);
+        if (value == null) {
+            return defaultValue;
+        }
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "yes", "y", "1" -> true;
+            case "false", "no", "n", "0" -> false;
+            default -> throw new IllegalArgumentException("Invalid " + names[0] + ": " + value);
+        };
+    }
+
+    /**
+     * An ISO-8601 timestamp; values without an offset are taken as UTC.
+     */
+    OffsetDateTime timestamp(String name) {
+        String value = text(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(value).atOffset(ZoneOffset.UTC);
+            } catch (DateTimeParseException e2) {
+                throw new IllegalArgumentException("Invalid " + name + ": " + value);
+            }
+        }
+    }
+
+    <E extends Enum<E>> E enumValue(String name, Class<E> type, E defaultValue) {
+        String value = text(name);
+        try {
+            return value != null ? Enum.valueOf(type, value.toUpperCase(Locale.ROOT)) : defaultValue;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+}
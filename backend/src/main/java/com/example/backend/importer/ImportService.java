@@ -0,0 +1,204 @@
+package com.example.backend.importer;
+
+import com.example.backend.changes.ChangeLog;
+import com.example.backend.dto.ImportReport;
+import com.example.backend.search.SearchService;
+import com.example.backend.stats.StatsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bulk import of colleges, categories and events. Input is parsed one row at a
+ * time; valid rows are collected into batches of {@code import.batch-size} and
+ * each batch is written with a single multi-row upsert in its own transaction.
+ * When the database rejects a batch, its rows are retried one by one so only
+ * the offending rows fail. Imports run one at a time to leave the small
+ * connection pool to regular traffic.
+ */
+@Service
+public class ImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final SearchService searchService;
+    private final StatsService statsService;
+    private final ChangeLog changeLog;
+    private final int batchSize;
+    private final int maxReportedErrors;
+    private final Semaphore permits;
+
+    public ImportService(DataSource dataSource,
+                         PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper,
+                         SearchService searchService,
+                         StatsService statsService,
+                         ChangeLog changeLog,
+                         @Value("${import.batch-size:500}") int batchSize,
+                         @Value("${import.max-reported-errors:1000}") int maxReportedErrors,
+                         @Value("${import.max-concurrent:1}") int maxConcurrent) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.searchService = searchService;
+        this.statsService = statsService;
+        this.changeLog = changeLog;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Import rows from a stream.
+     * @param kind what the rows are
+     * @param format how the rows are encoded
+     * @param in the input, read to the end
+     * @return counts and per-row errors; rows before a malformed row are kept
+     * @throws IllegalStateException if another import is running
+     */
+    public ImportReport importRows(ImportKind kind, ImportFormat format, InputStream in) {
+        if (!permits.tryAcquire()) {
+            throw new IllegalStateException("Another import is running");
+        }
+        Progress progress = new Progress();
+        long started = System.nanoTime();
+        try {
+            ImportTarget target = switch (kind) {
+                case COLLEGES -> new CollegeImport(jdbcTemplate);
+                case CATEGORIES -> new CategoryImport(jdbcTemplate);
+                case EVENTS -> new EventImport(jdbcTemplate);
+            };
+            List<ImportTarget.PendingRow> batch = new ArrayList<>(batchSize);
+            Set<String> keys = new HashSet<>();
+            try (RecordReader reader = open(format, in)) {
+                ImportRecord record;
+                while ((record = reader.next()) != null) {
+                    progress.rows++;
+                    ImportTarget.PendingRow row;
+                    try {
+                        row = target.parse(record);
+                    } catch (IllegalArgumentException e) {
+                        progress.reject(record.row(), e.getMessage());
+                        continue;
+                    }
+                    // ON CONFLICT cannot touch the same row twice in one statement
+                    if (!keys.add(row.key())) {
+                        write(target, batch, progress);
+                        keys.clear();
+                        keys.add(row.key());
+                    }
+                    batch.add(row);
+                    if (batch.size() >= batchSize) {
+                        write(target, batch, progress);
+                        keys.clear();
+                    }
+                }
+            } catch (IOException e) {
+                progress.aborted = "Stopped after row " + progress.rows + ": " + e.getMessage();
+            }
+            write(target, batch, progress);
+        } finally {
+            permits.release();
+            if (progress.inserted + progress.updated > 0) {
+                searchService.rebuild();
+                statsService.markDirty();
+            }
+        }
+
+        long durationMs = (System.nanoTime() - started) / 1_000_000;
+        log.info("Imported {} {}: {} inserted, {} updated, {} failed in {} ms",
+                progress.rows, kind, progress.inserted, progress.updated, progress.failed, durationMs);
+        return new ImportReport(kind, format, progress.rows, progress.inserted, progress.updated, progress.failed,
+                List.copyOf(progress.errors), progress.failed > progress.errors.size(), progress.aborted, durationMs);
+    }
+
+    private RecordReader open(ImportFormat format, InputStream in) throws IOException {
+        if (format == ImportFormat.JSON) {
+            return new JsonRecordReader(objectMapper.getFactory().createParser(in));
+        }
+        return new CsvRecordReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 16 * 1024));
+    }
+
+    /**
+     * Write a batch and clear it.
+     */
+    private void write(ImportTarget target, List<ImportTarget.PendingRow> batch, Progress progress) {
+        List<ImportTarget.PendingRow> rows = target.resolve(List.copyOf(batch), progress::reject);
+        batch.clear();
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Object[]> values = rows.stream().map(ImportTarget.PendingRow::values).toList();
+        boolean recordChanges = changeLog.isEnabled();
+        try {
+            Integer inserted = transactionTemplate.execute(status ->
+                    target.upsert().execute(jdbcTemplate, values, recordChanges));
+            progress.written(rows.size(), inserted != null ? inserted : 0);
+        } catch (DataAccessException e) {
+            log.debug("Batch of {} rows rejected, retrying row by row", rows.size(), e);
+            for (ImportTarget.PendingRow row : rows) {
+                try {
+                    Integer inserted = transactionTemplate.execute(status ->
+                            target.upsert().execute(jdbcTemplate, List.<Object[]>of(row.values()), recordChanges));
+                    progress.written(1, inserted != null ? inserted : 0);
+                } catch (DataAccessException rowError) {
+                    progress.reject(row.row(), firstLine(rowError.getMostSpecificCause().getMessage()));
+                }
+            }
+        }
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "Rejected by the database";
+        }
+        int newline = message.indexOf('\n');
+        return newline >= 0 ? message.substring(0, newline) : message;
+    }
+
+    /**
+     * Counters and the (capped) error list of a running import.
+     */
+    private final class Progress {
+
+        private long rows;
+        private long inserted;
+        private long updated;
+        private long failed;
+        private final List<ImportReport.RowError> errors = new ArrayList<>();
+        private String aborted;
+
+        private void written(int count, int insertedCount) {
+            inserted += insertedCount;
+            updated += count - insertedCount;
+        }
+
+        private void reject(long row, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportReport.RowError(row, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.backend.importer;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * How rows of one {@link ImportKind} are validated, keyed and written.
+ * Instances live for a single import and hold its preloaded lookup maps.
+ */
+abstract class ImportTarget {
+
+    /**
+     * A validated row waiting for its batch to be written.
+     * @param row input row number, for the error report
+     * @param key conflict key; a batch never holds two rows with the same key
+     * @param values column values in {@link #upsert()} order
+     */
+    record PendingRow(long row, String key, Object[] values) {
+    }
+
+    abstract MultiRowUpsert upsert();
+
+    /**
+     * Validate a row and resolve what can be resolved from the preloaded maps.
+     * @throws IllegalArgumentException with the reason the row is rejected
+     */
+    abstract PendingRow parse(ImportRecord record);
+
+    /**
+     * Resolve references that need a lookup, once per batch.
+     * @param reject receives the row number and reason of rows that cannot be written
+     * @return the rows that can be written
+     */
+    List<PendingRow> resolve(List<PendingRow> rows, BiConsumer<Long, String> reject) {
+        return rows;
+    }
+}
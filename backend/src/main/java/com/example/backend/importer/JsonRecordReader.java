@@ -0,0 +1,64 @@
+package com.example.backend.importer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Either a JSON array of objects or a sequence of top-level objects (NDJSON).
+ * Nested objects are flattened, so {@code {"college": {"id": ...}}} reads as
+ * a {@code collegeId} field.
+ */
+final class JsonRecordReader implements RecordReader {
+
+    private final JsonParser parser;
+    private Boolean array;
+    private long row;
+
+    JsonRecordReader(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (array == null) {
+            array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+        }
+        if (token == null || token == JsonToken.END_ARRAY) {
+            return null;
+        }
+        row++;
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException("Row " + row + " is not a JSON object");
+        }
+        Map<String, String> values = new HashMap<>();
+        readObject("", values);
+        return new ImportRecord(row, values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private void readObject(String prefix, Map<String, String> values) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = prefix + ImportRecord.key(parser.currentName());
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_OBJECT) {
+                readObject(name, values);
+            } else if (value == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+            } else if (value != JsonToken.VALUE_NULL) {
+                values.put(name, parser.getText());
+            }
+        }
+    }
+}
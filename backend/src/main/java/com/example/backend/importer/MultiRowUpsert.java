@@ -0,0 +1,96 @@
+package com.example.backend.importer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code INSERT ... VALUES (...), (...) ON CONFLICT ... DO UPDATE} for a batch
+ * of rows in one statement and one round trip. The conflict target must be
+ * unique within a batch, callers split batches on repeated keys. When asked
+ * to, the same statement records each written row in {@code entity_changes},
+ * since these writes bypass the entity listeners that normally capture them.
+ */
+final class MultiRowUpsert {
+
+    private final String table;
+    private final List<String> columns;
+    private final String conflictTarget;
+    private final List<String> updateColumns;
+    private final String entity;
+    private final String eventIdColumn;
+    private final ConcurrentHashMap<Integer, String> sqlByRows = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, String> recordingSqlByRows = new ConcurrentHashMap<>();
+
+    /**
+     * @param entity entity name the rows are recorded under in {@code entity_changes}
+     * @param eventIdColumn column holding the event the row belongs to, or null
+     */
+    MultiRowUpsert(String table, List<String> columns, String conflictTarget, List<String> updateColumns,
+                   String entity, String eventIdColumn) {
+        this.table = table;
+        this.columns = columns;
+        this.conflictTarget = conflictTarget;
+        this.updateColumns = updateColumns;
+        this.entity = entity;
+        this.eventIdColumn = eventIdColumn;
+    }
+
+    int columnCount() {
+        return columns.size();
+    }
+
+    /**
+     * Upsert the rows. Enum values are sent untyped so they fit both enum and
+     * text columns.
+     * @param rows column values in {@code columns} order
+     * @param recordChanges whether to record the written rows in {@code entity_changes}
+     * @return number of rows that were inserted rather than updated
+     */
+    int execute(JdbcTemplate jdbcTemplate, List<Object[]> rows, boolean recordChanges) {
+        List<Object> args = new ArrayList<>(rows.size() * columns.size());
+        for (Object[] row : rows) {
+            for (Object value : row) {
+                args.add(value instanceof Enum<?> e ? new SqlParameterValue(Types.OTHER, e.name()) : value);
+            }
+        }
+        // xmax is 0 only for rows this statement inserted
+        String sql = recordChanges
+                ? recordingSqlByRows.computeIfAbsent(rows.size(), this::recordingSql)
+                : sqlByRows.computeIfAbsent(rows.size(), this::sql);
+        List<Boolean> inserted = jdbcTemplate.query(sql,
+                (rs, i) -> rs.getBoolean(1), args.toArray());
+        return (int) inserted.stream().filter(Boolean::booleanValue).count();
+    }
+
+    private String sql(int rows) {
+        return upsertSql(rows) + " RETURNING (xmax = 0)";
+    }
+
+    private String recordingSql(int rows) {
+        return "WITH upserted AS (" + upsertSql(rows)
+                + " RETURNING id, (xmax = 0) AS inserted, " + (eventIdColumn != null ? eventIdColumn : "NULL::uuid")
+                + " AS event_id), recorded AS (INSERT INTO entity_changes (entity, entity_id, operation, event_id)"
+                + " SELECT '" + entity + "', id, CASE WHEN inserted THEN 'INSERT' ELSE 'UPDATE' END, event_id"
+                + " FROM upserted) SELECT inserted FROM upserted";
+    }
+
+    private String upsertSql(int n) {
+        String placeholders = "(" + String.join(", ", columns.stream().map(c -> "?").toList()) + ")";
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                .append(" (").append(String.join(", ", columns)).append(") VALUES ");
+        for (int i = 0; i < n; i++) {
+            sql.append(i > 0 ? ", " : "").append(placeholders);
+        }
+        sql.append(" ON CONFLICT (").append(conflictTarget).append(") DO UPDATE SET ");
+        for (int i = 0; i < updateColumns.size(); i++) {
+            String column = updateColumns.get(i);
+            sql.append(i > 0 ? ", " : "").append(column).append(" = EXCLUDED.").append(column);
+        }
+        return sql.toString();
+    }
+}
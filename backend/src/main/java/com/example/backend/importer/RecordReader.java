@@ -0,0 +1,17 @@
+package com.example.backend.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads input rows one at a time, so an import never holds more than the
+ * current batch in memory.
+ */
+interface RecordReader extends Closeable {
+
+    /**
+     * The next row, or null at the end of the input.
+     * @throws IOException if the input cannot be read or is malformed
+     */
+    ImportRecord next() throws IOException;
+}
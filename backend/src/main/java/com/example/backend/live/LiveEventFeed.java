@@ -0,0 +1,392 @@
+package com.example.backend.live;
+
+import com.example.backend.changes.ChangeStream;
+import com.example.backend.changes.EntityChange;
+import com.example.backend.dto.EventSeats;
+import com.example.backend.entity.enums.EventStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pushes seat counts and status of events to connected viewers over SSE.
+ * Viewers of one event share a topic holding the last state sent. Event
+ * changes arrive from the {@link ChangeStream}; the events with viewers are
+ * re-read in one query, and a state that actually changed is serialized once
+ * and written to every viewer of its event. A topic is read from the database
+ * when its first viewer connects and dropped when its last one leaves, so the
+ * cost per change does not grow with the number of viewers.
+ *
+ * <p>Reads run on a single publisher thread, off the scheduler. Writes do not:
+ * a write to a viewer whose client stopped reading blocks, so each viewer has
+ * a queue of up to {@code live.viewer-queue} events drained by a pool of
+ * {@code live.sender-threads} threads, one drain per viewer at a time. A viewer
+ * whose queue is full or whose connection fails is dropped; browsers
+ * reconnect on their own.
+ */
+@Service
+public class LiveEventFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveEventFeed.class);
+
+    private static final String SEATS_EVENT = "seats";
+    private static final String DELETED_EVENT = "deleted";
+
+    /**
+     * Queued after a viewer's last event to close its stream once that is written.
+     */
+    private static final Supplier<SseEmitter.SseEventBuilder> COMPLETE = () -> null;
+
+    private static final String STATE_SQL = """
+            SELECT id, current_attendees, max_attendees, upper(event_status::text) AS event_status,
+                   registration_deadline
+            FROM events
+            WHERE id IN (:ids)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int maxViewers;
+    private final int viewerQueue;
+
+    private final ConcurrentHashMap<UUID, Topic> topics = new ConcurrentHashMap<>();
+    private final Set<UUID> changed = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean publishQueued = new AtomicBoolean();
+    private final AtomicInteger viewers = new AtomicInteger();
+    private final ExecutorService publisher;
+    private final ThreadPoolExecutor sender;
+
+    public LiveEventFeed(DataSource dataSource,
+                         ObjectMapper objectMapper,
+                         ChangeStream changeStream,
+                         @Value("${live.timeout-ms:1800000}") long timeoutMillis,
+                         @Value("${live.max-viewers:8000}") int maxViewers,
+                         @Value("${live.sender-threads:4}") int senderThreads,
+                         @Value("${live.viewer-queue:16}") int viewerQueue) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.maxViewers = maxViewers;
+        this.viewerQueue = viewerQueue;
+        this.publisher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // A viewer has at most one drain queued or running, so the queue holds every viewer
+        AtomicInteger senders = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxViewers)), runnable -> {
+                    Thread thread = new Thread(runnable, "live-sender-" + senders.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        changeStream.subscribe(this::changed);
+    }
+
+    /**
+     * Open a feed of an event. The current state is sent first, then every change to it.
+     * @param eventId the event ID
+     * @return the emitter to return from the controller
+     * @throws IllegalArgumentException if the event does not exist
+     * @throws IllegalStateException if this instance already serves {@code live.max-viewers} viewers
+     */
+    public SseEmitter subscribe(UUID eventId) {
+        if (viewers.incrementAndGet() > maxViewers) {
+            viewers.decrementAndGet();
+            throw new IllegalStateException("Too many live viewers, please retry");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Viewer viewer;
+        try {
+            viewer = join(eventId, emitter);
+        } catch (RuntimeException e) {
+            viewers.decrementAndGet();
+            throw e;
+        }
+        Runnable leave = () -> leave(viewer.topic, viewer);
+        emitter.onCompletion(leave);
+        emitter.onTimeout(leave);
+        emitter.onError(error -> leave.run());
+        return emitter;
+    }
+
+    /**
+     * Send a comment to every viewer, so proxies keep idle connections open
+     * and closed ones are noticed.
+     */
+    @Scheduled(fixedDelayString = "${live.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        if (!topics.isEmpty()) {
+            publisher.execute(() -> topics.values()
+                    .forEach(topic -> topic.broadcast(() -> SseEmitter.event().comment(""))));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        publisher.shutdown();
+        publisher.awaitTermination(5, TimeUnit.SECONDS);
+        sender.shutdownNow();
+        topics.values().forEach(topic -> topic.members.forEach(viewer -> viewer.emitter.complete()));
+    }
+
+    /**
+     * Add a viewer to the event's topic, reading the event when the topic is new,
+     * and queue the current state for it. Queued under the topic's lock, so a
+     * newer state cannot reach the viewer first.
+     */
+    private Viewer join(UUID eventId, SseEmitter emitter) {
+        while (true) {
+            Topic topic = topics.computeIfAbsent(eventId, Topic::new);
+            synchronized (topic) {
+                if (topic.closed) {
+                    // Its last viewer left while we looked it up
+                    continue;
+                }
+                if (topic.json == null) {
+                    EventSeats state = null;
+                    try {
+                        state = read(Set.of(eventId)).get(eventId);
+                    } finally {
+                        if (state == null) {
+                            topic.closed = true;
+                            topics.remove(eventId, topic);
+                        }
+                    }
+                    if (state == null) {
+                        throw new IllegalArgumentException("Event not found");
+                    }
+                    topic.update(state);
+                }
+                Viewer viewer = new Viewer(topic, emitter);
+                topic.members.add(viewer);
+                String json = topic.json;
+                viewer.offer(() -> SseEmitter.event().name(SEATS_EVENT).data(json, MediaType.APPLICATION_JSON));
+                return viewer;
+            }
+        }
+    }
+
+    private void leave(Topic topic, Viewer viewer) {
+        if (!topic.members.remove(viewer)) {
+            return;
+        }
+        viewers.decrementAndGet();
+        synchronized (topic) {
+            if (topic.members.isEmpty()) {
+                topic.closed = true;
+                topics.remove(topic.eventId, topic);
+            }
+        }
+    }
+
+    /**
+     * Note events with viewers that changed; runs on the scheduler thread, so
+     * the reading and sending is handed to the publisher.
+     */
+    private void changed(List<EntityChange> changes) {
+        for (EntityChange change : changes) {
+            if ("Event".equals(change.entity()) && topics.containsKey(change.entityId())) {
+                changed.add(change.entityId());
+            }
+        }
+        if (!changed.isEmpty() && publishQueued.compareAndSet(false, true)) {
+            publisher.execute(this::publish);
+        }
+    }
+
+    private void publish() {
+        publishQueued.set(false);
+        Set<UUID> eventIds = Set.copyOf(changed);
+        changed.removeAll(eventIds);
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        Map<UUID, EventSeats> states;
+        try {
+            states = read(eventIds);
+        } catch (RuntimeException e) {
+            log.warn("Could not read the state of {} live events", eventIds.size(), e);
+            changed.addAll(eventIds);
+            return;
+        }
+        for (UUID eventId : eventIds) {
+            Topic topic = topics.get(eventId);
+            if (topic == null) {
+                continue;
+            }
+            EventSeats state = states.get(eventId);
+            if (state == null) {
+                topic.broadcast(() -> SseEmitter.event().name(DELETED_EVENT).data(eventId.toString()));
+                topic.broadcast(COMPLETE);
+            } else if (topic.update(state)) {
+                String json = topic.json;
+                topic.broadcast(() -> SseEmitter.event().name(SEATS_EVENT).data(json, MediaType.APPLICATION_JSON));
+            }
+        }
+    }
+
+    private Map<UUID, EventSeats> read(Set<UUID> eventIds) {
+        Map<UUID, EventSeats> states = new HashMap<>();
+        jdbcTemplate.query(STATE_SQL, Map.of("ids", eventIds), rs -> {
+            EventSeats state = state(rs);
+            states.put(state.eventId(), state);
+        });
+        return states;
+    }
+
+    private static EventSeats state(ResultSet rs) throws SQLException {
+        int current = rs.getInt("current_attendees");
+        Integer max = (Integer) rs.getObject("max_attendees");
+        String status = rs.getString("event_status");
+        return new EventSeats(
+                rs.getObject("id", UUID.class),
+                current,
+                max,
+                max != null ? Math.max(0, max - current) : null,
+                status != null ? EventStatus.valueOf(status.toUpperCase(Locale.ROOT)) : null,
+                rs.getObject("registration_deadline", OffsetDateTime.class));
+    }
+
+    /**
+     * Viewers of one event and the state they were last sent.
+     */
+    private final class Topic {
+
+        private final UUID eventId;
+        private final List<Viewer> members = new CopyOnWriteArrayList<>();
+        private EventSeats state;
+        private volatile String json;
+        private boolean closed;
+
+        private Topic(UUID eventId) {
+            this.eventId = eventId;
+        }
+
+        /**
+         * Take a new state, returning whether it differs from the last one.
+         */
+        private synchronized boolean update(EventSeats next) {
+            if (Objects.equals(state, next)) {
+                return false;
+            }
+            try {
+                json = objectMapper.writeValueAsString(next);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Event seats could not be serialized", e);
+            }
+            state = next;
+            return true;
+        }
+
+        /**
+         * Queue an event for every viewer. Builders are single-use, so each viewer
+         * gets its own around the shared, already serialized payload.
+         */
+        private void broadcast(Supplier<SseEmitter.SseEventBuilder> event) {
+            members.forEach(viewer -> viewer.offer(event));
+        }
+    }
+
+    /**
+     * One connection and the events not yet written to it. Only one sender
+     * drains a viewer at a time, so its events go out in order.
+     */
+    private final class Viewer {
+
+        private final Topic topic;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Supplier<SseEmitter.SseEventBuilder>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Viewer(Topic topic, SseEmitter emitter) {
+            this.topic = topic;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(Math.max(1, viewerQueue));
+        }
+
+        private void offer(Supplier<SseEmitter.SseEventBuilder> event) {
+            if (!queue.offer(event)) {
+                // Not reading, or too slow to keep up; it reconnects and starts from the current state
+                drop();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    drop();
+                }
+            }
+        }
+
+        private void drain() {
+            Supplier<SseEmitter.SseEventBuilder> event;
+            while ((event = queue.poll()) != null) {
+                if (event == COMPLETE) {
+                    leave(topic, this);
+                    emitter.complete();
+                    continue;
+                }
+                try {
+                    emitter.send(event.get());
+                } catch (IOException | IllegalStateException e) {
+                    // Closed by the client; the container reports it and the viewer leaves
+                    queue.clear();
+                    leave(topic, this);
+                }
+            }
+            draining.set(false);
+            // An event offered after the last poll but before the flag was cleared
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void drop() {
+            queue.clear();
+            leave(topic, this);
+            emitter.complete();
+        }
+    }
+}
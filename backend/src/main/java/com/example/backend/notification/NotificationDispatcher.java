@@ -0,0 +1,349 @@
+package com.example.backend.notification;
+
+import com.example.backend.entity.enums.NotificationKind;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the notification outbox. Each poll first fans pending event-change
+ * notices out to the event's registrants, then claims due rows in batches of
+ * {@code notifications.batch-size} for a fixed pool of
+ * {@code notifications.workers} threads. A worker sends its whole batch over
+ * one SMTP connection. Failed messages are retried with exponential backoff
+ * until {@code notifications.max-attempts}.
+ *
+ * <p>Claims use {@code FOR UPDATE SKIP LOCKED} and push the row's next attempt
+ * out by a lease, so several instances can drain the same table. A row whose
+ * worker died is picked up again once the lease runs out.
+ */
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private static final DateTimeFormatter WHEN =
+            DateTimeFormatter.ofPattern("EEE d MMM yyyy, HH:mm xxx", Locale.ENGLISH);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String FAN_OUT_SQL = """
+            WITH due AS (
+                DELETE FROM notification_outbox
+                WHERE id IN (SELECT id FROM notification_outbox
+                             WHERE status = 'PENDING' AND kind = 'EVENT_UPDATED' AND registration_id IS NULL
+                             FOR UPDATE SKIP LOCKED)
+                RETURNING event_id)
+            INSERT INTO notification_outbox (kind, event_id, registration_id)
+            SELECT DISTINCT 'EVENT_UPDATED', r.event_id, r.id
+            FROM registrations r
+            JOIN due d ON d.event_id = r.event_id
+            WHERE upper(r.registration_status::text) <> 'CANCELLED'
+              AND NOT EXISTS (SELECT 1 FROM notification_outbox o
+                              WHERE o.registration_id = r.id AND o.kind = 'EVENT_UPDATED'
+                                AND o.status = 'PENDING' AND o.attempts = 0)
+            """;
+
+    private static final String CLAIM_SQL = """
+            WITH claimed AS (
+                UPDATE notification_outbox
+                SET attempts = attempts + 1, next_attempt_at = now() + ? * interval '1 millisecond'
+                WHERE id IN (SELECT id FROM notification_outbox
+                             WHERE status = 'PENDING' AND next_attempt_at <= now() AND registration_id IS NOT NULL
+                             ORDER BY next_attempt_at
+                             LIMIT ?
+                             FOR UPDATE SKIP LOCKED)
+                RETURNING id, kind, attempts, event_id, registration_id, ticket_id)
+            SELECT c.id, c.kind, c.attempts, p.email, p.full_name,
+                   e.title, e.start_date, e.location, e.venue_details, e.event_status::text AS event_status,
+                   r.registration_status::text AS registration_status, t.ticket_code
+            FROM claimed c
+            LEFT JOIN registrations r ON r.id = c.registration_id
+            LEFT JOIN profiles p ON p.id = r.user_id
+            LEFT JOIN events e ON e.id = c.event_id
+            LEFT JOIN tickets t ON t.id = c.ticket_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
+    private final String from;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBase;
+    private final Duration retryMax;
+    private final Duration lease;
+
+    private final Semaphore idleWorkers;
+    private final ExecutorService workers;
+
+    public NotificationDispatcher(DataSource dataSource,
+                                  JavaMailSender mailSender,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${mail.from}") String from,
+                                  @Value("${notifications.enabled:true}") boolean enabled,
+                                  @Value("${notifications.workers:2}") int workerCount,
+                                  @Value("${notifications.batch-size:50}") int batchSize,
+                                  @Value("${notifications.max-attempts:8}") int maxAttempts,
+                                  @Value("${notifications.retry-base-ms:30000}") long retryBaseMillis,
+                                  @Value("${notifications.retry-max-ms:3600000}") long retryMaxMillis,
+                                  @Value("${notifications.lease-ms:300000}") long leaseMillis) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.mailSender = mailSender;
+        this.meterRegistry = meterRegistry;
+        this.from = from;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBase = Duration.ofMillis(retryBaseMillis);
+        this.retryMax = Duration.ofMillis(retryMaxMillis);
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.idleWorkers = new Semaphore(workerCount);
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "notification-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Fan out event-change notices, then hand due batches to idle workers.
+     * Claims stop when every worker is busy, so the backlog stays in the table.
+     */
+    @Scheduled(fixedDelayString = "${notifications.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int fannedOut = jdbcTemplate.update(FAN_OUT_SQL);
+            if (fannedOut > 0) {
+                log.debug("Queued {} event change notices", fannedOut);
+            }
+            while (idleWorkers.tryAcquire()) {
+                List<Pending> batch;
+                try {
+                    batch = jdbcTemplate.query(CLAIM_SQL, NotificationDispatcher::pending, lease.toMillis(), batchSize);
+                } catch (RuntimeException e) {
+                    idleWorkers.release();
+                    throw e;
+                }
+                if (batch.isEmpty()) {
+                    idleWorkers.release();
+                    return;
+                }
+                workers.execute(() -> {
+                    try {
+                        deliver(batch);
+                    } finally {
+                        idleWorkers.release();
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            log.warn("Notification poll failed", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // Batches still running after this are sent again once their lease expires
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Send a claimed batch over one connection and record each message's outcome.
+     */
+    private void deliver(List<Pending> batch) {
+        Map<MimeMessage, Pending> messages = new LinkedHashMap<>();
+        Map<Pending, String> failures = new LinkedHashMap<>();
+        List<Object[]> discarded = new ArrayList<>();
+        for (Pending pending : batch) {
+            if (pending.email() == null || pending.title() == null
+                    || pending.kind() == NotificationKind.TICKET_ISSUED && pending.ticketCode() == null) {
+                // Registration, event or ticket deleted since the notice was queued
+                discarded.add(new Object[] {pending.id()});
+                continue;
+            }
+            try {
+                messages.put(compose(pending), pending);
+            } catch (MessagingException e) {
+                failures.put(pending, e.getMessage());
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            try {
+                mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                if (e.getFailedMessages().isEmpty()) {
+                    messages.values().forEach(pending -> failures.put(pending, e.getMessage()));
+                }
+                e.getFailedMessages().forEach((message, cause) -> {
+                    Pending pending = messages.get(message);
+                    if (pending != null) {
+                        failures.put(pending, cause.getMessage());
+                    }
+                });
+            } catch (MailException e) {
+                messages.values().forEach(pending -> failures.put(pending, e.getMessage()));
+            }
+        }
+
+        List<Object[]> sent = new ArrayList<>();
+        for (Pending pending : messages.values()) {
+            if (!failures.containsKey(pending)) {
+                sent.add(new Object[] {pending.id()});
+            }
+        }
+        List<Object[]> retries = new ArrayList<>();
+        List<Object[]> failed = new ArrayList<>();
+        failures.forEach((pending, error) -> {
+            String message = truncate(error);
+            if (pending.attempts() >= maxAttempts) {
+                failed.add(new Object[] {message, pending.id()});
+            } else {
+                retries.add(new Object[] {backoff(pending.attempts()).toMillis(), message, pending.id()});
+            }
+        });
+
+        try {
+            jdbcTemplate.batchUpdate("UPDATE notification_outbox SET status = 'SENT', sent_at = now(), last_error = NULL "
+                    + "WHERE id = ?", sent);
+            jdbcTemplate.batchUpdate("UPDATE notification_outbox SET status = 'DISCARDED' WHERE id = ?", discarded);
+            jdbcTemplate.batchUpdate("UPDATE notification_outbox SET next_attempt_at = now() + ? * interval '1 millisecond', "
+                    + "last_error = ? WHERE id = ?", retries);
+            jdbcTemplate.batchUpdate("UPDATE notification_outbox SET status = 'FAILED', last_error = ? WHERE id = ?", failed);
+        } catch (RuntimeException e) {
+            // Rows keep their lease and are retried when it expires, which may send some twice
+            log.warn("Could not record the outcome of {} notifications", batch.size(), e);
+        }
+
+        meterRegistry.counter("festify.notifications", "outcome", "sent").increment(sent.size());
+        meterRegistry.counter("festify.notifications", "outcome", "retry").increment(retries.size());
+        meterRegistry.counter("festify.notifications", "outcome", "failed").increment(failed.size());
+        meterRegistry.counter("festify.notifications", "outcome", "discarded").increment(discarded.size());
+        if (!failed.isEmpty()) {
+            log.warn("Gave up on {} notifications after {} attempts", failed.size(), maxAttempts);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = retryBase.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(retryMax) > 0 ? retryMax : delay;
+    }
+
+    private MimeMessage compose(Pending pending) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setFrom(from);
+        helper.setTo(pending.email());
+        String greeting = "Hi " + (pending.name() != null ? pending.name() : "there") + ",\n\n";
+        String details = "When: " + (pending.startDate() != null ? WHEN.format(pending.startDate()) : "to be announced")
+                + "\nWhere: " + pending.location()
+                + (pending.venueDetails() != null && !pending.venueDetails().isBlank() ? " (" + pending.venueDetails() + ")" : "")
+                + "\n";
+        switch (pending.kind()) {
+            case REGISTRATION_STATUS -> {
+                String status = describe(pending.registrationStatus());
+                helper.setSubject("Your registration for " + pending.title() + " is " + status);
+                helper.setText(greeting + "Your registration for " + pending.title() + " is " + status + ".\n\n"
+                        + details + "\n— Festify\n");
+            }
+            case TICKET_ISSUED -> {
+                helper.setSubject("Your ticket for " + pending.title());
+                helper.setText(greeting + "You're registered for " + pending.title() + ".\n\n"
+                        + details + "Ticket code: " + pending.ticketCode() + "\n\n"
+                        + "Show this code at the entrance.\n\n— Festify\n");
+            }
+            case EVENT_UPDATED -> {
+                if ("CANCELLED".equalsIgnoreCase(pending.eventStatus())) {
+                    helper.setSubject(pending.title() + " has been cancelled");
+                    helper.setText(greeting + pending.title() + " has been cancelled by the organizers.\n\n— Festify\n");
+                } else {
+                    helper.setSubject("Update to " + pending.title());
+                    helper.setText(greeting + "The details of " + pending.title() + " have changed.\n\n"
+                            + details + "\n— Festify\n");
+                }
+            }
+        }
+        return message;
+    }
+
+    private static String describe(String registrationStatus) {
+        if (registrationStatus == null) {
+            return "updated";
+        }
+        return switch (registrationStatus.toUpperCase(Locale.ROOT)) {
+            case "CONFIRMED" -> "confirmed";
+            case "PENDING" -> "pending";
+            case "WAITLISTED" -> "on the waitlist";
+            case "CANCELLED" -> "cancelled";
+            case "ATTENDED" -> "marked as attended";
+            default -> registrationStatus.toLowerCase(Locale.ROOT);
+        };
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private static Pending pending(ResultSet rs, int rowNum) throws SQLException {
+        return new Pending(
+                rs.getObject("id", UUID.class),
+                NotificationKind.valueOf(rs.getString("kind")),
+                rs.getInt("attempts"),
+                rs.getString("email"),
+                rs.getString("full_name"),
+                rs.getString("title"),
+                rs.getObject("start_date", OffsetDateTime.class),
+                rs.getString("location"),
+                rs.getString("venue_details"),
+                rs.getString("event_status"),
+                rs.getString("registration_status"),
+                rs.getString("ticket_code"));
+    }
+
+    /**
+     * A claimed outbox row joined with what its message needs.
+     */
+    private record Pending(UUID id, NotificationKind kind, int attempts, String email, String name,
+                           String title, OffsetDateTime startDate, String location, String venueDetails,
+                           String eventStatus, String registrationStatus, String ticketCode) {
+    }
+}
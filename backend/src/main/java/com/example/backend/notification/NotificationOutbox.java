@@ -0,0 +1,74 @@
+package com.example.backend.notification;
+
+import com.example.backend.entity.Notification;
+import com.example.backend.entity.Registration;
+import com.example.backend.entity.Ticket;
+import com.example.backend.entity.enums.NotificationKind;
+import com.example.backend.repository.NotificationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Enqueues email notifications. Call these inside the transaction that makes
+ * the change being announced, so the notice commits or rolls back with it;
+ * {@link NotificationDispatcher} renders and sends them later, off the request
+ * thread. Messages are rendered at send time, so they show the latest state.
+ */
+@Service
+public class NotificationOutbox {
+
+    private final NotificationRepository notificationRepository;
+    private final boolean enabled;
+
+    public NotificationOutbox(NotificationRepository notificationRepository,
+                              @Value("${notifications.enabled:true}") boolean enabled) {
+        this.notificationRepository = notificationRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Tell the registrant where their registration stands (confirmed, pending
+     * payment, waitlisted or cancelled).
+     * @param registration a saved registration with its event set
+     */
+    public void registrationChanged(Registration registration) {
+        if (enabled && registration.getEvent() != null) {
+            notificationRepository.save(new Notification(NotificationKind.REGISTRATION_STATUS,
+                    registration.getEvent().getId(), registration.getId(), null));
+        }
+    }
+
+    /**
+     * Deliver tickets to their registrants. Tickets without a registration have
+     * no recipient and are skipped.
+     * @param tickets saved tickets with event and registration set
+     */
+    public void ticketsIssued(List<Ticket> tickets) {
+        if (!enabled) {
+            return;
+        }
+        List<Notification> notifications = new ArrayList<>(tickets.size());
+        for (Ticket ticket : tickets) {
+            if (ticket.getRegistration() != null) {
+                notifications.add(new Notification(NotificationKind.TICKET_ISSUED,
+                        ticket.getEvent().getId(), ticket.getRegistration().getId(), ticket.getId()));
+            }
+        }
+        notificationRepository.saveAll(notifications);
+    }
+
+    /**
+     * Announce a change of an event to everyone registered for it. One row is
+     * written here; the dispatcher fans it out to the registrants.
+     * @param eventId the event ID
+     */
+    public void eventUpdated(UUID eventId) {
+        if (enabled) {
+            notificationRepository.save(new Notification(NotificationKind.EVENT_UPDATED, eventId, null, null));
+        }
+    }
+}
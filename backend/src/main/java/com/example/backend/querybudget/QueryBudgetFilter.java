@@ -0,0 +1,149 @@
+package com.example.backend.querybudget;
+
+import com.example.backend.web.HandlerNames;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the Hibernate statements, loaded entities and JDBC time of each
+ * request, records them per controller method and checks them against a
+ * statement budget. The default budget is {@code query-budget.default-limit};
+ * a controller method gets its own with
+ * {@code query-budget.limit.EventController.getAllEvents=5}. Over budget,
+ * {@code query-budget.mode} decides: {@code log} warns, {@code fail} replaces
+ * the response with a 500 so tests catch N+1 regressions, {@code off} does
+ * neither.
+ *
+ * <p>With {@code query-budget.header} on, bodies are buffered so the
+ * {@value #HEADER} header can include queries issued while serializing.
+ * {@code fail} mode buffers them too, whatever the header setting, so an
+ * over-budget response can still be replaced. Streaming responses (exports,
+ * SSE) pass through and get the header only if it is not too late.
+ */
+@Component
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Stats";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    enum Mode { OFF, LOG, FAIL }
+
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final Mode mode;
+    private final int defaultLimit;
+    private final boolean header;
+    private final ConcurrentHashMap<String, Integer> limits = new ConcurrentHashMap<>();
+
+    public QueryBudgetFilter(MeterRegistry meterRegistry,
+                             Environment environment,
+                             @Value("${query-budget.mode:log}") String mode,
+                             @Value("${query-budget.default-limit:50}") int defaultLimit,
+                             @Value("${query-budget.header:true}") boolean header) {
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.defaultLimit = defaultLimit;
+        this.header = header;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryCounter counter = QueryCounter.start();
+        BufferedResponse buffered = header || mode == Mode.FAIL ? new BufferedResponse(request, response) : null;
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            QueryCounter.stop();
+        }
+
+        String handler = HandlerNames.of(request);
+        meterRegistry.summary("festify.request.statements", "handler", handler).record(counter.statements());
+        meterRegistry.summary("festify.request.entities", "handler", handler).record(counter.entities());
+        meterRegistry.timer("festify.request.jdbc", "handler", handler).record(Duration.ofNanos(counter.jdbcNanos()));
+
+        int limit = limit(handler);
+        boolean exceeded = mode != Mode.OFF && limit >= 0 && counter.statements() > limit;
+        String message = null;
+        if (exceeded) {
+            meterRegistry.counter("festify.request.query-budget.exceeded", "handler", handler).increment();
+            message = "Query budget exceeded: " + counter.statements() + " statements for " + handler
+                    + " (limit " + limit + ")";
+            log.warn("{} {}: {}; {}", request.getMethod(), request.getRequestURI(), message, counter.summary());
+        }
+
+        if (buffered == null) {
+            return;
+        }
+        if (exceeded && mode == Mode.FAIL && !request.isAsyncStarted()) {
+            buffered.resetBuffer();
+            buffered.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            buffered.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            buffered.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            buffered.getWriter().write(message);
+        }
+        if (header) {
+            buffered.setHeader(HEADER, counter.summary());
+        }
+        buffered.copyBodyToResponse();
+    }
+
+    private int limit(String handler) {
+        return limits.computeIfAbsent(handler,
+                h -> environment.getProperty("query-budget.limit." + h, Integer.class, defaultLimit));
+    }
+
+    /**
+     * Buffers the body until the filter has set the header, except once the
+     * request went async: streamed bodies are written straight through.
+     */
+    private static final class BufferedResponse extends ContentCachingResponseWrapper {
+
+        private final HttpServletRequest request;
+
+        private BufferedResponse(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return request.isAsyncStarted() ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return request.isAsyncStarted() ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (request.isAsyncStarted()) {
+                getResponse().flushBuffer();
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.backend.querybudget;
+
+/**
+ * Hibernate work done on behalf of one request: statements prepared, entities
+ * loaded and time spent executing statements. Bound to the request thread by
+ * {@link QueryBudgetFilter}; work on other threads or outside a request is not
+ * counted.
+ */
+final class QueryCounter {
+
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long entities;
+    private long jdbcNanos;
+    private long executeStarted;
+
+    static QueryCounter start() {
+        QueryCounter counter = new QueryCounter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    static void statementPrepared() {
+        QueryCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        QueryCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.entities++;
+        }
+    }
+
+    static void executeStarted() {
+        QueryCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.executeStarted = System.nanoTime();
+        }
+    }
+
+    static void executeEnded() {
+        QueryCounter counter = CURRENT.get();
+        if (counter != null && counter.executeStarted != 0) {
+            counter.jdbcNanos += System.nanoTime() - counter.executeStarted;
+            counter.executeStarted = 0;
+        }
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long entities() {
+        return entities;
+    }
+
+    long jdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /**
+     * Header value, e.g. {@code statements=12, entities=340, jdbc-ms=8.41}.
+     */
+    String summary() {
+        return String.format("statements=%d, entities=%d, jdbc-ms=%.2f", statements, entities, jdbcNanos / 1e6);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.backend.querybudget;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Times statement and batch execution for {@link QueryCounter}. Hibernate
+ * creates one per session from its class name, hence public.
+ */
+public class QueryTimingListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        QueryCounter.executeStarted();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryCounter.executeEnded();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        QueryCounter.executeStarted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryCounter.executeEnded();
+    }
+}
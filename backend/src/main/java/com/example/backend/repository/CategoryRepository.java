@@ -1,7 +1,9 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.CollectionVersion;
 import com.example.backend.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.UUID;
@@ -12,4 +14,10 @@ import java.util.UUID;
  */
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
+
+    /**
+     * Get the row count and latest update time of the category table.
+     */
+    @Query("SELECT new com.example.backend.dto.CollectionVersion(COUNT(c), MAX(c.updatedAt)) FROM Category c")
+    CollectionVersion findVersion();
 }
@@ -1,57 +1,93 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.CollectionVersion;
+import com.example.backend.dto.EventCursor;
+import com.example.backend.dto.EventFilter;
+import com.example.backend.dto.EventSearchRow;
+import com.example.backend.dto.EventStatsRow;
 import com.example.backend.entity.Event;
 import com.example.backend.entity.enums.EventStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Spring Data JPA repository for Event entity.
  * Provides CRUD operations and custom query methods for events.
+ * List finders fetch category, college and organizer in the same statement.
  */
 @Repository
-public interface EventRepository extends JpaRepository<Event, UUID> {
+public interface EventRepository extends JpaRepository<Event, UUID>, JpaSpecificationExecutor<Event> {
+
+    /**
+     * Find all events with their category, college and organizer.
+     * @return List of all events
+     */
+    @Override
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.category LEFT JOIN FETCH e.college LEFT JOIN FETCH e.organizer")
+    List<Event> findAll();
+
+    /**
+     * Find an event by ID with its category, college and organizer.
+     * @param id the event ID
+     * @return Optional containing the event if found
+     */
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.category LEFT JOIN FETCH e.college LEFT JOIN FETCH e.organizer "
+            + "WHERE e.id = :id")
+    Optional<Event> findDetailedById(@Param("id") UUID id);
     
     /**
      * Find all events by college ID.
      * @param collegeId the college ID
      * @return List of events for the specified college
      */
-    List<Event> findByCollegeId(UUID collegeId);
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.category LEFT JOIN FETCH e.college LEFT JOIN FETCH e.organizer "
+            + "WHERE e.college.id = :collegeId")
+    List<Event> findByCollegeId(@Param("collegeId") UUID collegeId);
     
     /**
      * Find all events by category ID.
      * @param categoryId the category ID
      * @return List of events in the specified category
      */
-    List<Event> findByCategoryId(UUID categoryId);
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.category LEFT JOIN FETCH e.college LEFT JOIN FETCH e.organizer "
+            + "WHERE e.category.id = :categoryId")
+    List<Event> findByCategoryId(@Param("categoryId") UUID categoryId);
     
     /**
      * Find all events organized by a specific profile.
      * @param organizerId the organizer's profile ID
      * @return List of events organized by the specified user
      */
-    List<Event> findByOrganizerId(UUID organizerId);
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.category LEFT JOIN FETCH e.college LEFT JOIN FETCH e.organizer "
+            + "WHERE e.organizer.id = :organizerId")
+    List<Event> findByOrganizerId(@Param("organizerId") UUID organizerId);
     
     /**
      * Find all events with a specific status.
      * @param eventStatus the event status
      * @return List of events with the specified status
      */
-    List<Event> findByEventStatus(EventStatus eventStatus);
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.category LEFT JOIN FETCH e.college LEFT JOIN FETCH e.organizer "
+            + "WHERE e.eventStatus = :eventStatus")
+    List<Event> findByEventStatus(@Param("eventStatus") EventStatus eventStatus);
     
     /**
      * Find all published events that are upcoming (start date in the future).
      * @param currentTime the current timestamp
      * @return List of upcoming published events
      */
-    @Query("SELECT e FROM Event e WHERE e.eventStatus = 'PUBLISHED' AND e.startDate > :currentTime ORDER BY e.startDate ASC")
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.category LEFT JOIN FETCH e.college LEFT JOIN FETCH e.organizer "
+            + "WHERE e.eventStatus = 'PUBLISHED' AND e.startDate > :currentTime ORDER BY e.startDate ASC")
     List<Event> findUpcomingPublishedEvents(@Param("currentTime") OffsetDateTime currentTime);
     
     /**
@@ -60,5 +96,112 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
      * @param eventStatus the event status
      * @return List of events matching the criteria
      */
-    List<Event> findByCollegeIdAndEventStatus(UUID collegeId, EventStatus eventStatus);
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.category LEFT JOIN FETCH e.college LEFT JOIN FETCH e.organizer "
+            + "WHERE e.college.id = :collegeId AND e.eventStatus = :eventStatus")
+    List<Event> findByCollegeIdAndEventStatus(@Param("collegeId") UUID collegeId,
+                                              @Param("eventStatus") EventStatus eventStatus);
+
+    /**
+     * Find one keyset page of events ordered by (start_date, id).
+     * @param filter optional column filters
+     * @param after position to continue from, or null for the first page
+     * @param limit maximum number of rows to return
+     * @return List of events after the cursor, in keyset order
+     */
+    default List<Event> findPage(EventFilter filter, EventCursor after, int limit) {
+        return findBy(EventSpecifications.listing(filter, after),
+                query -> query.sortBy(EventSpecifications.KEYSET_SORT).limit(limit).all());
+    }
+
+    /**
+     * Load every event as a flat search row, joined with college and category names.
+     * @return List of search rows for all events
+     */
+    @Query("SELECT new com.example.backend.dto.EventSearchRow(e.id, e.title, e.description, e.location, "
+            + "e.startDate, e.eventStatus, c.id, c.name, cat.id, cat.name) "
+            + "FROM Event e LEFT JOIN e.college c LEFT JOIN e.category cat")
+    List<EventSearchRow> findAllSearchRows();
+
+    /**
+     * Load a single event as a flat search row.
+     * @param id the event ID
+     * @return Optional containing the search row if the event exists
+     */
+    @Query("SELECT new com.example.backend.dto.EventSearchRow(e.id, e.title, e.description, e.location, "
+            + "e.startDate, e.eventStatus, c.id, c.name, cat.id, cat.name) "
+            + "FROM Event e LEFT JOIN e.college c LEFT JOIN e.category cat WHERE e.id = :id")
+    Optional<EventSearchRow> findSearchRowById(@Param("id") UUID id);
+
+    /**
+     * Load the search rows of all events hosted by a college.
+     * @param collegeId the college ID
+     * @return List of search rows for the college's events
+     */
+    @Query("SELECT new com.example.backend.dto.EventSearchRow(e.id, e.title, e.description, e.location, "
+            + "e.startDate, e.eventStatus, c.id, c.name, cat.id, cat.name) "
+            + "FROM Event e LEFT JOIN e.college c LEFT JOIN e.category cat WHERE c.id = :collegeId")
+    List<EventSearchRow> findSearchRowsByCollegeId(@Param("collegeId") UUID collegeId);
+
+    /**
+     * Load the search rows of all events in a category.
+     * @param categoryId the category ID
+     * @return List of search rows for the category's events
+     */
+    @Query("SELECT new com.example.backend.dto.EventSearchRow(e.id, e.title, e.description, e.location, "
+            + "e.startDate, e.eventStatus, c.id, c.name, cat.id, cat.name) "
+            + "FROM Event e LEFT JOIN e.college c LEFT JOIN e.category cat WHERE cat.id = :categoryId")
+    List<EventSearchRow> findSearchRowsByCategoryId(@Param("categoryId") UUID categoryId);
+
+    /**
+     * Atomically take seats on an event if capacity allows and registration is still open.
+     * @param id the event ID
+     * @param seats number of seats to take
+     * @param now current time, compared against the registration deadline
+     * @return 1 if the seats were taken, 0 if the event is full, closed or missing
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.currentAttendees = e.currentAttendees + :seats WHERE e.id = :id "
+            + "AND (e.maxAttendees IS NULL OR e.currentAttendees + :seats <= e.maxAttendees) "
+            + "AND (e.registrationDeadline IS NULL OR e.registrationDeadline > :now) "
+            + "AND e.eventStatus NOT IN (com.example.backend.entity.enums.EventStatus.CANCELLED, "
+            + "com.example.backend.entity.enums.EventStatus.COMPLETED)")
+    int reserveSeats(@Param("id") UUID id, @Param("seats") int seats, @Param("now") OffsetDateTime now);
+
+    /**
+     * Give seats back to an event, never dropping below zero.
+     * @param id the event ID
+     * @param seats number of seats to release
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.currentAttendees = CASE WHEN e.currentAttendees > :seats "
+            + "THEN e.currentAttendees - :seats ELSE 0 END WHERE e.id = :id")
+    int releaseSeats(@Param("id") UUID id, @Param("seats") int seats);
+
+    /**
+     * Find the custom pricing tier price for a team of the given size.
+     * @param eventId the event ID
+     * @param teamSize number of team members
+     * @return Optional containing the tier price if a tier covers the size
+     */
+    @Query(value = "SELECT price FROM team_pricing_tiers WHERE event_id = :eventId "
+            + "AND :teamSize BETWEEN min_members AND max_members ORDER BY min_members DESC LIMIT 1",
+            nativeQuery = true)
+    Optional<BigDecimal> findTeamTierPrice(@Param("eventId") UUID eventId, @Param("teamSize") int teamSize);
+
+    /**
+     * Get the row count, latest update time and total seats taken across all events.
+     * Seat counts are included because seat reservations do not touch updatedAt.
+     * @return version of the events table
+     */
+    @Query("SELECT new com.example.backend.dto.CollectionVersion(COUNT(e), MAX(e.updatedAt), "
+            + "COALESCE(SUM(e.currentAttendees), 0)) FROM Event e")
+    CollectionVersion findVersion();
+
+    /**
+     * Every event with its college, for the statistics rollup.
+     */
+    @Query("SELECT new com.example.backend.dto.EventStatsRow(e.id, e.title, c.id, c.name) "
+            + "FROM Event e LEFT JOIN e.college c")
+    List<EventStatsRow> findAllStatsRows();
 }
@@ -0,0 +1,80 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.EventCursor;
+import com.example.backend.dto.EventFilter;
+import com.example.backend.entity.Event;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Criteria specifications for the keyset-paginated event listing.
+ * Only the filters that are present are added to the WHERE clause, so each
+ * combination maps onto a plain index range scan on (start_date, id).
+ */
+public final class EventSpecifications {
+
+    /**
+     * Sort order matching the keyset: start date, then id as a tie-breaker.
+     */
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Order.asc("startDate"), Sort.Order.asc("id"));
+
+    private EventSpecifications() {
+    }
+
+    /**
+     * Build the listing specification.
+     * @param filter optional column filters
+     * @param after position to continue from, or null for the first page
+     * @return specification restricting and fetch-joining the events
+     */
+    public static Specification<Event> listing(EventFilter filter, EventCursor after) {
+        return (root, query, cb) -> {
+            // Fetch the many-to-one associations in the same statement (not for count queries)
+            if (query.getResultType() == Event.class) {
+                root.fetch("category", JoinType.LEFT);
+                root.fetch("college", JoinType.LEFT);
+                root.fetch("organizer", JoinType.LEFT);
+            }
+
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.collegeId() != null) {
+                predicates.add(cb.equal(root.get("college").get("id"), filter.collegeId()));
+            }
+            if (filter.categoryId() != null) {
+                predicates.add(cb.equal(root.get("category").get("id"), filter.categoryId()));
+            }
+            if (filter.status() != null) {
+                predicates.add(cb.equal(root.get("eventStatus"), filter.status()));
+            }
+            if (filter.featured() != null) {
+                predicates.add(cb.equal(root.get("featured"), filter.featured()));
+            }
+            if (filter.global() != null) {
+                predicates.add(cb.equal(root.get("global"), filter.global()));
+            }
+            if (filter.minPrice() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<BigDecimal>get("individualPrice"), filter.minPrice()));
+            }
+            if (filter.maxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.<BigDecimal>get("individualPrice"), filter.maxPrice()));
+            }
+            if (after != null) {
+                // (start_date, id) > (:startDate, :id)
+                predicates.add(cb.or(
+                        cb.greaterThan(root.<OffsetDateTime>get("startDate"), after.startDate()),
+                        cb.and(
+                                cb.equal(root.<OffsetDateTime>get("startDate"), after.startDate()),
+                                cb.greaterThan(root.<UUID>get("id"), after.id()))));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
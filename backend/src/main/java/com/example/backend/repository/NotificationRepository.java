@@ -0,0 +1,15 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.Notification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repository interface for the notification outbox.
+ * Only used to enqueue; delivery claims and updates rows with plain SQL.
+ */
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, UUID> {
+}
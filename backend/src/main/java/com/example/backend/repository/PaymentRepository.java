@@ -1,8 +1,11 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.PaymentStatsRow;
 import com.example.backend.entity.Payment;
 import com.example.backend.entity.enums.PaymentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,27 +14,58 @@ import java.util.UUID;
 
 /**
  * Repository interface for Payment entity.
+ * Finders fetch the registration with its event and user in the same statement.
  */
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, UUID> {
+
+    /**
+     * Find all payments with their registration, event and user.
+     */
+    @Override
+    @Query("SELECT p FROM Payment p JOIN FETCH p.registration r JOIN FETCH r.event JOIN FETCH r.user")
+    List<Payment> findAll();
+
+    /**
+     * Find a payment by ID with its registration, event and user.
+     */
+    @Query("SELECT p FROM Payment p JOIN FETCH p.registration r JOIN FETCH r.event JOIN FETCH r.user "
+            + "WHERE p.id = :id")
+    Optional<Payment> findDetailedById(@Param("id") UUID id);
     
     /**
      * Find payments by registration ID.
      */
-    List<Payment> findByRegistrationId(UUID registrationId);
+    @Query("SELECT p FROM Payment p JOIN FETCH p.registration r JOIN FETCH r.event JOIN FETCH r.user "
+            + "WHERE r.id = :registrationId")
+    List<Payment> findByRegistrationId(@Param("registrationId") UUID registrationId);
     
     /**
      * Find payment by transaction ID.
      */
-    Optional<Payment> findByTransactionId(String transactionId);
+    @Query("SELECT p FROM Payment p JOIN FETCH p.registration r JOIN FETCH r.event JOIN FETCH r.user "
+            + "WHERE p.transactionId = :transactionId")
+    Optional<Payment> findByTransactionId(@Param("transactionId") String transactionId);
     
     /**
      * Find payments by status.
      */
-    List<Payment> findByPaymentStatus(PaymentStatus status);
+    @Query("SELECT p FROM Payment p JOIN FETCH p.registration r JOIN FETCH r.event JOIN FETCH r.user "
+            + "WHERE p.paymentStatus = :status")
+    List<Payment> findByPaymentStatus(@Param("status") PaymentStatus status);
     
     /**
      * Find payments by ticket ID.
      */
-    List<Payment> findByTicketId(UUID ticketId);
+    @Query("SELECT p FROM Payment p JOIN FETCH p.registration r JOIN FETCH r.event JOIN FETCH r.user "
+            + "WHERE p.ticket.id = :ticketId")
+    List<Payment> findByTicketId(@Param("ticketId") UUID ticketId);
+
+    /**
+     * Payment counts and amounts grouped by event and payment status.
+     */
+    @Query("SELECT new com.example.backend.dto.PaymentStatsRow(r.event.id, p.paymentStatus, COUNT(p), "
+            + "COALESCE(SUM(p.amount), 0)) FROM Payment p JOIN p.registration r "
+            + "GROUP BY r.event.id, p.paymentStatus")
+    List<PaymentStatsRow> sumByEventAndStatus();
 }
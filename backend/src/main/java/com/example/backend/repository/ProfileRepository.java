@@ -2,8 +2,11 @@ package com.example.backend.repository;
 
 import com.example.backend.entity.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,11 +16,28 @@ import java.util.UUID;
  */
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, UUID> {
+
+    /**
+     * Find all profiles with their college.
+     * @return List of all profiles
+     */
+    @Override
+    @Query("SELECT p FROM Profile p LEFT JOIN FETCH p.college")
+    List<Profile> findAll();
+
+    /**
+     * Find a profile by ID with its college.
+     * @param id the profile ID
+     * @return Optional containing the profile if found
+     */
+    @Query("SELECT p FROM Profile p LEFT JOIN FETCH p.college WHERE p.id = :id")
+    Optional<Profile> findDetailedById(@Param("id") UUID id);
     
     /**
      * Find a profile by email address.
      * @param email the user's email
      * @return Optional containing the profile if found
      */
-    Optional<Profile> findByEmail(String email);
+    @Query("SELECT p FROM Profile p LEFT JOIN FETCH p.college WHERE p.email = :email")
+    Optional<Profile> findByEmail(@Param("email") String email);
 }
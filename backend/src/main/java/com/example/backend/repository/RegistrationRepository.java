@@ -1,36 +1,156 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.RegistrationStatsRow;
+import com.example.backend.dto.TicketIssueRow;
 import com.example.backend.entity.Registration;
 import com.example.backend.entity.enums.RegistrationStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Repository interface for Registration entity.
+ * List finders fetch the event and user in the same statement.
  */
 @Repository
 public interface RegistrationRepository extends JpaRepository<Registration, UUID> {
+
+    /**
+     * Find all registrations with their event and user.
+     */
+    @Override
+    @Query("SELECT r FROM Registration r JOIN FETCH r.event JOIN FETCH r.user")
+    List<Registration> findAll();
+
+    /**
+     * Find a registration by ID with its event and user.
+     */
+    @Query("SELECT r FROM Registration r JOIN FETCH r.event JOIN FETCH r.user WHERE r.id = :id")
+    Optional<Registration> findDetailedById(@Param("id") UUID id);
+
+    /**
+     * Find a registration by ID and lock its row until the surrounding transaction ends.
+     * Seat changes read the held seats from this row so they cannot race the hold sweep.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Registration r WHERE r.id = :id")
+    Optional<Registration> findByIdForUpdate(@Param("id") UUID id);
     
     /**
      * Find all registrations for a specific event.
      */
-    List<Registration> findByEventId(UUID eventId);
+    @Query("SELECT r FROM Registration r JOIN FETCH r.event JOIN FETCH r.user WHERE r.event.id = :eventId")
+    List<Registration> findByEventId(@Param("eventId") UUID eventId);
     
     /**
      * Find all registrations for a specific user.
      */
-    List<Registration> findByUser_Id(UUID userId);
+    @Query("SELECT r FROM Registration r JOIN FETCH r.event JOIN FETCH r.user WHERE r.user.id = :userId")
+    List<Registration> findByUser_Id(@Param("userId") UUID userId);
     
     /**
      * Find registrations by status.
      */
-    List<Registration> findByRegistrationStatus(RegistrationStatus status);
+    @Query("SELECT r FROM Registration r JOIN FETCH r.event JOIN FETCH r.user WHERE r.registrationStatus = :status")
+    List<Registration> findByRegistrationStatus(@Param("status") RegistrationStatus status);
     
     /**
      * Find registrations for an event by status.
      */
-    List<Registration> findByEventIdAndRegistrationStatus(UUID eventId, RegistrationStatus status);
+    @Query("SELECT r FROM Registration r JOIN FETCH r.event JOIN FETCH r.user "
+            + "WHERE r.event.id = :eventId AND r.registrationStatus = :status")
+    List<Registration> findByEventIdAndRegistrationStatus(@Param("eventId") UUID eventId,
+                                                          @Param("status") RegistrationStatus status);
+
+    /**
+     * Find the oldest waitlisted registration for an event.
+     */
+    Optional<Registration> findFirstByEvent_IdAndRegistrationStatusOrderByRegistrationDateAsc(UUID eventId,
+                                                                                           RegistrationStatus status);
+
+    /**
+     * Count waitlisted registrations for an event queued at or before the given time.
+     */
+    @Query("SELECT COUNT(r) FROM Registration r WHERE r.event.id = :eventId "
+            + "AND r.registrationStatus = com.example.backend.entity.enums.RegistrationStatus.WAITLISTED "
+            + "AND r.registrationDate <= :registrationDate")
+    long countWaitlistedUpTo(@Param("eventId") UUID eventId,
+                             @Param("registrationDate") OffsetDateTime registrationDate);
+
+    /**
+     * Find IDs of events that have registrations in the given status.
+     */
+    @Query("SELECT DISTINCT r.event.id FROM Registration r WHERE r.registrationStatus = :status")
+    List<UUID> findEventIdsByRegistrationStatus(@Param("status") RegistrationStatus status);
+
+    /**
+     * Find unpaid pending registrations whose seat hold started before the cutoff.
+     */
+    @Query("SELECT r FROM Registration r "
+            + "WHERE r.registrationStatus = com.example.backend.entity.enums.RegistrationStatus.PENDING "
+            + "AND r.paymentStatus = com.example.backend.entity.enums.PaymentStatus.PENDING "
+            + "AND r.paymentAmount > 0 AND r.registrationDate < :cutoff")
+    List<Registration> findExpiredHolds(@Param("cutoff") OffsetDateTime cutoff);
+
+    /**
+     * Move a waitlisted registration to pending, starting a new seat hold.
+     * @return 1 if the registration was still waitlisted, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE Registration r "
+            + "SET r.registrationStatus = com.example.backend.entity.enums.RegistrationStatus.PENDING, "
+            + "r.registrationDate = :now, r.updatedAt = :now "
+            + "WHERE r.id = :id AND r.registrationStatus = com.example.backend.entity.enums.RegistrationStatus.WAITLISTED")
+    int promoteFromWaitlist(@Param("id") UUID id, @Param("now") OffsetDateTime now);
+
+    /**
+     * Cancel a registration whose seat hold expired without payment.
+     * @return 1 if the registration was still an unpaid hold, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE Registration r "
+            + "SET r.registrationStatus = com.example.backend.entity.enums.RegistrationStatus.CANCELLED, "
+            + "r.updatedAt = :now "
+            + "WHERE r.id = :id AND r.registrationStatus = com.example.backend.entity.enums.RegistrationStatus.PENDING "
+            + "AND r.paymentStatus = com.example.backend.entity.enums.PaymentStatus.PENDING")
+    int expireHold(@Param("id") UUID id, @Param("now") OffsetDateTime now);
+
+    /**
+     * Registration counts grouped by event, registration status and payment status.
+     */
+    @Query("SELECT new com.example.backend.dto.RegistrationStatsRow(r.event.id, r.registrationStatus, "
+            + "r.paymentStatus, COUNT(r)) FROM Registration r "
+            + "GROUP BY r.event.id, r.registrationStatus, r.paymentStatus")
+    List<RegistrationStatsRow> countByEventAndStatus();
+
+    /**
+     * Next keyset chunk of an event's registrations in a status that have no ticket yet,
+     * ordered by ID.
+     * @param after ID to continue after; use the nil UUID to start
+     * @param page limit of the chunk (offset is ignored)
+     */
+    @Query("SELECT new com.example.backend.dto.TicketIssueRow(r.id, r.paymentAmount) FROM Registration r "
+            + "WHERE r.event.id = :eventId AND r.registrationStatus = :status AND r.id > :after "
+            + "AND NOT EXISTS (SELECT 1 FROM Ticket t WHERE t.registration.id = r.id) ORDER BY r.id")
+    List<TicketIssueRow> findUnticketed(@Param("eventId") UUID eventId,
+                                        @Param("status") RegistrationStatus status,
+                                        @Param("after") UUID after,
+                                        Pageable page);
+
+    /**
+     * Count an event's registrations in a status that have no ticket yet.
+     */
+    @Query("SELECT COUNT(r) FROM Registration r WHERE r.event.id = :eventId AND r.registrationStatus = :status "
+            + "AND NOT EXISTS (SELECT 1 FROM Ticket t WHERE t.registration.id = r.id)")
+    long countUnticketed(@Param("eventId") UUID eventId, @Param("status") RegistrationStatus status);
 }
@@ -2,29 +2,49 @@ package com.example.backend.repository;
 
 import com.example.backend.entity.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Repository interface for Review entity.
+ * Finders fetch the author in the same statement.
  */
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, UUID> {
+
+    /**
+     * Find all reviews with their author.
+     */
+    @Override
+    @Query("SELECT r FROM Review r JOIN FETCH r.user")
+    List<Review> findAll();
+
+    /**
+     * Find a review by ID with its author.
+     */
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.id = :id")
+    Optional<Review> findDetailedById(@Param("id") UUID id);
     
     /**
      * Find all reviews for a specific event.
      */
-    List<Review> findByEventId(UUID eventId);
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.event.id = :eventId")
+    List<Review> findByEventId(@Param("eventId") UUID eventId);
     
     /**
      * Find all reviews by a specific user.
      */
-    List<Review> findByUser_Id(UUID userId);
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.user.id = :userId")
+    List<Review> findByUser_Id(@Param("userId") UUID userId);
     
     /**
      * Find reviews by rating.
      */
-    List<Review> findByRating(Integer rating);
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.rating = :rating")
+    List<Review> findByRating(@Param("rating") Integer rating);
 }
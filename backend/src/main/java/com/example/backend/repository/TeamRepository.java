@@ -2,6 +2,8 @@ package com.example.backend.repository;
 
 import com.example.backend.entity.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,22 +12,39 @@ import java.util.UUID;
 
 /**
  * Repository interface for Team entity.
+ * Finders fetch the event in the same statement.
  */
 @Repository
 public interface TeamRepository extends JpaRepository<Team, UUID> {
+
+    /**
+     * Find all teams with their event.
+     */
+    @Override
+    @Query("SELECT t FROM Team t JOIN FETCH t.event")
+    List<Team> findAll();
+
+    /**
+     * Find a team by ID with its event.
+     */
+    @Query("SELECT t FROM Team t JOIN FETCH t.event WHERE t.id = :id")
+    Optional<Team> findDetailedById(@Param("id") UUID id);
     
     /**
      * Find all teams for a specific event.
      */
-    List<Team> findByEventId(UUID eventId);
+    @Query("SELECT t FROM Team t JOIN FETCH t.event WHERE t.event.id = :eventId")
+    List<Team> findByEventId(@Param("eventId") UUID eventId);
     
     /**
      * Find teams by leader ID.
      */
-    List<Team> findByTeamLeaderId(UUID leaderId);
+    @Query("SELECT t FROM Team t JOIN FETCH t.event WHERE t.teamLeader.id = :leaderId")
+    List<Team> findByTeamLeaderId(@Param("leaderId") UUID leaderId);
     
     /**
      * Find team by registration ID.
      */
-    Optional<Team> findByRegistrationId(UUID registrationId);
+    @Query("SELECT t FROM Team t JOIN FETCH t.event WHERE t.registration.id = :registrationId")
+    Optional<Team> findByRegistrationId(@Param("registrationId") UUID registrationId);
 }
@@ -1,26 +1,90 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.TicketCheckinRow;
+import com.example.backend.dto.TicketStatsRow;
 import com.example.backend.entity.Ticket;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Repository interface for Ticket entity.
+ * Finders fetch the event, registration and holder in the same statement.
  */
 @Repository
 public interface TicketRepository extends JpaRepository<Ticket, UUID> {
+
+    /**
+     * Find all tickets with their event and holder.
+     */
+    @Override
+    @Query("SELECT t FROM Ticket t JOIN FETCH t.event LEFT JOIN FETCH t.registration r LEFT JOIN FETCH r.user")
+    List<Ticket> findAll();
+
+    /**
+     * Find a ticket by ID with its event and holder.
+     */
+    @Query("SELECT t FROM Ticket t JOIN FETCH t.event LEFT JOIN FETCH t.registration r LEFT JOIN FETCH r.user "
+            + "WHERE t.id = :id")
+    Optional<Ticket> findDetailedById(@Param("id") UUID id);
     
     /**
      * Find ticket by registration ID.
      */
-    Optional<Ticket> findByRegistrationId(UUID registrationId);
+    @Query("SELECT t FROM Ticket t JOIN FETCH t.event LEFT JOIN FETCH t.registration r LEFT JOIN FETCH r.user "
+            + "WHERE r.id = :registrationId")
+    Optional<Ticket> findByRegistrationId(@Param("registrationId") UUID registrationId);
     
     /**
      * Find all tickets for a specific event.
      */
-    List<Ticket> findByEventId(UUID eventId);
+    @Query("SELECT t FROM Ticket t JOIN FETCH t.event LEFT JOIN FETCH t.registration r LEFT JOIN FETCH r.user "
+            + "WHERE t.event.id = :eventId")
+    List<Ticket> findByEventId(@Param("eventId") UUID eventId);
+
+    /**
+     * Issued and used ticket counts per event.
+     */
+    @Query("SELECT new com.example.backend.dto.TicketStatsRow(t.event.id, COUNT(t), COUNT(t.usedAt)) "
+            + "FROM Ticket t GROUP BY t.event.id")
+    List<TicketStatsRow> countByEvent();
+
+    /**
+     * Codes of all tickets of an event, for the check-in index.
+     */
+    @Query("SELECT new com.example.backend.dto.TicketCheckinRow(t.id, t.ticketCode, t.event.id, "
+            + "t.registration.id, t.valid, t.usedAt) FROM Ticket t WHERE t.event.id = :eventId")
+    List<TicketCheckinRow> findCheckinRowsByEventId(@Param("eventId") UUID eventId);
+
+    /**
+     * Look up a single ticket by its code, for codes issued after the index was loaded.
+     */
+    @Query("SELECT new com.example.backend.dto.TicketCheckinRow(t.id, t.ticketCode, t.event.id, "
+            + "t.registration.id, t.valid, t.usedAt) FROM Ticket t WHERE t.ticketCode = :code")
+    Optional<TicketCheckinRow> findCheckinRowByCode(@Param("code") String code);
+
+    /**
+     * Mark a ticket used if it is still valid and unused. The row decides, so a
+     * ticket is admitted once across every instance running check-in.
+     * @return 1 if this call claimed the ticket, 0 if it was already used or revoked
+     */
+    @Modifying
+    @Query("UPDATE Ticket t SET t.usedAt = :usedAt, t.updatedAt = :usedAt "
+            + "WHERE t.id = :id AND t.usedAt IS NULL AND (t.valid IS NULL OR t.valid = true)")
+    int claim(@Param("id") UUID id, @Param("usedAt") OffsetDateTime usedAt);
+
+    /**
+     * IDs of an event's tickets that are no longer valid, including deleted
+     * ones (recorded in ticket_revocations by a trigger on delete).
+     */
+    @Query(value = "SELECT id FROM tickets WHERE event_id = :eventId AND is_valid = false "
+            + "UNION SELECT ticket_id FROM ticket_revocations WHERE event_id = :eventId", nativeQuery = true)
+    List<UUID> findRevokedIdsByEventId(@Param("eventId") UUID eventId);
 }
@@ -0,0 +1,45 @@
+package com.example.backend.reservation;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-event admission gate in front of the seat counter row.
+ * Caps how many transactions may wait on the same events row at once and
+ * remembers for a short while that the event was full, so a rush of
+ * attempts on a sold-out event is waitlisted without touching the row.
+ */
+class EventGate {
+
+    private final Semaphore permits;
+    private volatile long soldOutUntil;
+
+    EventGate(int maxConcurrent) {
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    boolean tryEnter(long timeoutMs) {
+        try {
+            return permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    void leave() {
+        permits.release();
+    }
+
+    boolean isSoldOut() {
+        return System.currentTimeMillis() < soldOutUntil;
+    }
+
+    void markSoldOut(long ttlMs) {
+        soldOutUntil = System.currentTimeMillis() + ttlMs;
+    }
+
+    void clearSoldOut() {
+        soldOutUntil = 0;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.backend.reservation;
+
+import com.example.backend.entity.Registration;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Outcome of a registration attempt: either a seat was taken, or the
+ * registration was placed on the event's waitlist.
+ *
+ * @param registration the saved registration
+ * @param waitlisted whether the registration is waiting for a seat
+ * @param waitlistPosition 1-based position on the waitlist, or 0 when seated
+ * @param holdExpiresAt when an unpaid seat hold lapses, or null when no hold applies
+ */
+public record Reservation(
+        Registration registration,
+        boolean waitlisted,
+        long waitlistPosition,
+        OffsetDateTime holdExpiresAt) {
+}
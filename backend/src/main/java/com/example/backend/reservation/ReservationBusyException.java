@@ -0,0 +1,12 @@
+package com.example.backend.reservation;
+
+/**
+ * Thrown when too many reservations for the same event are already in flight.
+ * Clients should retry shortly.
+ */
+public class ReservationBusyException extends RuntimeException {
+
+    public ReservationBusyException(String message) {
+        super(message);
+    }
+}
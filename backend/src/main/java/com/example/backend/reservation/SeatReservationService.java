@@ -0,0 +1,467 @@
+package com.example.backend.reservation;
+
+import com.example.backend.changes.ChangeLog;
+import com.example.backend.changes.ChangeOperation;
+import com.example.backend.entity.Event;
+import com.example.backend.entity.Registration;
+import com.example.backend.entity.Ticket;
+import com.example.backend.entity.enums.EventStatus;
+import com.example.backend.entity.enums.PaymentStatus;
+import com.example.backend.entity.enums.RegistrationStatus;
+import com.example.backend.entity.enums.TicketType;
+import com.example.backend.notification.NotificationOutbox;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.RegistrationRepository;
+import com.example.backend.repository.TicketRepository;
+import com.example.backend.ticket.TicketCodes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Seat reservations against Event.currentAttendees / maxAttendees.
+ * Seats are taken with a single conditional UPDATE on the events row, in the
+ * same transaction that inserts the registration, so the database never
+ * oversells. Full events put new registrations on a FIFO waitlist; seats freed
+ * by cancellations, deletes and expired unpaid holds are handed to the head
+ * of that waitlist. A promoted registration that costs nothing is confirmed
+ * and ticketed on the spot; a paid one gets a hold to complete checkout in.
+ */
+@Service
+public class SeatReservationService {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatReservationService.class);
+
+    private static final int MAX_PROMOTIONS_PER_PASS = 100;
+
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+    private final TicketRepository ticketRepository;
+    private final NotificationOutbox notificationOutbox;
+    private final ChangeLog changeLog;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int maxConcurrentPerEvent;
+    private final long acquireTimeoutMs;
+    private final long soldOutTtlMs;
+    private final Duration holdDuration;
+
+    private final ConcurrentHashMap<UUID, EventGate> gates = new ConcurrentHashMap<>();
+
+    public SeatReservationService(EventRepository eventRepository,
+                                  RegistrationRepository registrationRepository,
+                                  TicketRepository ticketRepository,
+                                  NotificationOutbox notificationOutbox,
+                                  ChangeLog changeLog,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${reservation.max-concurrent-per-event:8}") int maxConcurrentPerEvent,
+                                  @Value("${reservation.acquire-timeout-ms:2000}") long acquireTimeoutMs,
+                                  @Value("${reservation.sold-out-ttl-ms:2000}") long soldOutTtlMs,
+                                  @Value("${reservation.hold-minutes:15}") long holdMinutes) {
+        this.eventRepository = eventRepository;
+        this.registrationRepository = registrationRepository;
+        this.ticketRepository = ticketRepository;
+        this.notificationOutbox = notificationOutbox;
+        this.changeLog = changeLog;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxConcurrentPerEvent = maxConcurrentPerEvent;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.soldOutTtlMs = soldOutTtlMs;
+        this.holdDuration = Duration.ofMinutes(holdMinutes);
+    }
+
+    /**
+     * Save a new registration, taking its seats or placing it on the waitlist when the event is full.
+     * @param registration the registration to create; event and user must carry IDs
+     * @return the reservation outcome
+     * @throws IllegalArgumentException if the event or user is missing
+     * @throws SeatsUnavailableException if registration for the event is closed
+     * @throws ReservationBusyException if the event is saturated with concurrent attempts
+     */
+    public Reservation reserve(Registration registration) {
+        UUID eventId = eventIdOf(registration);
+        if (eventId == null) {
+            throw new IllegalArgumentException("Event is required");
+        }
+        if (registration.getUser() == null || registration.getUser().getId() == null) {
+            throw new IllegalArgumentException("User is required");
+        }
+        if (registration.getRegistrationStatus() == RegistrationStatus.WAITLISTED
+                || registration.getRegistrationStatus() == RegistrationStatus.CANCELLED) {
+            registration.setRegistrationStatus(RegistrationStatus.PENDING);
+        }
+
+        Reservation reservation = tryWithSeats(eventId, seatsFor(registration), () -> {
+            Registration saved = registrationRepository.save(registration);
+            notificationOutbox.registrationChanged(saved);
+            return new Reservation(saved, false, 0, holdExpiry(saved));
+        });
+        return reservation != null ? reservation : waitlist(registration);
+    }
+
+    /**
+     * Take seats on an event and run work in the same transaction, so the seats
+     * and everything the work writes commit or roll back together.
+     * @param eventId the event ID
+     * @param seats number of seats to take
+     * @param work writes to perform once the seats are taken; must not return null
+     * @return the result of the work
+     * @throws IllegalArgumentException if the event does not exist
+     * @throws SeatsUnavailableException if the event is full or registration is closed
+     * @throws ReservationBusyException if the event is saturated with concurrent attempts
+     */
+    public <T> T withSeats(UUID eventId, int seats, Supplier<T> work) {
+        T result = tryWithSeats(eventId, seats, work);
+        if (result == null) {
+            throw new SeatsUnavailableException("Event is full");
+        }
+        return result;
+    }
+
+    /**
+     * Apply changes to an existing registration, moving seats to match its new status, size or event.
+     * The row is re-read under a lock so the seats it held are not stale against the hold sweep
+     * or a concurrent update. The registrant is notified when the status changed.
+     * @param id the registration ID
+     * @param changes applies the requested changes to the locked registration
+     * @return the saved registration, or empty if it does not exist
+     * @throws SeatsUnavailableException if the change needs seats the event does not have
+     */
+    public Optional<Registration> update(UUID id, Consumer<Registration> changes) {
+        UUID[] freedOn = new UUID[1];
+        Optional<Registration> saved = transactionTemplate.execute(status -> {
+            Optional<Registration> locked = registrationRepository.findByIdForUpdate(id);
+            if (locked.isEmpty()) {
+                return Optional.<Registration>empty();
+            }
+            Registration registration = locked.get();
+            UUID previousEventId = eventIdOf(registration);
+            int previousSeats = seatsHeldBy(registration);
+            RegistrationStatus previousStatus = registration.getRegistrationStatus();
+
+            changes.accept(registration);
+            UUID eventId = eventIdOf(registration);
+            int seats = seatsHeldBy(registration);
+            OffsetDateTime now = OffsetDateTime.now();
+            if (Objects.equals(eventId, previousEventId)) {
+                int delta = seats - previousSeats;
+                if (delta > 0 && eventRepository.reserveSeats(eventId, delta, now) == 0) {
+                    throw new SeatsUnavailableException("Not enough seats left for this event");
+                }
+                if (delta < 0) {
+                    eventRepository.releaseSeats(eventId, -delta);
+                    freedOn[0] = eventId;
+                }
+            } else {
+                if (seats > 0 && eventRepository.reserveSeats(eventId, seats, now) == 0) {
+                    throw new SeatsUnavailableException("Not enough seats left for this event");
+                }
+                if (previousSeats > 0) {
+                    eventRepository.releaseSeats(previousEventId, previousSeats);
+                    seatsChanged(previousEventId);
+                    freedOn[0] = previousEventId;
+                }
+            }
+            if (seats != previousSeats || !Objects.equals(eventId, previousEventId)) {
+                seatsChanged(eventId);
+            }
+            Registration updated = registrationRepository.save(registration);
+            if (updated.getRegistrationStatus() != previousStatus) {
+                notificationOutbox.registrationChanged(updated);
+            }
+            return Optional.of(updated);
+        });
+
+        if (freedOn[0] != null) {
+            seatsFreed(freedOn[0]);
+        }
+        return saved;
+    }
+
+    /**
+     * Delete a registration and give the seats it held back to the event.
+     * @param id the registration ID
+     * @return false if the registration does not exist
+     */
+    public boolean delete(UUID id) {
+        UUID[] freedOn = new UUID[1];
+        Boolean deleted = transactionTemplate.execute(status -> {
+            Optional<Registration> locked = registrationRepository.findByIdForUpdate(id);
+            if (locked.isEmpty()) {
+                return Boolean.FALSE;
+            }
+            Registration registration = locked.get();
+            UUID eventId = eventIdOf(registration);
+            int seats = seatsHeldBy(registration);
+            registrationRepository.delete(registration);
+            if (seats > 0) {
+                eventRepository.releaseSeats(eventId, seats);
+                seatsChanged(eventId);
+                freedOn[0] = eventId;
+            }
+            return Boolean.TRUE;
+        });
+        if (freedOn[0] != null) {
+            seatsFreed(freedOn[0]);
+        }
+        return Boolean.TRUE.equals(deleted);
+    }
+
+    /**
+     * Cancel unpaid pending registrations whose hold has lapsed and hand their
+     * seats to the waitlist. Also promotes waitlists for events whose seats
+     * were freed elsewhere, e.g. by another instance or directly in the database.
+     */
+    @Scheduled(fixedDelayString = "${reservation.sweep-interval-ms:60000}")
+    public void sweep() {
+        try {
+            OffsetDateTime now = OffsetDateTime.now();
+            List<Registration> expired = registrationRepository.findExpiredHolds(now.minus(holdDuration));
+            Set<UUID> freed = new HashSet<>();
+            int cancelled = 0;
+            for (Registration registration : expired) {
+                UUID eventId = eventIdOf(registration);
+                int seats = seatsFor(registration);
+                Boolean released = transactionTemplate.execute(status -> {
+                    if (registrationRepository.expireHold(registration.getId(), now) == 0) {
+                        return Boolean.FALSE;
+                    }
+                    eventRepository.releaseSeats(eventId, seats);
+                    changeLog.record("Registration", registration.getId(), ChangeOperation.UPDATE, eventId);
+                    seatsChanged(eventId);
+                    notificationOutbox.registrationChanged(registration);
+                    return Boolean.TRUE;
+                });
+                if (Boolean.TRUE.equals(released)) {
+                    freed.add(eventId);
+                    cancelled++;
+                }
+            }
+            freed.forEach(this::seatsFreed);
+            if (cancelled > 0) {
+                log.info("Expired {} unpaid seat holds", cancelled);
+            }
+
+            for (UUID eventId : registrationRepository.findEventIdsByRegistrationStatus(RegistrationStatus.WAITLISTED)) {
+                if (!freed.contains(eventId)) {
+                    promoteWaitlist(eventId);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Seat reservation sweep failed", e);
+        }
+    }
+
+    /**
+     * Number of seats a registration takes, whether or not it currently holds them.
+     */
+    public static int seatsFor(Registration registration) {
+        Integer teamSize = registration.getTeamSize();
+        if (Boolean.TRUE.equals(registration.getTeam()) && teamSize != null && teamSize > 0) {
+            return teamSize;
+        }
+        return 1;
+    }
+
+    /**
+     * Number of seats a registration currently holds; cancelled and waitlisted registrations hold none.
+     */
+    public static int seatsHeldBy(Registration registration) {
+        RegistrationStatus status = registration.getRegistrationStatus();
+        if (status == RegistrationStatus.CANCELLED || status == RegistrationStatus.WAITLISTED) {
+            return 0;
+        }
+        return seatsFor(registration);
+    }
+
+    /**
+     * Take seats on an event and run work in the same transaction, like {@link #withSeats},
+     * but return null instead of throwing when the event is full so the caller can waitlist.
+     * @throws IllegalArgumentException if the event does not exist
+     * @throws SeatsUnavailableException if registration for the event is closed
+     * @throws ReservationBusyException if the event is saturated with concurrent attempts
+     */
+    public <T> T tryWithSeats(UUID eventId, int seats, Supplier<T> work) {
+        EventGate gate = gateFor(eventId);
+        if (gate.isSoldOut()) {
+            return null;
+        }
+        if (!gate.tryEnter(acquireTimeoutMs)) {
+            throw new ReservationBusyException("Too many registrations in progress for this event, please retry");
+        }
+        T result;
+        try {
+            result = transactionTemplate.execute(status -> {
+                if (eventRepository.reserveSeats(eventId, seats, OffsetDateTime.now()) == 0) {
+                    return null;
+                }
+                seatsChanged(eventId);
+                return work.get();
+            });
+        } finally {
+            gate.leave();
+        }
+        if (result != null) {
+            return result;
+        }
+
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("Event not found"));
+        if (!isOpen(event)) {
+            throw new SeatsUnavailableException("Registration is closed for this event");
+        }
+        gate.markSoldOut(soldOutTtlMs);
+        return null;
+    }
+
+    /**
+     * Place a new registration on its event's waitlist without taking seats.
+     * @param registration the registration to save as waitlisted
+     * @return the reservation outcome with the registration's waitlist position
+     */
+    public Reservation waitlist(Registration registration) {
+        return waitlist(registration, waitlisted -> {
+        });
+    }
+
+    /**
+     * Place a new registration on its event's waitlist without taking seats,
+     * saving rows that belong to it (such as its team) in the same transaction.
+     * @param registration the registration to save as waitlisted
+     * @param alsoSave writes to perform with the saved registration
+     * @return the reservation outcome with the registration's waitlist position
+     */
+    public Reservation waitlist(Registration registration, Consumer<Registration> alsoSave) {
+        registration.setRegistrationStatus(RegistrationStatus.WAITLISTED);
+        Registration saved = transactionTemplate.execute(status -> {
+            Registration waitlisted = registrationRepository.save(registration);
+            alsoSave.accept(waitlisted);
+            notificationOutbox.registrationChanged(waitlisted);
+            return waitlisted;
+        });
+        long position = registrationRepository.countWaitlistedUpTo(eventIdOf(saved), saved.getRegistrationDate());
+        return new Reservation(saved, true, position, null);
+    }
+
+    /**
+     * Record a seat count change, which the bulk update does not report as an entity write.
+     */
+    private void seatsChanged(UUID eventId) {
+        changeLog.record("Event", eventId, ChangeOperation.UPDATE, eventId);
+    }
+
+    private void seatsFreed(UUID eventId) {
+        EventGate gate = gates.get(eventId);
+        if (gate != null) {
+            gate.clearSoldOut();
+        }
+        promoteWaitlist(eventId);
+    }
+
+    private void promoteWaitlist(UUID eventId) {
+        for (int i = 0; i < MAX_PROMOTIONS_PER_PASS; i++) {
+            Optional<Registration> head = registrationRepository
+                    .findFirstByEvent_IdAndRegistrationStatusOrderByRegistrationDateAsc(eventId, RegistrationStatus.WAITLISTED);
+            if (head.isEmpty()) {
+                return;
+            }
+            Registration next = head.get();
+            Boolean promoted = transactionTemplate.execute(status -> {
+                OffsetDateTime now = OffsetDateTime.now();
+                if (registrationRepository.promoteFromWaitlist(next.getId(), now) == 0) {
+                    // Promoted concurrently; move on to the new head.
+                    return Boolean.TRUE;
+                }
+                if (eventRepository.reserveSeats(eventId, seatsFor(next), now) == 0) {
+                    status.setRollbackOnly();
+                    return Boolean.FALSE;
+                }
+                changeLog.record("Registration", next.getId(), ChangeOperation.UPDATE, eventId);
+                seatsChanged(eventId);
+                if (isFree(next)) {
+                    confirmFree(next.getId(), eventId, now);
+                } else {
+                    notificationOutbox.registrationChanged(next);
+                }
+                return Boolean.TRUE;
+            });
+            if (!Boolean.TRUE.equals(promoted)) {
+                return;
+            }
+            log.debug("Promoted registration {} from the waitlist of event {}", next.getId(), eventId);
+        }
+    }
+
+    /**
+     * Confirm a promoted registration that has nothing to pay and issue its
+     * ticket, as checkout would have had a seat been free. Without this it
+     * would stay pending: the hold sweep only expires unpaid holds.
+     */
+    private void confirmFree(UUID id, UUID eventId, OffsetDateTime now) {
+        Registration registration = registrationRepository.findByIdForUpdate(id).orElseThrow();
+        registration.setRegistrationStatus(RegistrationStatus.CONFIRMED);
+        registration.setPaymentStatus(PaymentStatus.COMPLETED);
+        registration.setUpdatedAt(now);
+        if (ticketRepository.findByRegistrationId(id).isPresent()) {
+            notificationOutbox.registrationChanged(registration);
+            return;
+        }
+        Ticket ticket = new Ticket();
+        ticket.setEvent(eventRepository.getReferenceById(eventId));
+        ticket.setRegistration(registration);
+        ticket.setTicketType(TicketType.FREE);
+        ticket.setPrice(BigDecimal.ZERO);
+        ticket.setTicketCode(TicketCodes.generate());
+        ticket.setValid(Boolean.TRUE);
+        ticket.setIssuedAt(now);
+        ticket.setCreatedAt(now);
+        ticket.setUpdatedAt(now);
+        ticketRepository.save(ticket);
+        // The ticket email doubles as the registration confirmation
+        notificationOutbox.ticketsIssued(List.of(ticket));
+    }
+
+    private static boolean isFree(Registration registration) {
+        return registration.getPaymentAmount() == null || registration.getPaymentAmount().signum() == 0;
+    }
+
+    private OffsetDateTime holdExpiry(Registration registration) {
+        boolean unpaid = registration.getRegistrationStatus() == RegistrationStatus.PENDING
+                && registration.getPaymentStatus() == PaymentStatus.PENDING
+                && registration.getPaymentAmount() != null
+                && registration.getPaymentAmount().compareTo(BigDecimal.ZERO) > 0;
+        return unpaid ? registration.getRegistrationDate().plus(holdDuration) : null;
+    }
+
+    private EventGate gateFor(UUID eventId) {
+        return gates.computeIfAbsent(eventId, id -> new EventGate(maxConcurrentPerEvent));
+    }
+
+    private static boolean isOpen(Event event) {
+        if (event.getEventStatus() == EventStatus.CANCELLED || event.getEventStatus() == EventStatus.COMPLETED) {
+            return false;
+        }
+        return event.getRegistrationDeadline() == null || event.getRegistrationDeadline().isAfter(OffsetDateTime.now());
+    }
+
+    private static UUID eventIdOf(Registration registration) {
+        return registration.getEvent() != null ? registration.getEvent().getId() : null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.backend.reservation;
+
+/**
+ * Thrown when an event cannot take the requested number of seats.
+ */
+public class SeatsUnavailableException extends RuntimeException {
+
+    public SeatsUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.backend.schema;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Startup check that the finders listed in {@link #FINDERS} can be answered
+ * from an index. Each listed filter is planned with sequential scans disabled;
+ * a plan that still scans the finder's table sequentially has no usable index,
+ * so a failure means a migration dropped or never added the index it needs.
+ *
+ * <p>The list is a hand-written SQL copy of each finder's filtering and
+ * ordering, not the SQL Hibernate generates. A finder that is added or
+ * changed is only covered once its entry is added or updated here, and a
+ * passing check says nothing about finders missing from the list.
+ *
+ * <p>{@code schema.plan-check} is {@code warn} (log), {@code fail} (stop
+ * startup) or {@code off}.
+ */
+@Component
+public class QueryPlanCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryPlanCheck.class);
+
+    private static final UUID ID = new UUID(0, 0);
+
+    /**
+     * The filtering and ordering of each checked finder, copied by hand into
+     * SQL; keep an entry in step with its finder's query. Enum columns are
+     * given as {@link EnumValue}s and bound to a label of the column's type.
+     */
+    private static final List<Finder> FINDERS = List.of(
+            new Finder("EventRepository.findByCollegeId", "events",
+                    "SELECT id FROM events WHERE college_id = ?", ID),
+            new Finder("EventRepository.findByCategoryId", "events",
+                    "SELECT id FROM events WHERE category_id = ?", ID),
+            new Finder("EventRepository.findByOrganizerId", "events",
+                    "SELECT id FROM events WHERE organizer_id = ?", ID),
+            new Finder("EventRepository.findByEventStatus", "events",
+                    "SELECT id FROM events WHERE event_status = ?",
+                    new EnumValue("events", "event_status", "PUBLISHED")),
+            new Finder("EventRepository.findUpcomingPublishedEvents", "events",
+                    "SELECT id FROM events WHERE event_status = ? AND start_date > ? ORDER BY start_date",
+                    new EnumValue("events", "event_status", "PUBLISHED"), OffsetDateTime.now()),
+            new Finder("EventRepository.findByCollegeIdAndEventStatus", "events",
+                    "SELECT id FROM events WHERE college_id = ? AND event_status = ?",
+                    ID, new EnumValue("events", "event_status", "PUBLISHED")),
+            new Finder("EventRepository.findPage", "events",
+                    "SELECT id FROM events WHERE start_date > ? OR (start_date = ? AND id > ?) "
+                            + "ORDER BY start_date, id LIMIT 20",
+                    OffsetDateTime.now(), OffsetDateTime.now(), ID),
+            new Finder("EventRepository.findPage(college)", "events",
+                    "SELECT id FROM events WHERE college_id = ? AND (start_date > ? OR (start_date = ? AND id > ?)) "
+                            + "ORDER BY start_date, id LIMIT 20",
+                    ID, OffsetDateTime.now(), OffsetDateTime.now(), ID),
+
+            new Finder("RegistrationRepository.findByEventId", "registrations",
+                    "SELECT id FROM registrations WHERE event_id = ?", ID),
+            new Finder("RegistrationRepository.findByUser_Id", "registrations",
+                    "SELECT id FROM registrations WHERE user_id = ?", ID),
+            new Finder("RegistrationRepository.findByRegistrationStatus", "registrations",
+                    "SELECT id FROM registrations WHERE registration_status = ?",
+                    new EnumValue("registrations", "registration_status", "PENDING")),
+            new Finder("RegistrationRepository.findByEventIdAndRegistrationStatus", "registrations",
+                    "SELECT id FROM registrations WHERE event_id = ? AND registration_status = ? "
+                            + "ORDER BY registration_date LIMIT 1",
+                    ID, new EnumValue("registrations", "registration_status", "WAITLISTED")),
+            new Finder("RegistrationRepository.findExpiredHolds", "registrations",
+                    "SELECT id FROM registrations WHERE registration_status = ? AND payment_status = ? "
+                            + "AND payment_amount > 0 AND registration_date < ?",
+                    new EnumValue("registrations", "registration_status", "PENDING"),
+                    new EnumValue("registrations", "payment_status", "PENDING"), OffsetDateTime.now()),
+            new Finder("RegistrationRepository.findUnticketed", "registrations",
+                    "SELECT id FROM registrations WHERE event_id = ? AND registration_status = ? AND id > ? "
+                            + "ORDER BY id LIMIT 500",
+                    ID, new EnumValue("registrations", "registration_status", "CONFIRMED"), ID),
+
+            new Finder("PaymentRepository.findByRegistrationId", "payments",
+                    "SELECT id FROM payments WHERE registration_id = ?", ID),
+            new Finder("PaymentRepository.findByTransactionId", "payments",
+                    "SELECT id FROM payments WHERE transaction_id = ?", "txn"),
+            new Finder("PaymentRepository.findByPaymentStatus", "payments",
+                    "SELECT id FROM payments WHERE payment_status = ?",
+                    new EnumValue("payments", "payment_status", "PENDING")),
+            new Finder("PaymentRepository.findByTicketId", "payments",
+                    "SELECT id FROM payments WHERE ticket_id = ?", ID),
+
+            new Finder("TeamRepository.findByEventId", "teams",
+                    "SELECT id FROM teams WHERE event_id = ?", ID),
+            new Finder("TeamRepository.findByTeamLeaderId", "teams",
+                    "SELECT id FROM teams WHERE team_leader_id = ?", ID),
+            new Finder("TeamRepository.findByRegistrationId", "teams",
+                    "SELECT id FROM teams WHERE registration_id = ?", ID),
+            new Finder("TeamMemberRepository.findByTeamId", "team_members",
+                    "SELECT id FROM team_members WHERE team_id = ?", ID),
+
+            new Finder("TicketRepository.findByEventId", "tickets",
+                    "SELECT id FROM tickets WHERE event_id = ?", ID),
+            new Finder("TicketRepository.findByRegistrationId", "tickets",
+                    "SELECT id FROM tickets WHERE registration_id = ?", ID),
+            new Finder("TicketRepository.findCheckinRowByCode", "tickets",
+                    "SELECT id FROM tickets WHERE ticket_code = ?", "code"),
+            new Finder("TicketRepository.findRevokedIdsByEventId", "tickets",
+                    "SELECT id FROM tickets WHERE event_id = ? AND is_valid = false", ID),
+            new Finder("TicketRepository.findRevokedIdsByEventId(deleted)", "ticket_revocations",
+                    "SELECT ticket_id FROM ticket_revocations WHERE event_id = ?", ID),
+
+            new Finder("ProfileRepository.findByEmail", "profiles",
+                    "SELECT id FROM profiles WHERE email = ?", "user@example.com"),
+            new Finder("ReviewRepository.findByEventId", "reviews",
+                    "SELECT id FROM reviews WHERE event_id = ?", ID),
+            new Finder("ReviewRepository.findByUser_Id", "reviews",
+                    "SELECT id FROM reviews WHERE user_id = ?", ID),
+
+            new Finder("NotificationDispatcher.claim", "notification_outbox",
+                    "SELECT id FROM notification_outbox WHERE status = 'PENDING' AND next_attempt_at <= ? "
+                            + "AND registration_id IS NOT NULL ORDER BY next_attempt_at LIMIT 50",
+                    OffsetDateTime.now())
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final String mode;
+
+    public QueryPlanCheck(DataSource dataSource,
+                          PlatformTransactionManager transactionManager,
+                          ObjectMapper objectMapper,
+                          @Value("${schema.plan-check:warn}") String mode) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.mode = mode.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Plan every listed finder and report those that cannot use an index.
+     * @throws IllegalStateException in {@code fail} mode when any finder cannot
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        if (mode.equals("off")) {
+            return;
+        }
+        List<String> problems = new ArrayList<>();
+        for (Finder finder : FINDERS) {
+            try {
+                String problem = transactionTemplate.execute(status -> plan(finder));
+                if (problem != null) {
+                    problems.add(finder.name() + ": " + problem);
+                }
+            } catch (DataAccessException e) {
+                problems.add(finder.name() + ": could not be planned (" + e.getMostSpecificCause().getMessage() + ")");
+            }
+        }
+        if (problems.isEmpty()) {
+            log.info("All {} listed finders can use an index", FINDERS.size());
+            return;
+        }
+        String report = "Listed finders without a usable index:\n  " + String.join("\n  ", problems);
+        if (mode.equals("fail")) {
+            throw new IllegalStateException(report);
+        }
+        log.warn(report);
+    }
+
+    /**
+     * @return why the finder cannot use an index, or null if it can
+     */
+    private String plan(Finder finder) {
+        // Makes sequential scans a last resort, so small tables still show whether an index fits
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        Object[] args = new Object[finder.args().length];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = finder.args()[i] instanceof EnumValue value ? label(value) : finder.args()[i];
+        }
+        String json = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + finder.sql(), String.class, args);
+        try {
+            JsonNode plan = objectMapper.readTree(json).path(0).path("Plan");
+            return seqScanOf(plan, finder.table()) ? "sequential scan on " + finder.table() : null;
+        } catch (JsonProcessingException e) {
+            return "unreadable plan";
+        }
+    }
+
+    private static boolean seqScanOf(JsonNode node, String table) {
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && table.equals(node.path("Relation Name").asText())) {
+            return true;
+        }
+        for (JsonNode child : node.path("Plans")) {
+            if (seqScanOf(child, table)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A label the column accepts: the first label of its enum type, matching
+     * whichever case the database uses, or the fallback for text columns.
+     */
+    private SqlParameterValue label(EnumValue value) {
+        List<String> labels = jdbcTemplate.queryForList(
+                "SELECT e.enumlabel FROM pg_attribute a JOIN pg_enum e ON e.enumtypid = a.atttypid "
+                        + "WHERE a.attrelid = ?::regclass AND a.attname = ? ORDER BY e.enumsortorder LIMIT 1",
+                String.class, value.table(), value.column());
+        return new SqlParameterValue(Types.OTHER, labels.isEmpty() ? value.fallback() : labels.get(0));
+    }
+
+    private record Finder(String name, String table, String sql, Object... args) {
+    }
+
+    private record EnumValue(String table, String column, String fallback) {
+    }
+}
@@ -0,0 +1,292 @@
+package com.example.backend.search;
+
+import com.example.backend.dto.EventSearchRow;
+import com.example.backend.dto.SearchResponse;
+import com.example.backend.dto.SearchResponse.EntityHit;
+import com.example.backend.dto.SearchResponse.EventHit;
+import com.example.backend.dto.SearchResponse.FacetCount;
+import com.example.backend.entity.Category;
+import com.example.backend.entity.College;
+import com.example.backend.entity.enums.EventStatus;
+import com.example.backend.repository.CategoryRepository;
+import com.example.backend.repository.CollegeRepository;
+import com.example.backend.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked, typo-tolerant, prefix-aware search over events, colleges and categories.
+ * Backed by in-process inverted indexes that are rebuilt on startup and periodically,
+ * and updated incrementally by the controllers on every write.
+ */
+@Service
+public class SearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchService.class);
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float NAME_WEIGHT = 2.0f;
+    private static final float LOCATION_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final int MAX_ENTITY_HITS = 10;
+    private static final int DESCRIPTION_SNIPPET_LENGTH = 200;
+
+    private final EventRepository eventRepository;
+    private final CollegeRepository collegeRepository;
+    private final CategoryRepository categoryRepository;
+
+    private final TextIndex eventIndex = new TextIndex();
+    private final TextIndex collegeIndex = new TextIndex();
+    private final TextIndex categoryIndex = new TextIndex();
+
+    private final Map<UUID, EventSearchRow> events = new ConcurrentHashMap<>();
+    private final Map<UUID, EntityHit> colleges = new ConcurrentHashMap<>();
+    private final Map<UUID, EntityHit> categories = new ConcurrentHashMap<>();
+
+    public SearchService(EventRepository eventRepository,
+                         CollegeRepository collegeRepository,
+                         CategoryRepository categoryRepository) {
+        this.eventRepository = eventRepository;
+        this.collegeRepository = collegeRepository;
+        this.categoryRepository = categoryRepository;
+    }
+
+    /**
+     * Rebuild all indexes from the database. Runs on startup and on a fixed
+     * delay to pick up rows written outside this application.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${search.rebuild-interval-ms:600000}",
+               fixedDelayString = "${search.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            List<EventSearchRow> eventRows = eventRepository.findAllSearchRows();
+            List<College> collegeRows = collegeRepository.findAll();
+            List<Category> categoryRows = categoryRepository.findAll();
+
+            eventIndex.replaceAll(eventRows.stream()
+                    .collect(Collectors.toMap(EventSearchRow::id, SearchService::eventFields)));
+            collegeIndex.replaceAll(collegeRows.stream()
+                    .collect(Collectors.toMap(College::getId, SearchService::collegeFields)));
+            categoryIndex.replaceAll(categoryRows.stream()
+                    .collect(Collectors.toMap(Category::getId, SearchService::categoryFields)));
+
+            replaceContents(events, eventRows.stream()
+                    .collect(Collectors.toMap(EventSearchRow::id, Function.identity())));
+            replaceContents(colleges, collegeRows.stream()
+                    .collect(Collectors.toMap(College::getId, c -> new EntityHit(c.getId(), c.getName(), c.getDescription(), c.getLocation(), 0))));
+            replaceContents(categories, categoryRows.stream()
+                    .collect(Collectors.toMap(Category::getId, c -> new EntityHit(c.getId(), c.getName(), c.getDescription(), null, 0))));
+
+            log.info("Search index rebuilt: {} events, {} colleges, {} categories",
+                    eventRows.size(), collegeRows.size(), categoryRows.size());
+        } catch (RuntimeException e) {
+            log.warn("Search index rebuild failed, keeping previous index", e);
+        }
+    }
+
+    /**
+     * Re-index a single event after it was created or updated.
+     * @param eventId the event ID
+     */
+    public void indexEvent(UUID eventId) {
+        eventRepository.findSearchRowById(eventId).ifPresentOrElse(this::putEvent, () -> removeEvent(eventId));
+    }
+
+    /**
+     * Drop a deleted event from the index.
+     * @param eventId the event ID
+     */
+    public void removeEvent(UUID eventId) {
+        eventIndex.remove(eventId);
+        events.remove(eventId);
+    }
+
+    /**
+     * Re-index a college and the events that carry its name.
+     * @param college the saved college
+     */
+    public void indexCollege(College college) {
+        collegeIndex.put(college.getId(), collegeFields(college));
+        colleges.put(college.getId(), new EntityHit(college.getId(), college.getName(), college.getDescription(), college.getLocation(), 0));
+        eventRepository.findSearchRowsByCollegeId(college.getId()).forEach(this::putEvent);
+    }
+
+    /**
+     * Drop a deleted college from the index.
+     * @param collegeId the college ID
+     */
+    public void removeCollege(UUID collegeId) {
+        collegeIndex.remove(collegeId);
+        colleges.remove(collegeId);
+    }
+
+    /**
+     * Re-index a category and the events that carry its name.
+     * @param category the saved category
+     */
+    public void indexCategory(Category category) {
+        categoryIndex.put(category.getId(), categoryFields(category));
+        categories.put(category.getId(), new EntityHit(category.getId(), category.getName(), category.getDescription(), null, 0));
+        eventRepository.findSearchRowsByCategoryId(category.getId()).forEach(this::putEvent);
+    }
+
+    /**
+     * Drop a deleted category from the index.
+     * @param categoryId the category ID
+     */
+    public void removeCategory(UUID categoryId) {
+        categoryIndex.remove(categoryId);
+        categories.remove(categoryId);
+    }
+
+    /**
+     * Run a search.
+     * @param query free-text query
+     * @param page zero-based page of event hits
+     * @param size number of event hits per page
+     * @param collegeId optional college filter
+     * @param categoryId optional category filter
+     * @param status optional event status filter
+     * @return ranked, paginated hits with facet counts
+     */
+    public SearchResponse search(String query, int page, int size,
+                                 UUID collegeId, UUID categoryId, EventStatus status) {
+        List<String> terms = TextIndex.tokenize(query);
+        String normalized = String.join(" ", terms);
+
+        Map<UUID, Double> eventScores = eventIndex.search(terms);
+        List<EventSearchRow> matched = new ArrayList<>();
+        Map<String, Map<String, FacetAccumulator>> facets = new LinkedHashMap<>();
+        facets.put("college", new HashMap<>());
+        facets.put("category", new HashMap<>());
+        facets.put("status", new HashMap<>());
+
+        for (UUID id : eventScores.keySet()) {
+            EventSearchRow row = events.get(id);
+            if (row == null) {
+                continue;
+            }
+            boolean collegeOk = collegeId == null || collegeId.equals(row.collegeId());
+            boolean categoryOk = categoryId == null || categoryId.equals(row.categoryId());
+            boolean statusOk = status == null || status == row.eventStatus();
+
+            // Each facet is counted with every filter applied except its own,
+            // so the client can show alternatives within the current selection
+            if (categoryOk && statusOk && row.collegeId() != null) {
+                count(facets.get("college"), row.collegeId().toString(), row.collegeName());
+            }
+            if (collegeOk && statusOk && row.categoryId() != null) {
+                count(facets.get("category"), row.categoryId().toString(), row.categoryName());
+            }
+            if (collegeOk && categoryOk && row.eventStatus() != null) {
+                count(facets.get("status"), row.eventStatus().name(), row.eventStatus().name());
+            }
+            if (collegeOk && categoryOk && statusOk) {
+                matched.add(row);
+            }
+        }
+
+        matched.sort(Comparator.<EventSearchRow>comparingDouble(row -> eventScores.get(row.id())).reversed()
+                .thenComparing(EventSearchRow::startDate, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        // Computed in long so a huge page index lands past the end instead of overflowing
+        int from = (int) Math.min((long) page * size, matched.size());
+        int to = (int) Math.min((long) from + size, matched.size());
+        List<EventHit> eventHits = matched.subList(from, to).stream()
+                .map(row -> toHit(row, eventScores.get(row.id())))
+                .collect(Collectors.toList());
+
+        Map<String, List<FacetCount>> facetCounts = new LinkedHashMap<>();
+        facets.forEach((name, values) -> facetCounts.put(name, values.entrySet().stream()
+                .map(e -> new FacetCount(e.getKey(), e.getValue().label, e.getValue().count))
+                .sorted(Comparator.comparingLong(FacetCount::count).reversed())
+                .collect(Collectors.toList())));
+
+        return new SearchResponse(normalized, matched.size(), page, size, eventHits,
+                topEntities(collegeIndex.search(terms), colleges),
+                topEntities(categoryIndex.search(terms), categories),
+                facetCounts);
+    }
+
+    private void putEvent(EventSearchRow row) {
+        eventIndex.put(row.id(), eventFields(row));
+        events.put(row.id(), row);
+    }
+
+    private static List<TextIndex.Field> eventFields(EventSearchRow row) {
+        return List.of(
+                new TextIndex.Field(row.title(), TITLE_WEIGHT),
+                new TextIndex.Field(row.collegeName(), NAME_WEIGHT),
+                new TextIndex.Field(row.categoryName(), NAME_WEIGHT),
+                new TextIndex.Field(row.location(), LOCATION_WEIGHT),
+                new TextIndex.Field(row.description(), DESCRIPTION_WEIGHT));
+    }
+
+    private static List<TextIndex.Field> collegeFields(College college) {
+        return List.of(
+                new TextIndex.Field(college.getName(), NAME_WEIGHT),
+                new TextIndex.Field(college.getLocation(), LOCATION_WEIGHT));
+    }
+
+    private static List<TextIndex.Field> categoryFields(Category category) {
+        return List.of(
+                new TextIndex.Field(category.getName(), NAME_WEIGHT),
+                new TextIndex.Field(category.getDescription(), DESCRIPTION_WEIGHT));
+    }
+
+    private static EventHit toHit(EventSearchRow row, double score) {
+        String description = row.description();
+        if (description != null && description.length() > DESCRIPTION_SNIPPET_LENGTH) {
+            description = description.substring(0, DESCRIPTION_SNIPPET_LENGTH);
+        }
+        return new EventHit(row.id(), row.title(), description, row.location(), row.startDate(),
+                row.eventStatus(), row.collegeId(), row.collegeName(), row.categoryId(), row.categoryName(), score);
+    }
+
+    private static List<EntityHit> topEntities(Map<UUID, Double> scores, Map<UUID, EntityHit> entities) {
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
+                .map(e -> {
+                    EntityHit hit = entities.get(e.getKey());
+                    return hit == null ? null : new EntityHit(hit.id(), hit.name(), hit.description(), hit.location(), e.getValue());
+                })
+                .filter(Objects::nonNull)
+                .limit(MAX_ENTITY_HITS)
+                .collect(Collectors.toList());
+    }
+
+    private static void count(Map<String, FacetAccumulator> facet, String value, String label) {
+        facet.computeIfAbsent(value, v -> new FacetAccumulator(label)).count++;
+    }
+
+    private static <V> void replaceContents(Map<UUID, V> target, Map<UUID, V> source) {
+        target.putAll(source);
+        target.keySet().retainAll(source.keySet());
+    }
+
+    private static final class FacetAccumulator {
+        private final String label;
+        private long count;
+
+        private FacetAccumulator(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over short weighted text fields.
+ * Terms are kept in a sorted dictionary so that the same structure answers
+ * exact, prefix and bounded edit-distance (typo) lookups.
+ */
+public class TextIndex {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final double EXACT_BOOST = 1.0;
+    private static final double PREFIX_BOOST = 0.7;
+    private static final double FUZZY_BOOST = 0.4;
+
+    /**
+     * A piece of text and the weight its terms contribute to a document score.
+     */
+    public record Field(String text, float weight) {
+    }
+
+    private final NavigableMap<String, Map<UUID, Float>> postings = new TreeMap<>();
+    private final Map<UUID, List<String>> documentTerms = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Add or replace a document.
+     * @param id the document ID
+     * @param fields weighted text fields of the document
+     */
+    public void put(UUID id, List<Field> fields) {
+        Map<String, Float> weights = new HashMap<>();
+        for (Field field : fields) {
+            for (String term : tokenize(field.text())) {
+                weights.merge(term, field.weight(), Float::sum);
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+            weights.forEach((term, weight) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, weight));
+            documentTerms.put(id, new ArrayList<>(weights.keySet()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a document if present.
+     * @param id the document ID
+     */
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace the whole index content in one step.
+     * @param documents document ID to weighted fields
+     */
+    public void replaceAll(Map<UUID, List<Field>> documents) {
+        TextIndex staging = new TextIndex();
+        documents.forEach(staging::put);
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            postings.putAll(staging.postings);
+            documentTerms.clear();
+            documentTerms.putAll(staging.documentTerms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed documents.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Score all documents matching every query term.
+     * Each term matches exactly, as a prefix of an indexed term, or within a
+     * small edit distance; exact matches rank highest.
+     * @param queryTerms terms produced by {@link #tokenize(String)}
+     * @return document ID to relevance score, unordered
+     */
+    public Map<UUID, Double> search(List<String> queryTerms) {
+        if (queryTerms.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        lock.readLock().lock();
+        try {
+            int documentCount = Math.max(1, documentTerms.size());
+            Map<UUID, Double> scores = null;
+            for (String queryTerm : queryTerms) {
+                Map<UUID, Double> termScores = scoreTerm(queryTerm, documentCount);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    // AND semantics: keep only documents matching every term
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Split text into lower-cased, accent-folded word terms.
+     * @param text free text, may be null
+     * @return List of terms in order of appearance
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        List<String> terms = new ArrayList<>();
+        for (String term : NON_WORD.split(folded.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private Map<UUID, Double> scoreTerm(String queryTerm, int documentCount) {
+        Map<UUID, Double> scores = new HashMap<>();
+
+        Map<UUID, Float> exact = postings.get(queryTerm);
+        if (exact != null) {
+            accumulate(scores, exact, EXACT_BOOST * idf(exact.size(), documentCount));
+        }
+
+        // Prefix matches cover as-you-type queries ("hack" -> "hackathon")
+        for (Map.Entry<String, Map<UUID, Float>> entry
+                : postings.subMap(queryTerm, false, queryTerm + Character.MAX_VALUE, false).entrySet()) {
+            accumulate(scores, entry.getValue(), PREFIX_BOOST * idf(entry.getValue().size(), documentCount));
+        }
+
+        // Fall back to typo tolerance only when nothing matched literally
+        int maxDistance = queryTerm.length() >= 8 ? 2 : queryTerm.length() >= 4 ? 1 : 0;
+        if (scores.isEmpty() && maxDistance > 0) {
+            String first = queryTerm.substring(0, 1);
+            for (Map.Entry<String, Map<UUID, Float>> entry
+                    : postings.subMap(first, true, first + Character.MAX_VALUE, false).entrySet()) {
+                String term = entry.getKey();
+                if (Math.abs(term.length() - queryTerm.length()) <= maxDistance
+                        && editDistance(queryTerm, term, maxDistance) <= maxDistance) {
+                    accumulate(scores, entry.getValue(), FUZZY_BOOST * idf(entry.getValue().size(), documentCount));
+                }
+            }
+        }
+        return scores;
+    }
+
+    private static void accumulate(Map<UUID, Double> scores, Map<UUID, Float> posting, double boost) {
+        // A document keeps its best match for a query term rather than the sum of all expansions
+        posting.forEach((id, weight) -> scores.merge(id, weight * boost, Math::max));
+    }
+
+    private static double idf(int documentFrequency, int documentCount) {
+        return Math.log(1.0 + (double) documentCount / documentFrequency);
+    }
+
+    /**
+     * Optimal string alignment distance, abandoning early once it exceeds the limit.
+     */
+    static int editDistance(String a, String b, int limit) {
+        int[] previousPrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previousPrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > limit) {
+                return rowMin;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    private void removeUnlocked(UUID id) {
+        List<String> terms = documentTerms.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<UUID, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
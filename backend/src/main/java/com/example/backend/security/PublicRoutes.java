@@ -0,0 +1,97 @@
+package com.example.backend.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single registry of routes that do not require authentication.
+ * Consulted by SecurityConfig for authorization and by SupabaseJwtFilter to
+ * skip token verification entirely. Patterns are compiled once at startup;
+ * to make a route public, add it here.
+ */
+@Component
+public class PublicRoutes implements RequestMatcher {
+
+    /**
+     * A public route; a null method means every HTTP method.
+     */
+    public record Route(HttpMethod method, String pattern) {
+    }
+
+    private static final List<Route> ROUTES = List.of(
+            // Health checks; the other actuator endpoints are admin-only (see SecurityConfig)
+            new Route(HttpMethod.GET, "/actuator/health/**"),
+            new Route(HttpMethod.GET, "/actuator/info"),
+            new Route(null, "/api/hello"),
+            new Route(null, "/api/health"),
+
+            // Read-only operations
+            new Route(HttpMethod.GET, "/api/colleges/**"),
+            new Route(HttpMethod.GET, "/api/categories/**"),
+            new Route(HttpMethod.GET, "/api/events/**"),
+            new Route(HttpMethod.GET, "/api/reviews/**"),
+            new Route(HttpMethod.GET, "/api/registrations/**"),
+            new Route(HttpMethod.GET, "/api/teams/**"),
+            new Route(HttpMethod.GET, "/api/payments/**"),
+            new Route(HttpMethod.GET, "/api/search/**")
+    );
+
+    private final List<PathPattern> anyMethod = new ArrayList<>();
+    private final Map<String, List<PathPattern>> byMethod = new HashMap<>();
+
+    public PublicRoutes() {
+        PathPatternParser parser = new PathPatternParser();
+        for (Route route : ROUTES) {
+            PathPattern pattern = parser.parse(route.pattern());
+            if (route.method() == null) {
+                anyMethod.add(pattern);
+            } else {
+                byMethod.computeIfAbsent(route.method().name(), m -> new ArrayList<>()).add(pattern);
+            }
+        }
+    }
+
+    /**
+     * All registered public routes.
+     */
+    public List<Route> routes() {
+        return ROUTES;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return isPublic(request.getMethod(), path);
+    }
+
+    /**
+     * Check whether a request to the given method and path needs no authentication.
+     */
+    public boolean isPublic(String method, String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        if (matchesAny(anyMethod, container)) {
+            return true;
+        }
+        List<PathPattern> patterns = byMethod.get(method.toUpperCase());
+        return patterns != null && matchesAny(patterns, container);
+    }
+
+    private static boolean matchesAny(List<PathPattern> patterns, PathContainer path) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,7 +2,6 @@ package com.example.backend.security;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -24,9 +23,11 @@ import java.util.List;
 public class SecurityConfig {
 
     private final SupabaseJwtFilter supabaseJwtFilter;
+    private final PublicRoutes publicRoutes;
 
-    public SecurityConfig(SupabaseJwtFilter supabaseJwtFilter) {
+    public SecurityConfig(SupabaseJwtFilter supabaseJwtFilter, PublicRoutes publicRoutes) {
         this.supabaseJwtFilter = supabaseJwtFilter;
+        this.publicRoutes = publicRoutes;
     }
 
     @Bean
@@ -45,20 +46,14 @@ public class SecurityConfig {
             
             // Configure authorization rules
             .authorizeHttpRequests(auth -> auth
-                // Allow public access to health check and actuator endpoints
-                .requestMatchers("/actuator/**").permitAll()
-                
-                // Allow public access to GET requests (read-only operations)
-                .requestMatchers("/api/hello").permitAll()
-                .requestMatchers("/api/health").permitAll()
-                .requestMatchers(HttpMethod.GET, "/api/colleges/**").permitAll()
-                .requestMatchers(HttpMethod.GET, "/api/categories/**").permitAll()
-                .requestMatchers(HttpMethod.GET, "/api/events/**").permitAll()
-                .requestMatchers(HttpMethod.GET, "/api/reviews/**").permitAll()
-                .requestMatchers(HttpMethod.GET, "/api/registrations/**").permitAll()
-                .requestMatchers(HttpMethod.GET, "/api/teams/**").permitAll()
-                .requestMatchers(HttpMethod.GET, "/api/tickets/**").permitAll()
-                .requestMatchers(HttpMethod.GET, "/api/payments/**").permitAll()
+                // Public routes (health, actuator, read-only GETs) are listed in PublicRoutes
+                .requestMatchers(publicRoutes).permitAll()
+
+                // Metrics, caches and the Prometheus scrape: admins, or the Supabase service_role key
+                .requestMatchers("/actuator/**").hasAnyRole("ADMIN", "SERVICE_ROLE")
+
+                // The entity change stream exposes every write, so it is for admins and services only
+                .requestMatchers("/api/changes/**").hasAnyRole("ADMIN", "SERVICE_ROLE")
                 
                 // Require authentication for all write operations and other endpoints
                 .anyRequest().authenticated()
@@ -1,18 +1,25 @@
 package com.example.backend.security;
 
+import com.example.backend.security.VerifiedTokenCache.VerifiedToken;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -22,18 +29,54 @@ import javax.crypto.SecretKey;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 
 /**
  * JWT Authentication Filter for Supabase tokens.
  * Validates JWT tokens from the Authorization header and sets authentication context.
+ * The signing key and parser are built once; verified tokens are cached until
+ * their exp so the many calls a page makes only pay for signature checks once.
  */
 @Component
 @SuppressWarnings("null")
 public class SupabaseJwtFilter extends OncePerRequestFilter {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private final PublicRoutes publicRoutes;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache tokenCache;
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Timer verificationTimer;
+
+    public SupabaseJwtFilter(PublicRoutes publicRoutes,
+                             @Value("${jwt.secret}") String jwtSecret,
+                             @Value("${jwt.cache.max-entries:10000}") int cacheMaxEntries,
+                             @Value("${jwt.cache.max-ttl-seconds:300}") long cacheMaxTtlSeconds,
+                             MeterRegistry meterRegistry) {
+        this.publicRoutes = publicRoutes;
+        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.tokenCache = new VerifiedTokenCache(cacheMaxEntries, cacheMaxTtlSeconds * 1000);
+
+        this.cacheHits = Counter.builder("festify.auth.token.cache")
+                .description("Verified-token cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.cacheMisses = Counter.builder("festify.auth.token.cache")
+                .description("Verified-token cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.verificationTimer = Timer.builder("festify.auth.token.verification")
+                .description("Time spent verifying JWT signatures and parsing claims")
+                .register(meterRegistry);
+        Gauge.builder("festify.auth.token.cache.size", tokenCache, VerifiedTokenCache::size)
+                .description("Verified tokens currently cached")
+                .register(meterRegistry);
+    }
 
     @Override
     @SuppressWarnings("null")
@@ -41,15 +84,6 @@ public class SupabaseJwtFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         
-        // Skip JWT validation for public endpoints
-        String requestPath = request.getRequestURI();
-        String method = request.getMethod();
-        
-        if (isPublicEndpoint(requestPath, method)) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-        
         String authHeader = request.getHeader("Authorization");
 
         // Skip if no Authorization header or doesn't start with "Bearer "
@@ -62,38 +96,14 @@ public class SupabaseJwtFilter extends OncePerRequestFilter {
             // Extract token from "Bearer <token>"
             String token = authHeader.substring(7);
 
-            // Parse and validate the JWT token
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            // Extract user information from claims
-            String email = claims.get("email", String.class);
-            String sub = claims.getSubject(); // User ID from Supabase
-            
-            // Use email as username, fallback to sub if email is not present
-            String username = (email != null && !email.isEmpty()) ? email : sub;
-
-            // Extract role from claims (Supabase typically includes role in JWT)
-            String role = claims.get("role", String.class);
-            List<SimpleGrantedAuthority> authorities = Collections.emptyList();
-            
-            if (role != null && !role.isEmpty()) {
-                authorities = Collections.singletonList(
-                    new SimpleGrantedAuthority("ROLE_" + role.toUpperCase())
-                );
-            }
+            VerifiedToken verified = verify(token);
 
             // Create authentication object and set in security context
             UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(username, null, authorities);
+                    new UsernamePasswordAuthenticationToken(verified.username(), null, verified.authorities());
             
             // Add additional details (e.g., user ID)
-            authentication.setDetails(sub);
+            authentication.setDetails(verified.subject());
             
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
@@ -133,34 +143,54 @@ public class SupabaseJwtFilter extends OncePerRequestFilter {
     }
     
     /**
-     * Check if the request is for a public endpoint that doesn't require authentication.
+     * Verify a token, answering from the verified-token cache when possible.
      */
-    private boolean isPublicEndpoint(String path, String method) {
-        // Actuator endpoints
-        if (path.startsWith("/actuator")) {
-            return true;
-        }
-        
-        // Hello endpoint
-        if (path.equals("/api/hello")) {
-            return true;
+    private VerifiedToken verify(String token) {
+        String cacheKey = VerifiedTokenCache.keyOf(token);
+        VerifiedToken cached = tokenCache.get(cacheKey);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
         }
-        if (path.equals("/api/health")) {
-            return true;
+        cacheMisses.increment();
+
+        // Parse and validate the JWT token
+        Timer.Sample sample = Timer.start();
+        Claims claims;
+        try {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } finally {
+            sample.stop(verificationTimer);
         }
-        
-        // GET requests to public endpoints
-        if ("GET".equalsIgnoreCase(method)) {
-            return path.startsWith("/api/colleges") ||
-                   path.startsWith("/api/categories") ||
-                   path.startsWith("/api/events") ||
-                   path.startsWith("/api/reviews") ||
-                   path.startsWith("/api/registrations") ||
-                   path.startsWith("/api/teams") ||
-                   path.startsWith("/api/tickets") ||
-                   path.startsWith("/api/payments");
+
+        // Extract user information from claims
+        String email = claims.get("email", String.class);
+        String sub = claims.getSubject(); // User ID from Supabase
+
+        // Use email as username, fallback to sub if email is not present
+        String username = (email != null && !email.isEmpty()) ? email : sub;
+
+        // Extract role from claims (Supabase typically includes role in JWT)
+        String role = claims.get("role", String.class);
+        List<GrantedAuthority> authorities = Collections.emptyList();
+
+        if (role != null && !role.isEmpty()) {
+            authorities = Collections.singletonList(
+                new SimpleGrantedAuthority("ROLE_" + role.toUpperCase())
+            );
         }
-        
-        return false;
+
+        VerifiedToken verified = new VerifiedToken(username, sub, authorities);
+        Date expiration = claims.getExpiration();
+        tokenCache.put(cacheKey, verified, expiration != null ? expiration.getTime() : null);
+        return verified;
+    }
+
+    /**
+     * Skip JWT validation entirely for public endpoints.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return publicRoutes.matches(request);
     }
 }
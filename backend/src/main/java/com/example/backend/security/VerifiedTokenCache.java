@@ -0,0 +1,95 @@
+package com.example.backend.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of already verified JWTs, keyed by the SHA-256 of the token so
+ * raw tokens are never kept in memory. Entries expire at the token's own exp
+ * (or the configured max TTL, whichever is sooner), so a cached token is never
+ * accepted after it would have failed verification.
+ */
+class VerifiedTokenCache {
+
+    /**
+     * Principal details extracted from a verified token.
+     */
+    record VerifiedToken(String username, String subject, List<GrantedAuthority> authorities) {
+    }
+
+    private record Entry(VerifiedToken token, long expiresAtMillis) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long maxTtlMillis;
+
+    VerifiedTokenCache(int maxEntries, long maxTtlMillis) {
+        this.maxEntries = maxEntries;
+        this.maxTtlMillis = maxTtlMillis;
+    }
+
+    VerifiedToken get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= entry.expiresAtMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.token();
+    }
+
+    /**
+     * Cache a verified token until its exp, capped at the max TTL. Tokens without exp are not cached.
+     */
+    void put(String key, VerifiedToken token, Long expMillis) {
+        if (expMillis == null || maxEntries <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(expMillis, now + maxTtlMillis);
+        if (expiresAt <= now) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+        entries.put(key, new Entry(token, expiresAt));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drop expired entries, then arbitrary ones until the cache is back under 90% of its bound.
+     */
+    private void evict(long now) {
+        entries.values().removeIf(entry -> now >= entry.expiresAtMillis());
+        int target = maxEntries * 9 / 10;
+        Iterator<String> keys = entries.keySet().iterator();
+        while (entries.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    static String keyOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.example.backend.stats;
+
+import com.example.backend.changes.ChangeStream;
+import com.example.backend.dto.EventStatsRow;
+import com.example.backend.dto.PaymentStatsRow;
+import com.example.backend.dto.RegistrationStatsRow;
+import com.example.backend.dto.StatsResponse;
+import com.example.backend.dto.StatsResponse.GroupStats;
+import com.example.backend.dto.StatsResponse.Totals;
+import com.example.backend.dto.TicketStatsRow;
+import com.example.backend.entity.enums.PaymentStatus;
+import com.example.backend.entity.enums.RegistrationStatus;
+import com.example.backend.repository.CollegeRepository;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.PaymentRepository;
+import com.example.backend.repository.ProfileRepository;
+import com.example.backend.repository.RegistrationRepository;
+import com.example.backend.repository.TeamRepository;
+import com.example.backend.repository.TicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Materialized registration, payment and ticket statistics per event, per
+ * college and overall. A rollup of a few grouped queries builds an immutable
+ * snapshot that readers share; writes mark the snapshot dirty and it is rebuilt
+ * on the next tick. Changes from the {@link ChangeStream} mark it dirty too,
+ * which covers writes made elsewhere (hold expiry, imports, other instances),
+ * and it is rebuilt at least every {@code stats.max-age-ms} to pick up direct SQL.
+ */
+@Service
+public class StatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsService.class);
+
+    private static final Set<String> TRACKED_ENTITIES =
+            Set.of("Event", "College", "Profile", "Team", "Registration", "Payment", "Ticket");
+
+    private static final Comparator<GroupStats> BY_NAME =
+            Comparator.comparing(GroupStats::name, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+
+    private final EventRepository eventRepository;
+    private final CollegeRepository collegeRepository;
+    private final ProfileRepository profileRepository;
+    private final TeamRepository teamRepository;
+    private final RegistrationRepository registrationRepository;
+    private final PaymentRepository paymentRepository;
+    private final TicketRepository ticketRepository;
+    private final Duration maxAge;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+
+    public StatsService(EventRepository eventRepository,
+                        CollegeRepository collegeRepository,
+                        ProfileRepository profileRepository,
+                        TeamRepository teamRepository,
+                        RegistrationRepository registrationRepository,
+                        PaymentRepository paymentRepository,
+                        TicketRepository ticketRepository,
+                        ChangeStream changeStream,
+                        @Value("${stats.max-age-ms:60000}") long maxAgeMillis) {
+        this.eventRepository = eventRepository;
+        this.collegeRepository = collegeRepository;
+        this.profileRepository = profileRepository;
+        this.teamRepository = teamRepository;
+        this.registrationRepository = registrationRepository;
+        this.paymentRepository = paymentRepository;
+        this.ticketRepository = ticketRepository;
+        this.maxAge = Duration.ofMillis(maxAgeMillis);
+        changeStream.subscribe(changes -> {
+            if (changes.stream().anyMatch(change -> TRACKED_ENTITIES.contains(change.entity()))) {
+                markDirty();
+            }
+        });
+    }
+
+    /**
+     * Record that statistics-relevant rows changed. Cheap enough to call on
+     * every write; the rollup itself runs on the scheduler thread.
+     */
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    /**
+     * Rebuild the snapshot when it was marked dirty or has grown too old.
+     */
+    @Scheduled(fixedDelayString = "${stats.refresh-interval-ms:5000}")
+    public void refreshIfStale() {
+        Snapshot current = snapshot.get();
+        if (dirty.get() || current == null
+                || current.overview().computedAt().isBefore(OffsetDateTime.now().minus(maxAge))) {
+            refresh();
+        }
+    }
+
+    /**
+     * Rebuild the snapshot from the database, keeping the previous one on failure.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void refresh() {
+        // Cleared before reading so a write that lands mid-rollup marks it dirty again
+        dirty.set(false);
+        try {
+            snapshot.set(rollup());
+        } catch (RuntimeException e) {
+            dirty.set(true);
+            log.warn("Statistics rollup failed, keeping previous snapshot", e);
+        }
+    }
+
+    /**
+     * Global totals, overall aggregates and per-college aggregates.
+     * @throws IllegalStateException if no rollup has succeeded yet
+     */
+    public StatsResponse overview() {
+        return current().overview();
+    }
+
+    /**
+     * Aggregates of every event, ordered by title.
+     * @throws IllegalStateException if no rollup has succeeded yet
+     */
+    public List<GroupStats> events() {
+        return current().eventList();
+    }
+
+    /**
+     * Aggregates of a single event.
+     * @param eventId the event ID
+     * @throws IllegalStateException if no rollup has succeeded yet
+     */
+    public Optional<GroupStats> event(UUID eventId) {
+        return Optional.ofNullable(current().events().get(eventId));
+    }
+
+    /**
+     * Aggregates of a single college over all of its events.
+     * @param collegeId the college ID
+     * @throws IllegalStateException if no rollup has succeeded yet
+     */
+    public Optional<GroupStats> college(UUID collegeId) {
+        return Optional.ofNullable(current().colleges().get(collegeId));
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            refresh();
+            current = snapshot.get();
+        }
+        if (current == null) {
+            throw new IllegalStateException("Statistics are not available yet");
+        }
+        return current;
+    }
+
+    private Snapshot rollup() {
+        long started = System.nanoTime();
+        Map<UUID, Tally> events = new LinkedHashMap<>();
+        Map<UUID, Tally> colleges = new LinkedHashMap<>();
+        Map<UUID, UUID> collegeOfEvent = new HashMap<>();
+
+        for (EventStatsRow row : eventRepository.findAllStatsRows()) {
+            events.put(row.eventId(), new Tally(row.eventId(), row.title()));
+            if (row.collegeId() != null) {
+                collegeOfEvent.put(row.eventId(), row.collegeId());
+                colleges.computeIfAbsent(row.collegeId(), id -> new Tally(id, row.collegeName()));
+            }
+        }
+        for (RegistrationStatsRow row : registrationRepository.countByEventAndStatus()) {
+            events.computeIfAbsent(row.eventId(), id -> new Tally(id, null)).addRegistrations(row);
+        }
+        for (PaymentStatsRow row : paymentRepository.sumByEventAndStatus()) {
+            events.computeIfAbsent(row.eventId(), id -> new Tally(id, null)).addPayments(row);
+        }
+        for (TicketStatsRow row : ticketRepository.countByEvent()) {
+            events.computeIfAbsent(row.eventId(), id -> new Tally(id, null)).addTickets(row);
+        }
+
+        Tally overall = new Tally(null, "All events");
+        for (Tally event : events.values()) {
+            overall.add(event);
+            UUID collegeId = collegeOfEvent.get(event.id);
+            if (collegeId != null) {
+                colleges.get(collegeId).add(event);
+            }
+        }
+
+        Map<UUID, GroupStats> eventStats = new LinkedHashMap<>();
+        events.values().forEach(t -> eventStats.put(t.id, t.toStats()));
+        Map<UUID, GroupStats> collegeStats = new LinkedHashMap<>();
+        colleges.values().forEach(t -> collegeStats.put(t.id, t.toStats()));
+
+        GroupStats overallStats = overall.toStats();
+        Totals totals = new Totals(
+                eventRepository.count(),
+                collegeRepository.count(),
+                profileRepository.count(),
+                teamRepository.count(),
+                overallStats.registrations(),
+                overallStats.ticketsIssued(),
+                overallStats.payments());
+
+        List<GroupStats> collegeList = new ArrayList<>(collegeStats.values());
+        collegeList.sort(BY_NAME);
+        List<GroupStats> eventList = new ArrayList<>(eventStats.values());
+        eventList.sort(BY_NAME);
+
+        StatsResponse overview = new StatsResponse(OffsetDateTime.now(), totals, overallStats, List.copyOf(collegeList));
+        log.debug("Statistics rolled up: {} events, {} colleges in {} ms",
+                eventStats.size(), collegeStats.size(), (System.nanoTime() - started) / 1_000_000);
+        return new Snapshot(overview, List.copyOf(eventList), Map.copyOf(eventStats), Map.copyOf(collegeStats));
+    }
+
+    private record Snapshot(
+            StatsResponse overview,
+            List<GroupStats> eventList,
+            Map<UUID, GroupStats> events,
+            Map<UUID, GroupStats> colleges) {
+    }
+
+    /**
+     * Mutable accumulator used while a rollup is running.
+     */
+    private static final class Tally {
+
+        private final UUID id;
+        private final String name;
+        private long registrations;
+        private final Map<RegistrationStatus, Long> registrationsByStatus = new EnumMap<>(RegistrationStatus.class);
+        private final Map<PaymentStatus, Long> registrationsByPaymentStatus = new EnumMap<>(PaymentStatus.class);
+        private long payments;
+        private final Map<PaymentStatus, Long> paymentsByStatus = new EnumMap<>(PaymentStatus.class);
+        private final Map<PaymentStatus, BigDecimal> paymentAmountsByStatus = new EnumMap<>(PaymentStatus.class);
+        private long ticketsIssued;
+        private long ticketsUsed;
+
+        private Tally(UUID id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        private void addRegistrations(RegistrationStatsRow row) {
+            registrations += row.count();
+            if (row.registrationStatus() != null) {
+                registrationsByStatus.merge(row.registrationStatus(), row.count(), Long::sum);
+            }
+            if (row.paymentStatus() != null) {
+                registrationsByPaymentStatus.merge(row.paymentStatus(), row.count(), Long::sum);
+            }
+        }
+
+        private void addPayments(PaymentStatsRow row) {
+            payments += row.count();
+            if (row.paymentStatus() != null) {
+                paymentsByStatus.merge(row.paymentStatus(), row.count(), Long::sum);
+                paymentAmountsByStatus.merge(row.paymentStatus(), row.amount(), BigDecimal::add);
+            }
+        }
+
+        private void addTickets(TicketStatsRow row) {
+            ticketsIssued += row.issued();
+            ticketsUsed += row.used();
+        }
+
+        private void add(Tally other) {
+            registrations += other.registrations;
+            other.registrationsByStatus.forEach((k, v) -> registrationsByStatus.merge(k, v, Long::sum));
+            other.registrationsByPaymentStatus.forEach((k, v) -> registrationsByPaymentStatus.merge(k, v, Long::sum));
+            payments += other.payments;
+            other.paymentsByStatus.forEach((k, v) -> paymentsByStatus.merge(k, v, Long::sum));
+            other.paymentAmountsByStatus.forEach((k, v) -> paymentAmountsByStatus.merge(k, v, BigDecimal::add));
+            ticketsIssued += other.ticketsIssued;
+            ticketsUsed += other.ticketsUsed;
+        }
+
+        private GroupStats toStats() {
+            return new GroupStats(
+                    id,
+                    name,
+                    registrations,
+                    Collections.unmodifiableMap(new EnumMap<>(registrationsByStatus)),
+                    Collections.unmodifiableMap(new EnumMap<>(registrationsByPaymentStatus)),
+                    payments,
+                    Collections.unmodifiableMap(new EnumMap<>(paymentsByStatus)),
+                    Collections.unmodifiableMap(new EnumMap<>(paymentAmountsByStatus)),
+                    paymentAmountsByStatus.getOrDefault(PaymentStatus.COMPLETED, BigDecimal.ZERO),
+                    ticketsIssued,
+                    ticketsUsed,
+                    registrationsByStatus.getOrDefault(RegistrationStatus.ATTENDED, 0L));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.backend.ticket;
+
+import com.example.backend.entity.Ticket;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Set;
+
+/**
+ * Decides who may see a ticket's code or get its signed token: the ticket's
+ * holder, the organizer of its event, and admins or services. Either one
+ * admits its bearer at the gate, so nobody else is handed them.
+ */
+public final class TicketAccess {
+
+    private static final Set<String> PRIVILEGED_ROLES = Set.of("ROLE_ADMIN", "ROLE_SERVICE_ROLE");
+
+    private TicketAccess() {
+    }
+
+    /**
+     * Whether the current request's user may use the ticket.
+     * @param ticket a ticket with its event and registration loaded
+     */
+    public static boolean canUse(Ticket ticket) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (PRIVILEGED_ROLES.contains(authority.getAuthority())) {
+                return true;
+            }
+        }
+        // The JWT filter puts the Supabase user ID, which is also the profile ID, in the details
+        if (!(authentication.getDetails() instanceof String subject)) {
+            return false;
+        }
+        if (ticket.getRegistration() != null && ticket.getRegistration().getUser() != null
+                && subject.equals(String.valueOf(ticket.getRegistration().getUser().getId()))) {
+            return true;
+        }
+        return ticket.getEvent() != null && ticket.getEvent().getOrganizer() != null
+                && subject.equals(String.valueOf(ticket.getEvent().getOrganizer().getId()));
+    }
+}
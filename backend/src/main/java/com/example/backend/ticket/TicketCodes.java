@@ -0,0 +1,30 @@
+package com.example.backend.ticket;
+
+import java.security.SecureRandom;
+
+/**
+ * Generates human-friendly ticket codes such as {@code TKT-7QK2M9XH4D3P}.
+ * Codes use a 31-character alphabet without look-alike characters (0/O, 1/I/L),
+ * so 12 characters give about 59 bits of randomness.
+ */
+public final class TicketCodes {
+
+    private static final String PREFIX = "TKT-";
+    private static final char[] ALPHABET = "23456789ABCDEFGHJKMNPQRSTUVWXYZ".toCharArray();
+    private static final int LENGTH = 12;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private TicketCodes() {
+    }
+
+    /**
+     * Generate a new random ticket code.
+     */
+    public static String generate() {
+        StringBuilder code = new StringBuilder(PREFIX.length() + LENGTH).append(PREFIX);
+        for (int i = 0; i < LENGTH; i++) {
+            code.append(ALPHABET[RANDOM.nextInt(ALPHABET.length)]);
+        }
+        return code.toString();
+    }
+}
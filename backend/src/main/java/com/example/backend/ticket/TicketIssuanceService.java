@@ -0,0 +1,214 @@
+package com.example.backend.ticket;
+
+import com.example.backend.dto.TicketIssuanceStatus;
+import com.example.backend.dto.TicketIssuanceStatus.State;
+import com.example.backend.dto.TicketIssueRow;
+import com.example.backend.entity.Event;
+import com.example.backend.entity.Ticket;
+import com.example.backend.entity.enums.RegistrationStatus;
+import com.example.backend.entity.enums.TicketType;
+import com.example.backend.notification.NotificationOutbox;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.RegistrationRepository;
+import com.example.backend.repository.TicketRepository;
+import com.example.backend.stats.StatsService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk ticket issuance for an event's registrations. A job walks the
+ * registrations that have no ticket yet in keyset chunks; each chunk is one
+ * transaction whose inserts go out as JDBC batches. Because only unticketed
+ * registrations are selected, a job that was interrupted (crash, restart,
+ * failure) is resumed by simply starting it again. Each ticket's delivery
+ * email is queued in the transaction of its chunk.
+ */
+@Service
+public class TicketIssuanceService {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketIssuanceService.class);
+
+    private static final UUID START = new UUID(0L, 0L);
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+    private final TicketRepository ticketRepository;
+    private final StatsService statsService;
+    private final NotificationOutbox notificationOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final ExecutorService executor;
+
+    private final ConcurrentHashMap<UUID, Job> jobs = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Job> runningByEvent = new ConcurrentHashMap<>();
+
+    public TicketIssuanceService(EventRepository eventRepository,
+                                 RegistrationRepository registrationRepository,
+                                 TicketRepository ticketRepository,
+                                 StatsService statsService,
+                                 NotificationOutbox notificationOutbox,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${ticket.issuance.chunk-size:500}") int chunkSize,
+                                 @Value("${ticket.issuance.max-concurrent-jobs:2}") int maxConcurrentJobs) {
+        this.eventRepository = eventRepository;
+        this.registrationRepository = registrationRepository;
+        this.ticketRepository = ticketRepository;
+        this.statsService = statsService;
+        this.notificationOutbox = notificationOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxConcurrentJobs, runnable -> {
+            Thread thread = new Thread(runnable, "ticket-issuance-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start issuing tickets for an event, or return the job already running for it.
+     * @param eventId the event ID
+     * @param status registrations in this status get tickets
+     * @return the job's current status
+     * @throws IllegalArgumentException if the event does not exist
+     */
+    public TicketIssuanceStatus start(UUID eventId, RegistrationStatus status) {
+        if (eventId == null || !eventRepository.existsById(eventId)) {
+            throw new IllegalArgumentException("Event not found");
+        }
+        Job job = runningByEvent.computeIfAbsent(eventId, id -> {
+            Job created = new Job(UUID.randomUUID(), id, status);
+            jobs.put(created.id, created);
+            return created;
+        });
+        if (job.started.compareAndSet(false, true)) {
+            executor.execute(() -> run(job));
+        }
+        return job.status();
+    }
+
+    /**
+     * Progress of a job started since the application last started.
+     */
+    public Optional<TicketIssuanceStatus> status(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::status);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Job job) {
+        try {
+            job.total.set(registrationRepository.countUnticketed(job.eventId, job.registrationStatus));
+            UUID after = START;
+            while (!Thread.currentThread().isInterrupted()) {
+                List<TicketIssueRow> rows = registrationRepository.findUnticketed(
+                        job.eventId, job.registrationStatus, after, PageRequest.of(0, chunkSize));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                job.issued.addAndGet(issueChunk(job.eventId, rows));
+                after = rows.get(rows.size() - 1).registrationId();
+            }
+            job.finish(Thread.currentThread().isInterrupted() ? State.INTERRUPTED : State.COMPLETED, null);
+        } catch (RuntimeException e) {
+            log.warn("Ticket issuance for event {} failed after {} tickets", job.eventId, job.issued.get(), e);
+            job.finish(State.FAILED, e.getMessage());
+        } finally {
+            runningByEvent.remove(job.eventId, job);
+            statsService.markDirty();
+        }
+    }
+
+    /**
+     * Insert one chunk in its own transaction, retrying with fresh codes if a
+     * generated code collides with an existing one.
+     */
+    private int issueChunk(UUID eventId, List<TicketIssueRow> rows) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    OffsetDateTime now = OffsetDateTime.now();
+                    Event event = eventRepository.getReferenceById(eventId);
+                    List<Ticket> tickets = new ArrayList<>(rows.size());
+                    for (TicketIssueRow row : rows) {
+                        BigDecimal price = row.paymentAmount() != null ? row.paymentAmount() : BigDecimal.ZERO;
+                        Ticket ticket = new Ticket();
+                        ticket.setEvent(event);
+                        ticket.setRegistration(registrationRepository.getReferenceById(row.registrationId()));
+                        ticket.setTicketType(price.signum() > 0 ? TicketType.PAID : TicketType.FREE);
+                        ticket.setPrice(price);
+                        ticket.setTicketCode(TicketCodes.generate());
+                        ticket.setValid(Boolean.TRUE);
+                        ticket.setIssuedAt(now);
+                        ticket.setCreatedAt(now);
+                        ticket.setUpdatedAt(now);
+                        tickets.add(ticket);
+                    }
+                    ticketRepository.saveAll(tickets);
+                    notificationOutbox.ticketsIssued(tickets);
+                    return tickets.size();
+                });
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("Ticket chunk for event {} hit a constraint, retrying", eventId);
+            }
+        }
+    }
+
+    private static final class Job {
+
+        private final UUID id;
+        private final UUID eventId;
+        private final RegistrationStatus registrationStatus;
+        private final OffsetDateTime startedAt = OffsetDateTime.now();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong issued = new AtomicLong();
+        private volatile State state = State.RUNNING;
+        private volatile OffsetDateTime finishedAt;
+        private volatile String error;
+
+        private Job(UUID id, UUID eventId, RegistrationStatus registrationStatus) {
+            this.id = id;
+            this.eventId = eventId;
+            this.registrationStatus = registrationStatus;
+        }
+
+        private void finish(State state, String error) {
+            this.error = error;
+            this.finishedAt = OffsetDateTime.now();
+            this.state = state;
+        }
+
+        private TicketIssuanceStatus status() {
+            return new TicketIssuanceStatus(id, eventId, registrationStatus, state, total.get(), issued.get(),
+                    startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.backend.ticket;
+
+import com.example.backend.dto.RevocationList;
+import com.example.backend.repository.TicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-event sets of revoked ticket IDs (tickets marked invalid or deleted;
+ * deletes are recorded in ticket_revocations by a trigger, so they survive
+ * restarts and reach every instance). Loaded from the database on first use,
+ * refreshed periodically and updated by the ticket controller, so token
+ * verification never waits on the database and keeps working from the last
+ * known list when it is unreachable. A list that was never loaded vouches for
+ * nothing.
+ */
+@Service
+public class TicketRevocations {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketRevocations.class);
+
+    private static final long LOAD_RETRY_MS = 10_000;
+
+    private final TicketRepository ticketRepository;
+    private final ConcurrentHashMap<UUID, Revoked> events = new ConcurrentHashMap<>();
+    // Events whose list failed to load, so verification does not retry the database on every scan
+    private final ConcurrentHashMap<UUID, Long> failedLoads = new ConcurrentHashMap<>();
+
+    public TicketRevocations(TicketRepository ticketRepository) {
+        this.ticketRepository = ticketRepository;
+    }
+
+    /**
+     * Whether a ticket is on its event's revocation list.
+     * @param eventId the event ID
+     * @param ticketId the ticket ID
+     * @return whether the ticket is revoked, or empty if the event's list could never be loaded
+     */
+    public Optional<Boolean> isRevoked(UUID eventId, UUID ticketId) {
+        Revoked revoked = revokedFor(eventId);
+        return revoked == null ? Optional.empty() : Optional.of(revoked.ids.contains(ticketId));
+    }
+
+    /**
+     * The event's revocation list, for scanners to download and cache.
+     * @param eventId the event ID
+     * @throws IllegalStateException if the list has never been loaded and the database is unavailable
+     */
+    public RevocationList list(UUID eventId) {
+        Revoked revoked = revokedFor(eventId);
+        if (revoked == null) {
+            throw new IllegalStateException("Revocation list is not available");
+        }
+        return new RevocationList(eventId, revoked.version, revoked.asOf, List.copyOf(revoked.ids));
+    }
+
+    /**
+     * Record that a ticket was marked invalid.
+     */
+    public void revoke(UUID eventId, UUID ticketId) {
+        Revoked revoked = events.get(eventId);
+        if (revoked != null && revoked.ids.add(ticketId)) {
+            revoked.touch();
+        }
+    }
+
+    /**
+     * Record that a ticket was deleted, ahead of the next refresh picking up
+     * the row the delete trigger wrote.
+     */
+    public void deleted(UUID eventId, UUID ticketId) {
+        revoke(eventId, ticketId);
+    }
+
+    /**
+     * Record that a ticket is valid again.
+     */
+    public void reinstate(UUID eventId, UUID ticketId) {
+        Revoked revoked = events.get(eventId);
+        if (revoked != null && revoked.ids.remove(ticketId)) {
+            revoked.touch();
+        }
+    }
+
+    /**
+     * Reload every loaded list from the database; a failed reload keeps the
+     * current list.
+     */
+    @Scheduled(fixedDelayString = "${ticket.revocations.refresh-interval-ms:60000}")
+    public void refresh() {
+        events.forEach((eventId, revoked) -> {
+            try {
+                Set<UUID> current = new HashSet<>(ticketRepository.findRevokedIdsByEventId(eventId));
+                boolean changed = revoked.ids.retainAll(current);
+                changed |= revoked.ids.addAll(current);
+                if (changed) {
+                    revoked.touch();
+                }
+            } catch (RuntimeException e) {
+                log.warn("Refreshing revocations of event {} failed, keeping the cached list", eventId, e);
+            }
+        });
+    }
+
+    private Revoked revokedFor(UUID eventId) {
+        Revoked revoked = events.get(eventId);
+        if (revoked != null) {
+            return revoked;
+        }
+        Long failed = failedLoads.get(eventId);
+        if (failed != null && System.currentTimeMillis() - failed < LOAD_RETRY_MS) {
+            return null;
+        }
+        try {
+            Revoked loaded = new Revoked(ticketRepository.findRevokedIdsByEventId(eventId));
+            failedLoads.remove(eventId);
+            Revoked existing = events.putIfAbsent(eventId, loaded);
+            return existing != null ? existing : loaded;
+        } catch (RuntimeException e) {
+            failedLoads.put(eventId, System.currentTimeMillis());
+            log.warn("Loading revocations of event {} failed", eventId, e);
+            return null;
+        }
+    }
+
+    private static final class Revoked {
+
+        private final Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        private volatile long version;
+        private volatile OffsetDateTime asOf = OffsetDateTime.now();
+
+        private Revoked(List<UUID> initial) {
+            ids.addAll(initial);
+        }
+
+        private synchronized void touch() {
+            version++;
+            asOf = OffsetDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.backend.ticket;
+
+import com.example.backend.entity.enums.TicketType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Compact signed ticket tokens: {@code FT1.<payload>.<mac>}, where the payload
+ * is the ticket ID, event ID and ticket type (33 bytes) and the MAC is a
+ * truncated HMAC-SHA256 over it, both base64url encoded (about 70 characters,
+ * small enough for a QR code). A token proves the ticket was issued by this
+ * server without touching the database.
+ */
+@Component
+public class TicketTokens {
+
+    private static final String PREFIX = "FT1.";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int PAYLOAD_BYTES = 33;
+    private static final int MAC_BYTES = 16;
+    // The type is encoded by ordinal, so new TicketType values must be appended
+    private static final TicketType[] TYPES = TicketType.values();
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+
+    public TicketTokens(@Value("${ticket.token.secret}") String secret) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * Claims carried by a verified token.
+     */
+    public record Claims(UUID ticketId, UUID eventId, TicketType ticketType) {
+    }
+
+    /**
+     * Issue a token for a ticket.
+     * @param ticketId the ticket ID
+     * @param eventId the ticket's event ID
+     * @param ticketType the ticket type
+     * @return the signed token
+     */
+    public String issue(UUID ticketId, UUID eventId, TicketType ticketType) {
+        ByteBuffer payload = ByteBuffer.allocate(PAYLOAD_BYTES)
+                .putLong(ticketId.getMostSignificantBits())
+                .putLong(ticketId.getLeastSignificantBits())
+                .putLong(eventId.getMostSignificantBits())
+                .putLong(eventId.getLeastSignificantBits())
+                .put((byte) (ticketType != null ? ticketType.ordinal() : TicketType.FREE.ordinal()));
+        byte[] bytes = payload.array();
+        return PREFIX + ENCODER.encodeToString(bytes) + "." + ENCODER.encodeToString(mac(bytes));
+    }
+
+    /**
+     * Verify a token's signature and decode its claims.
+     * @param token the token as scanned
+     * @return the claims, or empty if the token is malformed or not signed by this server
+     */
+    public Optional<Claims> verify(String token) {
+        if (!isToken(token)) {
+            return Optional.empty();
+        }
+        String body = token.trim().substring(PREFIX.length());
+        int dot = body.indexOf('.');
+        if (dot < 0) {
+            return Optional.empty();
+        }
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(body.substring(0, dot));
+            signature = DECODER.decode(body.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (payload.length != PAYLOAD_BYTES || !MessageDigest.isEqual(mac(payload), signature)) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        UUID ticketId = new UUID(buffer.getLong(), buffer.getLong());
+        UUID eventId = new UUID(buffer.getLong(), buffer.getLong());
+        int type = buffer.get() & 0xFF;
+        if (type >= TYPES.length) {
+            return Optional.empty();
+        }
+        return Optional.of(new Claims(ticketId, eventId, TYPES[type]));
+    }
+
+    /**
+     * Whether a scanned value looks like a token rather than a plain ticket code.
+     */
+    public static boolean isToken(String value) {
+        return value != null && value.trim().startsWith(PREFIX);
+    }
+
+    private byte[] mac(byte[] payload) {
+        return Arrays.copyOf(macs.get().doFinal(payload), MAC_BYTES);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
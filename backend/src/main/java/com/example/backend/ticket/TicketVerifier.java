@@ -0,0 +1,48 @@
+package com.example.backend.ticket;
+
+import com.example.backend.dto.TicketTokenVerification;
+import com.example.backend.dto.TicketTokenVerification.Status;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Verifies signed ticket tokens against the signature and the in-memory
+ * revocation lists only, so verification keeps working at scan rate when the
+ * database is slow or down. Tokens of an event whose list has never loaded
+ * are reported UNKNOWN rather than VALID.
+ */
+@Service
+public class TicketVerifier {
+
+    private final TicketTokens ticketTokens;
+    private final TicketRevocations ticketRevocations;
+
+    public TicketVerifier(TicketTokens ticketTokens, TicketRevocations ticketRevocations) {
+        this.ticketTokens = ticketTokens;
+        this.ticketRevocations = ticketRevocations;
+    }
+
+    /**
+     * Verify a scanned token.
+     * @param token the token
+     * @param expectedEventId the event being scanned, or null to accept any event
+     * @return the verification result
+     */
+    public TicketTokenVerification verify(String token, UUID expectedEventId) {
+        return ticketTokens.verify(token)
+                .map(claims -> {
+                    Status status;
+                    if (expectedEventId != null && !expectedEventId.equals(claims.eventId())) {
+                        status = Status.WRONG_EVENT;
+                    } else {
+                        status = ticketRevocations.isRevoked(claims.eventId(), claims.ticketId())
+                                .map(revoked -> revoked ? Status.REVOKED : Status.VALID)
+                                // Without a revocation list a valid signature proves nothing about revocation
+                                .orElse(Status.UNKNOWN);
+                    }
+                    return new TicketTokenVerification(status, claims.ticketId(), claims.eventId(), claims.ticketType());
+                })
+                .orElseGet(() -> new TicketTokenVerification(Status.INVALID, null, null, null));
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.backend.upcoming;
+
+import com.example.backend.changes.ChangeStream;
+import com.example.backend.dto.EventDto;
+import com.example.backend.repository.EventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory snapshot of published upcoming events, sorted by start date, and
+ * of the featured ones among them. One query builds an immutable snapshot that
+ * is swapped in atomically; event writes, here or on another instance, mark it
+ * dirty through the {@link ChangeStream} and it is rebuilt on the next tick, and at least every {@code upcoming.max-age-ms} so attendee
+ * counts stay fresh. Events that have started are cut off by start time on
+ * read, and the JSON of each list is cached until the cut moves, so serving a
+ * request is a copy of ready-made bytes.
+ */
+@Service
+public class UpcomingEvents {
+
+    private static final Logger log = LoggerFactory.getLogger(UpcomingEvents.class);
+
+    private final EventRepository eventRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration maxAge;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+
+    public UpcomingEvents(EventRepository eventRepository,
+                          ObjectMapper objectMapper,
+                          ChangeStream changeStream,
+                          @Value("${upcoming.max-age-ms:30000}") long maxAgeMillis) {
+        this.eventRepository = eventRepository;
+        this.objectMapper = objectMapper;
+        this.maxAge = Duration.ofMillis(maxAgeMillis);
+        changeStream.subscribe(changes -> {
+            if (changes.stream().anyMatch(change -> "Event".equals(change.entity()))) {
+                markDirty();
+            }
+        });
+    }
+
+    /**
+     * Record that an event was created, changed or deleted.
+     */
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    /**
+     * Rebuild the snapshot when it was marked dirty or has grown too old.
+     */
+    @Scheduled(fixedDelayString = "${upcoming.refresh-interval-ms:1000}")
+    public void refreshIfStale() {
+        Snapshot current = snapshot.get();
+        if (dirty.get() || current == null || current.builtAt().isBefore(Instant.now().minus(maxAge))) {
+            refresh();
+        }
+    }
+
+    /**
+     * Rebuild the snapshot from the database, keeping the previous one on failure.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void refresh() {
+        // Cleared before reading so a write that lands mid-rebuild marks it dirty again
+        dirty.set(false);
+        try {
+            OffsetDateTime now = OffsetDateTime.now();
+            List<EventDto> events = eventRepository.findUpcomingPublishedEvents(now).stream()
+                    .map(EventDto::from)
+                    .toList();
+            List<EventDto> featured = events.stream()
+                    .filter(event -> Boolean.TRUE.equals(event.featured()))
+                    .toList();
+            snapshot.set(new Snapshot(new View(events), new View(featured), now.toInstant()));
+        } catch (RuntimeException e) {
+            dirty.set(true);
+            log.warn("Upcoming events rebuild failed, keeping previous snapshot", e);
+        }
+    }
+
+    /**
+     * JSON array of published events that have not started yet, soonest first.
+     * The returned array is shared and must not be modified.
+     * @throws IllegalStateException if no snapshot has been built yet
+     */
+    public byte[] upcomingJson() {
+        return current().all().json(System.currentTimeMillis());
+    }
+
+    /**
+     * JSON array of the featured events among {@link #upcomingJson()}.
+     * The returned array is shared and must not be modified.
+     * @throws IllegalStateException if no snapshot has been built yet
+     */
+    public byte[] featuredJson() {
+        return current().featured().json(System.currentTimeMillis());
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            refresh();
+            current = snapshot.get();
+        }
+        if (current == null) {
+            throw new IllegalStateException("Upcoming events are not available yet");
+        }
+        return current;
+    }
+
+    private record Snapshot(View all, View featured, Instant builtAt) {
+    }
+
+    /**
+     * Events sorted by start date, with the JSON of the not-yet-started tail
+     * cached for the current cut point.
+     */
+    private final class View {
+
+        private final List<EventDto> events;
+        private final long[] starts;
+        private volatile Rendered rendered;
+
+        private View(List<EventDto> events) {
+            this.events = events;
+            this.starts = new long[events.size()];
+            for (int i = 0; i < starts.length; i++) {
+                OffsetDateTime start = events.get(i).startDate();
+                starts[i] = start != null ? start.toInstant().toEpochMilli() : Long.MIN_VALUE;
+            }
+        }
+
+        byte[] json(long nowMillis) {
+            int from = firstAfter(nowMillis);
+            Rendered current = rendered;
+            if (current == null || current.from() != from) {
+                current = new Rendered(from, serialize(events.subList(from, events.size())));
+                rendered = current;
+            }
+            return current.bytes();
+        }
+
+        /**
+         * Index of the first event starting after the given time.
+         */
+        private int firstAfter(long nowMillis) {
+            int low = 0;
+            int high = starts.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] <= nowMillis) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private record Rendered(int from, byte[] bytes) {
+    }
+
+    private byte[] serialize(List<EventDto> events) {
+        try {
+            return objectMapper.writeValueAsBytes(events);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Upcoming events could not be serialized", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.backend.web;
+
+import com.example.backend.dto.CollectionVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET support: strong ETags derived from row versions, answered
+ * with 304 Not Modified when the client's If-None-Match / If-Modified-Since
+ * still matches. Collections carry no Last-Modified, so only their ETag counts. The body supplier only runs when a full response is needed.
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Respond with 304 if the client's copy is current, otherwise 200 with the body.
+     * Responses are marked no-cache so browsers always revalidate.
+     * @param request the current request
+     * @param etag strong ETag for the representation
+     * @param lastModified last modification time, or null if unknown
+     * @param body supplies the body for a full response
+     */
+    public static <T> ResponseEntity<T> respond(WebRequest request, String etag, OffsetDateTime lastModified,
+                                                Supplier<T> body) {
+        long lastModifiedMillis = lastModified != null ? lastModified.toInstant().toEpochMilli() : -1;
+        if (request.checkNotModified(etag, lastModifiedMillis)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(body.get());
+    }
+
+    /**
+     * Respond to a collection GET using a table fingerprint instead of the rows.
+     * Validated by ETag only: deleting a row does not move the latest updatedAt,
+     * so a Last-Modified date would let If-Modified-Since keep a deleted row alive.
+     */
+    public static <T> ResponseEntity<T> respond(WebRequest request, String collection, CollectionVersion version,
+                                                Supplier<T> body) {
+        String etag = etag(collection, version.count(), version.lastModified(), version.checksum());
+        return respond(request, etag, null, body);
+    }
+
+    /**
+     * Build a strong ETag from the given version components.
+     */
+    public static String etag(Object... parts) {
+        StringJoiner joined = new StringJoiner("|");
+        for (Object part : parts) {
+            joined.add(part instanceof OffsetDateTime time
+                    ? String.valueOf(time.toInstant().toEpochMilli())
+                    : String.valueOf(part));
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(joined.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.backend.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Short names for the controller method that handled a request, used as a
+ * metric tag and as the key of per-endpoint settings.
+ */
+public final class HandlerNames {
+
+    /**
+     * Name used when no controller method handled the request.
+     */
+    public static final String NONE = "none";
+
+    private HandlerNames() {
+    }
+
+    /**
+     * {@code EventController.getEventPage} style name of the matched handler,
+     * or {@link #NONE}. Only known once the request has been dispatched.
+     */
+    public static String of(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return NONE;
+    }
+}
@@ -55,9 +55,10 @@ END $$;
 DO $$ 
 BEGIN
   IF NOT EXISTS (SELECT 1 FROM pg_type WHERE typname = 'registration_status') THEN
-    CREATE TYPE registration_status AS ENUM ('pending', 'confirmed', 'cancelled', 'attended');
+    CREATE TYPE registration_status AS ENUM ('pending', 'confirmed', 'cancelled', 'attended', 'waitlisted');
   END IF;
 END $$;
+ALTER TYPE registration_status ADD VALUE IF NOT EXISTS 'waitlisted';
 
 -- Payment Status
 DO $$ 
@@ -345,12 +346,18 @@ CREATE INDEX IF NOT EXISTS idx_events_status ON events(event_status);
 CREATE INDEX IF NOT EXISTS idx_events_start_date ON events(start_date);
 CREATE INDEX IF NOT EXISTS idx_events_is_featured ON events(is_featured);
 CREATE INDEX IF NOT EXISTS idx_events_is_global ON events(is_global);
+-- Keyset pagination on (start_date, id), optionally narrowed by college/category
+CREATE INDEX IF NOT EXISTS idx_events_start_date_id ON events(start_date, id);
+CREATE INDEX IF NOT EXISTS idx_events_college_start_date_id ON events(college_id, start_date, id);
+CREATE INDEX IF NOT EXISTS idx_events_category_start_date_id ON events(category_id, start_date, id);
 
 -- Registrations
 CREATE INDEX IF NOT EXISTS idx_registrations_event ON registrations(event_id);
 CREATE INDEX IF NOT EXISTS idx_registrations_user ON registrations(user_id);
 CREATE INDEX IF NOT EXISTS idx_registrations_status ON registrations(registration_status);
 CREATE INDEX IF NOT EXISTS idx_registrations_payment_status ON registrations(payment_status);
+-- Waitlist head lookup and unpaid hold expiry sweep
+CREATE INDEX IF NOT EXISTS idx_registrations_event_status_date ON registrations(event_id, registration_status, registration_date);
 
 -- Teams
 CREATE INDEX IF NOT EXISTS idx_teams_registration ON teams(registration_id);
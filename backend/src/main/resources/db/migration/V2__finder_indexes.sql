@@ -0,0 +1,56 @@
+-- =====================================================
+-- Indexes for the repository finder queries
+-- Databases set up from the old scripts are baselined at V1 and may lack
+-- some of the V1 indexes, so every index a finder relies on is (re)declared
+-- here. QueryPlanCheck verifies at startup that each finder can use one.
+-- =====================================================
+
+-- Events: keyset listing, optionally narrowed by college/category (EventSpecifications.listing)
+CREATE INDEX IF NOT EXISTS idx_events_start_date_id ON events(start_date, id);
+CREATE INDEX IF NOT EXISTS idx_events_college_start_date_id ON events(college_id, start_date, id);
+CREATE INDEX IF NOT EXISTS idx_events_category_start_date_id ON events(category_id, start_date, id);
+-- findByOrganizerId
+CREATE INDEX IF NOT EXISTS idx_events_organizer ON events(organizer_id);
+-- findByEventStatus, findUpcomingPublishedEvents
+CREATE INDEX IF NOT EXISTS idx_events_status_start_date ON events(event_status, start_date);
+-- findByCollegeIdAndEventStatus
+CREATE INDEX IF NOT EXISTS idx_events_college_status ON events(college_id, event_status);
+
+-- Registrations: findByEventIdAndRegistrationStatus, waitlist head, countWaitlistedUpTo
+CREATE INDEX IF NOT EXISTS idx_registrations_event_status_date
+  ON registrations(event_id, registration_status, registration_date);
+-- findUnticketed pages by id within an event and status
+CREATE INDEX IF NOT EXISTS idx_registrations_event_status_id ON registrations(event_id, registration_status, id);
+-- findByUser_Id
+CREATE INDEX IF NOT EXISTS idx_registrations_user ON registrations(user_id);
+-- findExpiredHolds
+CREATE INDEX IF NOT EXISTS idx_registrations_status_payment_date
+  ON registrations(registration_status, payment_status, registration_date);
+
+-- Teams and members
+CREATE INDEX IF NOT EXISTS idx_teams_event ON teams(event_id);
+CREATE INDEX IF NOT EXISTS idx_teams_leader ON teams(team_leader_id);
+CREATE INDEX IF NOT EXISTS idx_team_members_team ON team_members(team_id);
+
+-- Tickets: findByEventId, check-in preload, unticketed checks
+CREATE INDEX IF NOT EXISTS idx_tickets_event ON tickets(event_id);
+CREATE INDEX IF NOT EXISTS idx_tickets_registration ON tickets(registration_id);
+-- findRevokedIdsByEventId: revoked tickets are rare
+CREATE INDEX IF NOT EXISTS idx_tickets_event_revoked ON tickets(event_id) WHERE NOT is_valid;
+
+-- Payments
+CREATE INDEX IF NOT EXISTS idx_payments_registration ON payments(registration_id);
+CREATE INDEX IF NOT EXISTS idx_payments_status ON payments(payment_status);
+CREATE INDEX IF NOT EXISTS idx_payments_transaction ON payments(transaction_id) WHERE transaction_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_payments_ticket ON payments(ticket_id) WHERE ticket_id IS NOT NULL;
+
+-- Reviews: (event_id, user_id) is already unique, user lookups need their own
+CREATE INDEX IF NOT EXISTS idx_reviews_user ON reviews(user_id);
+
+-- Superseded by the composites above or by unique constraints; dropping them saves write work
+DROP INDEX IF EXISTS idx_events_college;
+DROP INDEX IF EXISTS idx_events_category;
+DROP INDEX IF EXISTS idx_events_status;
+DROP INDEX IF EXISTS idx_registrations_event;
+DROP INDEX IF EXISTS idx_tickets_code;
+DROP INDEX IF EXISTS idx_profiles_email;
@@ -0,0 +1,31 @@
+-- =====================================================
+-- Notification outbox
+-- Rows are inserted in the same transaction as the registration, ticket or
+-- event change they announce, and drained by NotificationDispatcher. The
+-- referenced rows are not foreign keys: a notice whose registration is gone
+-- by the time it is sent is discarded instead of blocking the delete.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+  id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+  kind TEXT NOT NULL CHECK (kind IN ('REGISTRATION_STATUS', 'TICKET_ISSUED', 'EVENT_UPDATED')),
+  status TEXT NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'SENT', 'FAILED', 'DISCARDED')),
+  event_id UUID NOT NULL,
+  -- NULL on an EVENT_UPDATED row that still has to be fanned out to the event's registrants
+  registration_id UUID,
+  ticket_id UUID,
+  -- Delivery attempts started; a claim counts as one
+  attempts INTEGER NOT NULL DEFAULT 0,
+  -- Earliest time of the next attempt; pushed out by a lease while a worker holds the row
+  next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+  last_error TEXT,
+  created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+  sent_at TIMESTAMPTZ
+);
+
+-- Claims take the oldest due rows; sent and failed rows are not indexed
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_due
+  ON notification_outbox(next_attempt_at) WHERE status = 'PENDING';
+-- Fan-out skips registrants who already have an unsent notice for the event
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_pending_registration
+  ON notification_outbox(registration_id, kind) WHERE status = 'PENDING';
@@ -0,0 +1,25 @@
+-- =====================================================
+-- Change capture
+-- One compact row per entity insert, update or delete, written in the
+-- transaction of the change (ChangeCapture, ChangeLog). Rows commit in
+-- a different order than they were inserted, so subscribers do not page by id:
+-- ChangeStream numbers committed rows with consecutive positions, and
+-- position is the offset subscribers resume from.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS entity_changes (
+  id BIGSERIAL PRIMARY KEY,
+  -- NULL until the row is committed and sequenced
+  position BIGINT UNIQUE,
+  entity TEXT NOT NULL,
+  entity_id UUID NOT NULL,
+  operation TEXT NOT NULL CHECK (operation IN ('INSERT', 'UPDATE', 'DELETE')),
+  -- The event the changed row belongs to, when it belongs to one
+  event_id UUID,
+  changed_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+-- The sequencer picks up committed rows that have no position yet
+CREATE INDEX IF NOT EXISTS idx_entity_changes_unsequenced ON entity_changes(id) WHERE position IS NULL;
+-- Retention deletes by age
+CREATE INDEX IF NOT EXISTS idx_entity_changes_changed_at ON entity_changes(changed_at);
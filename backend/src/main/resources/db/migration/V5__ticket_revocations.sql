@@ -0,0 +1,33 @@
+-- =====================================================
+-- Ticket revocations
+-- Deleted tickets leave no row behind, but signed tokens already handed out
+-- for them must keep failing verification after a restart and on every
+-- instance. A trigger records each deleted ticket here, whichever way it was
+-- deleted (the ticket API, a cascade from its registration or event, or SQL).
+-- event_id is not a foreign key: cascaded deletes insert rows while the event
+-- itself is being deleted, and tokens of a deleted event stay revoked.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS ticket_revocations (
+  ticket_id UUID PRIMARY KEY,
+  event_id UUID NOT NULL,
+  revoked_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+-- TicketRevocations loads one event's list at a time
+CREATE INDEX IF NOT EXISTS idx_ticket_revocations_event ON ticket_revocations(event_id);
+
+CREATE OR REPLACE FUNCTION record_ticket_revocation()
+RETURNS TRIGGER AS $$
+BEGIN
+  INSERT INTO ticket_revocations (ticket_id, event_id)
+  VALUES (OLD.id, OLD.event_id)
+  ON CONFLICT (ticket_id) DO NOTHING;
+  RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS tickets_record_revocation ON tickets;
+CREATE TRIGGER tickets_record_revocation
+  AFTER DELETE ON tickets
+  FOR EACH ROW EXECUTE FUNCTION record_ticket_revocation();
@@ -0,0 +1,206 @@
+package com.example.backend.controller;
+
+import com.example.backend.entity.Category;
+import com.example.backend.entity.College;
+import com.example.backend.entity.Event;
+import com.example.backend.entity.Profile;
+import com.example.backend.entity.enums.EventStatus;
+import com.example.backend.entity.enums.ParticipationType;
+import com.example.backend.entity.enums.UserRole;
+import com.example.backend.repository.CategoryRepository;
+import com.example.backend.repository.CollegeRepository;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.ProfileRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets of the event listing endpoints, checked by the real
+ * {@link com.example.backend.querybudget.QueryBudgetFilter} in {@code fail}
+ * mode: an N+1 regression turns the response into a 500. Runs the whole
+ * application against H2 in PostgreSQL mode with the schema built by
+ * Hibernate, as the repository benchmarks do, and enough events per college,
+ * category and organizer that a lazy association would exceed the budget.
+ */
+@SpringBootTest(properties = {
+        // Ignore application.properties, which points at PostgreSQL
+        "spring.config.name=querybudget-test",
+        "spring.datasource.url=jdbc:h2:mem:querybudget;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        // The migrations and plan check are PostgreSQL-specific; H2 gets its schema from Hibernate
+        "spring.flyway.enabled=false",
+        "schema.plan-check=off",
+        "changes.enabled=false",
+        "notifications.enabled=false",
+        "jwt.secret=query-budget-test-secret-query-budget-test-secret-0123456789",
+        "ticket.token.secret=query-budget-test-ticket-secret-query-budget-test-0123456789",
+        "mail.from=no-reply@festify.local",
+        "query-budget.mode=fail",
+        // Fail mode has to work without the header too
+        "query-budget.header=false",
+        "query-budget.default-limit=-1",
+        "query-budget.limit.EventController.getAllEvents=2",
+        "query-budget.limit.EventController.getEventPage=1",
+        "query-budget.limit.EventController.getEventById=1",
+        "query-budget.limit.EventController.getEventsByCollege=1",
+        "query-budget.limit.EventController.getEventsByCategory=1",
+        "query-budget.limit.EventController.getEventsByOrganizer=1",
+        "query-budget.limit.EventController.getEventsByStatus=1"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EventControllerQueryBudgetTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2030, 1, 15, 10, 0, 0, 0, ZoneOffset.UTC);
+    private static final int OWNERS = 3;
+    private static final int EVENTS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private College college;
+    private Category category;
+    private Profile organizer;
+    private Event event;
+
+    @BeforeAll
+    void seed() {
+        List<College> colleges = new ArrayList<>();
+        List<Category> categories = new ArrayList<>();
+        List<Profile> organizers = new ArrayList<>();
+        for (int i = 0; i < OWNERS; i++) {
+            colleges.add(collegeRepository.save(college(i)));
+            categories.add(categoryRepository.save(category(i)));
+            organizers.add(profileRepository.save(organizer(i, colleges.get(i))));
+        }
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(event(i, categories.get(i % OWNERS), colleges.get(i % OWNERS), organizers.get(i % OWNERS)));
+        }
+        events = eventRepository.saveAll(events);
+        college = colleges.get(0);
+        category = categories.get(0);
+        organizer = organizers.get(0);
+        event = events.get(0);
+    }
+
+    @Test
+    void allEvents() throws Exception {
+        mockMvc.perform(get("/api/events")).andExpect(status().isOk());
+    }
+
+    @Test
+    void eventPage() throws Exception {
+        mockMvc.perform(get("/api/events/page").param("limit", "20")).andExpect(status().isOk());
+    }
+
+    @Test
+    void eventById() throws Exception {
+        mockMvc.perform(get("/api/events/{id}", event.getId())).andExpect(status().isOk());
+    }
+
+    @Test
+    void eventsByCollege() throws Exception {
+        mockMvc.perform(get("/api/events/college/{id}", college.getId())).andExpect(status().isOk());
+    }
+
+    @Test
+    void eventsByCategory() throws Exception {
+        mockMvc.perform(get("/api/events/category/{id}", category.getId())).andExpect(status().isOk());
+    }
+
+    @Test
+    void eventsByOrganizer() throws Exception {
+        mockMvc.perform(get("/api/events/organizer/{id}", organizer.getId())).andExpect(status().isOk());
+    }
+
+    @Test
+    void eventsByStatus() throws Exception {
+        mockMvc.perform(get("/api/events/status/{status}", EventStatus.PUBLISHED)).andExpect(status().isOk());
+    }
+
+    private static College college(int i) {
+        College college = new College();
+        college.setId(UUID.randomUUID());
+        college.setName("College " + i);
+        college.setLocation("City " + i);
+        college.setCreatedAt(NOW);
+        college.setUpdatedAt(NOW);
+        return college;
+    }
+
+    private static Category category(int i) {
+        Category category = new Category();
+        category.setId(UUID.randomUUID());
+        category.setName("Category " + i);
+        category.setCreatedAt(NOW);
+        category.setUpdatedAt(NOW);
+        return category;
+    }
+
+    private static Profile organizer(int i, College college) {
+        Profile profile = new Profile();
+        profile.setId(UUID.randomUUID());
+        profile.setFullName("Organizer " + i);
+        profile.setEmail("organizer" + i + "@example.com");
+        profile.setRole(UserRole.ORGANIZER);
+        profile.setCollege(college);
+        profile.setCreatedAt(NOW);
+        profile.setUpdatedAt(NOW);
+        return profile;
+    }
+
+    private static Event event(int i, Category category, College college, Profile organizer) {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setTitle("Hackathon " + i);
+        event.setCategory(category);
+        event.setCollege(college);
+        event.setOrganizer(organizer);
+        event.setStartDate(NOW.plusDays(i));
+        event.setEndDate(NOW.plusDays(i + 1));
+        event.setLocation("Main Auditorium");
+        event.setParticipationType(ParticipationType.BOTH);
+        event.setEventStatus(EventStatus.PUBLISHED);
+        event.setTeamSizeMin(1);
+        event.setTeamSizeMax(4);
+        event.setMaxAttendees(500);
+        event.setCurrentAttendees(0);
+        event.setRegistrationDeadline(NOW.plusDays(i).minusHours(6));
+        event.setFeatured(false);
+        event.setGlobal(false);
+        event.setIndividualPrice(new BigDecimal("199.00"));
+        event.setHasCustomTeamPricing(false);
+        event.setCreatedAt(NOW);
+        event.setUpdatedAt(NOW);
+        return event;
+    }
+}
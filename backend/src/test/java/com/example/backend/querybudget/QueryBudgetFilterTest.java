@@ -0,0 +1,71 @@
+package com.example.backend.querybudget;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The filter on its own, with a chain that reports statements the way
+ * Hibernate's statement inspector does.
+ */
+class QueryBudgetFilterTest {
+
+    private static final String BODY = "{\"ok\":true}";
+
+    @Test
+    void failModeReplacesOverBudgetResponse() throws Exception {
+        MockHttpServletResponse response = run("fail", true, 3);
+
+        assertThat(response.getStatus()).isEqualTo(500);
+        assertThat(response.getContentAsString()).startsWith("Query budget exceeded: 3 statements");
+        assertThat(response.getHeader(QueryBudgetFilter.HEADER)).startsWith("statements=3");
+    }
+
+    @Test
+    void failModeReplacesOverBudgetResponseWithoutHeader() throws Exception {
+        MockHttpServletResponse response = run("fail", false, 3);
+
+        assertThat(response.getStatus()).isEqualTo(500);
+        assertThat(response.getContentAsString()).startsWith("Query budget exceeded: 3 statements");
+        assertThat(response.getHeader(QueryBudgetFilter.HEADER)).isNull();
+    }
+
+    @Test
+    void failModeKeepsResponseWithinBudget() throws Exception {
+        MockHttpServletResponse response = run("fail", false, 2);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    void logModeKeepsOverBudgetResponse() throws Exception {
+        MockHttpServletResponse response = run("log", true, 3);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(response.getHeader(QueryBudgetFilter.HEADER)).startsWith("statements=3");
+    }
+
+    /**
+     * Run one request through a filter with a budget of two statements.
+     */
+    private static MockHttpServletResponse run(String mode, boolean header, int statements) throws Exception {
+        QueryBudgetFilter filter = new QueryBudgetFilter(new SimpleMeterRegistry(), new MockEnvironment(), mode, 2, header);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            for (int i = 0; i < statements; i++) {
+                QueryCounter.statementPrepared();
+            }
+            res.setContentType("application/json");
+            res.getWriter().write(BODY);
+        };
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), response, chain);
+        return response;
+    }
+}
@@ -58,6 +58,7 @@ import type { Database } from '@/lib/supabase/types';
 import { apiFetch } from '@/utils/apiClient';
 import { collegesService } from '@/services/colleges.service';
 import { profilesService } from '@/services/profiles.service';
+import { statsService } from '@/services/stats.service';
 import type { College, Profile, UserRole } from '@/types/api';
 
 export default function AdminDashboard() {
@@ -70,7 +71,6 @@ export default function AdminDashboard() {
     totalUsers: 0,
     totalRegistrations: 0,
     totalTeams: 0,
-    totalNotifications: 0,
     totalTickets: 0,
     totalPayments: 0,
   });
@@ -84,6 +84,7 @@ export default function AdminDashboard() {
   const [notifications, setNotifications] = useState<any[]>([]);
   const [tickets, setTickets] = useState<any[]>([]);
   const [payments, setPayments] = useState<any[]>([]);
+  const [loadedTabs, setLoadedTabs] = useState<Set<string>>(new Set());
 
   // Dialog states
   const [deleteDialog, setDeleteDialog] = useState<{ open: boolean; type: string; id: string; name: string }>({
@@ -142,58 +143,8 @@ export default function AdminDashboard() {
         return;
       }
 
-      // Fetch overview stats from backend
-      const overviewData = await apiFetch('/api/admin/overview');
-      
-      setStats({
-        totalEvents: overviewData.totalEvents || 0,
-        totalColleges: overviewData.totalColleges || 0,
-        totalUsers: overviewData.totalUsers || 0,
-        totalRegistrations: overviewData.totalRegistrations || 0,
-        totalTeams: overviewData.totalTeams || 0,
-        totalNotifications: overviewData.totalNotifications || 0,
-        totalTickets: overviewData.totalTickets || 0,
-        totalPayments: overviewData.totalPayments || 0,
-      });
-
-      // Parallel loading of all data from backend
-      const [
-        eventsData,
-        collegesData,
-        usersData,
-        registrationsData,
-        teamsData,
-        notificationsData,
-        ticketsData,
-        paymentsData
-      ] = await Promise.all([
-        apiFetch('/api/events').catch(err => { console.error('Error loading events:', err); return []; }),
-        collegesService.getAll().catch(err => { console.error('Error loading colleges:', err); return []; }),
-        profilesService.getAll().catch(err => { console.error('Error loading profiles:', err); return []; }),
-        apiFetch('/api/registrations').catch(err => { console.error('Error loading registrations:', err); return []; }),
-        apiFetch('/api/teams').catch(err => { console.error('Error loading teams:', err); return []; }),
-        apiFetch('/api/notifications').catch(err => { console.error('Error loading notifications:', err); return []; }),
-        apiFetch('/api/tickets').catch(err => { console.error('Error loading tickets:', err); return []; }),
-        apiFetch('/api/payments').catch(err => { console.error('Error loading payments:', err); return []; })
-      ]);
-
-      console.log('✓ Loaded events:', eventsData?.length || 0, 'records');
-      console.log('✓ Loaded colleges:', collegesData?.length || 0, 'records');
-      console.log('✓ Loaded profiles:', usersData?.length || 0, 'records');
-      console.log('✓ Loaded registrations:', registrationsData?.length || 0, 'records');
-      console.log('✓ Loaded teams:', teamsData?.length || 0, 'records');
-      console.log('✓ Loaded notifications:', notificationsData?.length || 0, 'records');
-      console.log('✓ Loaded tickets:', ticketsData?.length || 0, 'records');
-      console.log('✓ Loaded payments:', paymentsData?.length || 0, 'records');
-
-      setEvents(eventsData || []);
-      setColleges(collegesData || []);
-      setUsers(usersData || []);
-      setRegistrations(registrationsData || []);
-      setTeams(teamsData || []);
-      setNotifications(notificationsData || []);
-      setTickets(ticketsData || []);
-      setPayments(paymentsData || []);
+      // Overview counts come from the stats snapshot; lists are fetched per tab when it is opened
+      await Promise.all([loadOverview(), loadTab('events')]);
     } catch (error) {
       console.error('Error loading dashboard data:', error);
       toast({
@@ -206,6 +157,70 @@ export default function AdminDashboard() {
     }
   };
 
+  const loadOverview = async () => {
+    // Pre-aggregated totals from the backend stats snapshot
+    const overview = await statsService.getOverview();
+
+    setStats({
+      totalEvents: overview.totals.events,
+      totalColleges: overview.totals.colleges,
+      totalUsers: overview.totals.users,
+      totalRegistrations: overview.totals.registrations,
+      totalTeams: overview.totals.teams,
+      totalTickets: overview.totals.tickets,
+      totalPayments: overview.totals.payments,
+    });
+  };
+
+  const loadList = async (path: string, label: string) => {
+    const data = await apiFetch(path).catch(err => { console.error(`Error loading ${label}:`, err); return []; });
+    console.log(`✓ Loaded ${label}:`, data?.length || 0, 'records');
+    return data || [];
+  };
+
+  // Each tab's list is fetched the first time the tab is opened, or again after a change to it
+  const loadTab = async (tab: string, force = false) => {
+    if (!force && loadedTabs.has(tab)) {
+      return;
+    }
+    if (tab === 'events') {
+      setEvents(await loadList('/api/events', 'events'));
+    } else if (tab === 'colleges') {
+      setColleges(await collegesService.getAll().catch(err => { console.error('Error loading colleges:', err); return []; }));
+    } else if (tab === 'users') {
+      // The users tab shows college names and offers them in the edit form
+      const [usersData, collegesData] = await Promise.all([
+        profilesService.getAll().catch(err => { console.error('Error loading profiles:', err); return []; }),
+        collegesService.getAll().catch(err => { console.error('Error loading colleges:', err); return []; }),
+      ]);
+      setUsers(usersData);
+      setColleges(collegesData);
+    } else if (tab === 'registrations') {
+      setRegistrations(await loadList('/api/registrations', 'registrations'));
+    } else if (tab === 'teams') {
+      setTeams(await loadList('/api/teams', 'teams'));
+    } else if (tab === 'notifications') {
+      setNotifications(await loadList('/api/notifications', 'notifications'));
+    } else if (tab === 'tickets') {
+      setTickets(await loadList('/api/tickets', 'tickets'));
+    } else if (tab === 'payments') {
+      setPayments(await loadList('/api/payments', 'payments'));
+    } else {
+      return;
+    }
+    setLoadedTabs(prev => new Set(prev).add(tab));
+  };
+
+  const handleTabChange = (tab: string) => {
+    loadTab(tab);
+  };
+
+  // Refresh the overview and the list that a change affected
+  const refreshAfterChange = (tab: string) => {
+    loadOverview().catch(err => console.error('Error loading stats:', err));
+    loadTab(tab, true);
+  };
+
   const handleLogout = () => {
     localStorage.removeItem('adminSession');
     localStorage.removeItem('adminMode');
@@ -230,7 +245,7 @@ export default function AdminDashboard() {
         description: `${type.charAt(0).toUpperCase() + type.slice(1)} deleted successfully`,
       });
 
-      loadDashboardData();
+      refreshAfterChange(`${type}s`);
       setDeleteDialog({ open: false, type: '', id: '', name: '' });
     } catch (error) {
       console.error('Delete error:', error);
@@ -254,7 +269,7 @@ export default function AdminDashboard() {
         description: 'Event status updated successfully',
       });
 
-      loadDashboardData();
+      refreshAfterChange('events');
     } catch (error) {
       console.error('Update error:', error);
       toast({
@@ -281,7 +296,7 @@ export default function AdminDashboard() {
         description: 'Registration cancelled successfully',
       });
 
-      loadDashboardData();
+      refreshAfterChange('registrations');
     } catch (error) {
       console.error('Cancel error:', error);
       toast({
@@ -302,7 +317,7 @@ export default function AdminDashboard() {
         description: 'Team deleted successfully',
       });
 
-      loadDashboardData();
+      refreshAfterChange('teams');
     } catch (error) {
       console.error('Delete error:', error);
       toast({
@@ -322,7 +337,7 @@ export default function AdminDashboard() {
         description: 'Notification deleted successfully',
       });
 
-      loadDashboardData();
+      refreshAfterChange('notifications');
     } catch (error) {
       console.error('Delete error:', error);
       toast({
@@ -381,7 +396,7 @@ export default function AdminDashboard() {
         website: '',
         logo_url: '',
       });
-      loadDashboardData();
+      refreshAfterChange('colleges');
     } catch (error: any) {
       console.error('Save error:', error);
       
@@ -471,7 +486,7 @@ export default function AdminDashboard() {
         phone: '',
         bio: '',
       });
-      loadDashboardData();
+      refreshAfterChange('users');
     } catch (error: any) {
       console.error('Save user error:', error);
       
@@ -643,18 +658,18 @@ export default function AdminDashboard() {
               </CardContent>
             </Card>
 
-            <Card className="glass border-amber-200/50 dark:border-amber-800/50 hover:scale-105 transition-all duration-300 group overflow-hidden">
-              <div className="absolute inset-0 bg-gradient-to-br from-amber-500/5 to-yellow-600/5 opacity-0 group-hover:opacity-100 transition-opacity" />
+            <Card className="glass border-violet-200/50 dark:border-violet-800/50 hover:scale-105 transition-all duration-300 group overflow-hidden">
+              <div className="absolute inset-0 bg-gradient-to-br from-violet-500/5 to-purple-600/5 opacity-0 group-hover:opacity-100 transition-opacity" />
               <CardContent className="p-6 relative">
                 <div className="flex items-center justify-between">
                   <div>
-                    <p className="text-sm text-muted-foreground mb-1 font-medium">Notifications</p>
-                    <p className="text-4xl font-bold bg-gradient-to-r from-amber-600 to-yellow-600 bg-clip-text text-transparent">{stats.totalNotifications}</p>
+                    <p className="text-sm text-muted-foreground mb-1 font-medium">Tickets</p>
+                    <p className="text-4xl font-bold bg-gradient-to-r from-violet-600 to-purple-600 bg-clip-text text-transparent">{stats.totalTickets}</p>
                   </div>
                   <div className="relative">
-                    <div className="absolute inset-0 bg-gradient-to-br from-amber-500 to-yellow-600 rounded-2xl blur-sm opacity-50" />
-                    <div className="relative h-14 w-14 rounded-2xl bg-gradient-to-br from-amber-500 to-yellow-600 flex items-center justify-center shadow-lg">
-                      <AlertCircle className="h-7 w-7 text-white drop-shadow" />
+                    <div className="absolute inset-0 bg-gradient-to-br from-violet-500 to-purple-600 rounded-2xl blur-sm opacity-50" />
+                    <div className="relative h-14 w-14 rounded-2xl bg-gradient-to-br from-violet-500 to-purple-600 flex items-center justify-center shadow-lg">
+                      <Ticket className="h-7 w-7 text-white drop-shadow" />
                     </div>
                   </div>
                 </div>
@@ -667,7 +682,7 @@ export default function AdminDashboard() {
       {/* Management Tabs */}
       <section className="py-8">
         <div className="container mx-auto px-4">
-          <Tabs defaultValue="events" className="w-full">
+          <Tabs defaultValue="events" onValueChange={handleTabChange} className="w-full">
             <TabsList className="grid w-full max-w-6xl mx-auto grid-cols-4 lg:grid-cols-8 mb-8 h-auto lg:h-12 p-1 bg-muted/50 backdrop-blur-sm gap-1">
               <TabsTrigger value="events" className="gap-2 data-[state=active]:bg-gradient-to-r data-[state=active]:from-purple-600 data-[state=active]:to-indigo-600 data-[state=active]:text-white">
                 <Calendar className="h-4 w-4" />
@@ -10,8 +10,9 @@ import {useToast} from '@/hooks/use-toast';
 import {Alert, AlertDescription, AlertTitle} from '@/components/ui/alert';
 import Link from 'next/link';
 import {supabase} from '@/lib/supabase/client';
-import {calculateRegistrationPrice, processRegistrationPayment, formatPrice} from '@/lib/pricing-utils';
-import {createTeamWithMembers, validateTeamData, type TeamMember, type TeamData} from '@/lib/team-utils';
+import {calculateRegistrationPrice, formatPrice} from '@/lib/pricing-utils';
+import {validateTeamData, type TeamMember, type TeamData} from '@/lib/team-utils';
+import {checkout, completeCheckout} from '@/services/registrations.service';
 import PaymentProcessing from '@/components/payment-processing';
 import {RadioGroup, RadioGroupItem} from '@/components/ui/radio-group';
 import {Label} from '@/components/ui/label';
@@ -33,7 +34,8 @@ export default function RegisterPage() {
   const [calculatedPrice, setCalculatedPrice] = useState(0);
   const [priceLoading, setPriceLoading] = useState(false);
   const [showPaymentModal, setShowPaymentModal] = useState(false);
-  const [registrationId, setRegistrationId] = useState<string | null>(null);
+  // Set when a seat was offered from the waitlist and only payment is left
+  const [promotedRegistrationId, setPromotedRegistrationId] = useState<string | null>(null);
   
   // Team form state
   const [teamName, setTeamName] = useState('');
@@ -205,6 +207,24 @@ export default function RegisterPage() {
           ? existingRegistrations.find((reg: any) => reg.event?.id === eventId)
           : null;
 
+        // Promoted from the waitlist: the seat is held, finish checkout by paying
+        if (existingRegistration?.registrationStatus === 'PENDING'
+            && existingRegistration.paymentStatus === 'PENDING') {
+          setPromotedRegistrationId(existingRegistration.id);
+          setCalculatedPrice(existingRegistration.paymentAmount);
+          setShowPaymentModal(true);
+          return;
+        }
+
+        if (existingRegistration?.registrationStatus === 'WAITLISTED') {
+          toast({
+            title: 'On the Waitlist',
+            description: 'You are on the waitlist for this event. We will email you when a seat opens up.',
+          });
+          setIsLoading(false);
+          return;
+        }
+
         if (existingRegistration) {
           toast({
             title: 'Already Registered',
@@ -219,43 +239,8 @@ export default function RegisterPage() {
         console.error('Error checking existing registration:', error);
       }
 
-      // Determine if this is a team registration
-      const isTeam = registrationType === 'team';
-
-      // Create registration
-      const newRegistration = await apiFetch('/api/registrations', {
-        method: 'POST',
-        body: JSON.stringify({
-          event: { id: eventId },
-          user: { id: user!.id },
-          registrationStatus: 'PENDING',
-          isTeam: isTeam,
-          teamSize: isTeam ? teamSize : 1,
-          paymentStatus: 'PENDING',
-        })
-      });
-
-      const regId = newRegistration.id;
-      setRegistrationId(regId);
-
-      // If team registration, create team with members
-      if (isTeam && regId) {
-        const teamData: TeamData = {
-          team_name: teamName,
-          team_leader_name: leaderName,
-          team_leader_email: leaderEmail,
-          team_leader_phone: leaderPhone,
-          team_leader_university_reg: leaderUniversityReg,
-          members: teamMembers
-        };
-
-        const teamId = await createTeamWithMembers(regId, eventId, teamData);
-        if (!teamId) {
-          throw new Error('Failed to create team');
-        }
-      }
-
-      // Show payment modal
+      // Registration, team, ticket and payment are created together by
+      // /api/checkout once the payment step completes
       setShowPaymentModal(true);
     } catch (error: any) {
       console.error('Registration error:', error);
@@ -269,116 +254,56 @@ export default function RegisterPage() {
   };
 
   const handlePaymentComplete = async () => {
-    if (!registrationId) return;
-
-    const MAX_TIMEOUT = 30000; // 30 seconds timeout
-    const timeoutPromise = new Promise((_, reject) =>
-      setTimeout(() => reject(new Error('Payment processing timeout. Please check your registration status.')), MAX_TIMEOUT)
-    );
+    const isTeam = registrationType === 'team';
+    const txId = `BYPASS-${Date.now()}-${Math.random().toString(36).substr(2, 9)}`;
 
     try {
-      // Race between payment processing and timeout
-      await Promise.race([
-        (async () => {
-          // Process payment - try RPC first, fallback to direct update
-          let success = await processRegistrationPayment(
-            registrationId,
-            calculatedPrice,
-            'bypass'
-          );
-
-          const txId = `BYPASS-${Date.now()}-${Math.random().toString(36).substr(2, 9)}`;
-
-          // If RPC fails, update directly
-          if (!success) {
-            try {
-              await apiFetch(`/api/registrations/${registrationId}`, {
-                method: 'PUT',
-                body: JSON.stringify({
-                  paymentStatus: 'COMPLETED',
-                  paymentAmount: calculatedPrice,
-                  paymentMethod: 'bypass',
-                  transactionId: txId,
-                  paidAt: new Date().toISOString(),
-                  registrationStatus: 'CONFIRMED'
-                })
-              });
-              success = true;
-            } catch (updateError) {
-              throw updateError;
-            }
-          }
-
-          if (success) {
-            // Create ticket record
-            const ticketCode = `TKT-${Date.now().toString(36).toUpperCase()}-${registrationId.substring(0, 6).toUpperCase()}`;
-            
-            let ticketData;
-            try {
-              ticketData = await apiFetch('/api/tickets', {
-                method: 'POST',
-                body: JSON.stringify({
-                  event: { id: eventId },
-                  registration: { id: registrationId },
-                  type: calculatedPrice > 0 ? 'PAID' : 'FREE',
-                  price: calculatedPrice,
-                  ticketCode: ticketCode,
-                  isValid: true,
-                  issuedAt: new Date().toISOString()
-                })
-              });
-            } catch (ticketError) {
-              console.error('Error creating ticket:', ticketError);
-            }
-
-            // Create payment record if there was a payment
-            if (calculatedPrice > 0) {
-              try {
-                await apiFetch('/api/payments', {
-                  method: 'POST',
-                  body: JSON.stringify({
-                    registration: { id: registrationId },
-                    ticket: ticketData ? { id: ticketData.id } : null,
-                    amount: calculatedPrice,
-                    status: 'COMPLETED',
-                    paymentMethod: 'bypass',
-                    transactionId: txId,
-                    createdAt: new Date().toISOString()
-                  })
-                });
-              } catch (paymentError) {
-                console.error('Error creating payment record:', paymentError);
-              }
-            }
-
-            // Update user's profile if needed (mark as registered attendee)
-            try {
-              await apiFetch(`/api/profiles/${user!.id}`, {
-                method: 'PUT',
-                body: JSON.stringify({
-                  updatedAt: new Date().toISOString()
-                })
-              });
-            } catch (profileError) {
-              console.error('Error updating profile:', profileError);
-            }
-
-            toast({
-              title: 'Registration Successful!',
-              description: `You are now registered for ${event?.title}.`,
-            });
-
-            // Small delay to ensure database is updated
-            await new Promise(resolve => setTimeout(resolve, 500));
-
-            // Redirect to ticket page
-            router.push(`/events/${eventId}/ticket`);
-          } else {
-            throw new Error('Payment processing failed');
-          }
-        })(),
-        timeoutPromise
-      ]);
+      const result = promotedRegistrationId
+        ? await completeCheckout(promotedRegistrationId, {
+            userId: user!.id,
+            paymentMethod: 'bypass',
+            transactionId: txId,
+          })
+        : await checkout({
+            eventId,
+            userId: user!.id,
+            team: isTeam,
+            teamSize: isTeam ? teamSize : 1,
+            teamName: isTeam ? teamName : undefined,
+            teamLeaderName: isTeam ? leaderName : undefined,
+            teamLeaderPhone: isTeam ? leaderPhone : undefined,
+            teamLeaderEmail: isTeam ? leaderEmail : undefined,
+            teamLeaderUniversityReg: isTeam ? leaderUniversityReg : undefined,
+            members: isTeam
+              ? teamMembers.map(member => ({
+                  name: member.name,
+                  email: member.email,
+                  phone: member.phone,
+                  universityReg: member.university_reg,
+                }))
+              : [],
+            paymentMethod: 'bypass',
+            transactionId: txId,
+          });
+
+      // Event is full: the registration was placed on the waitlist
+      if (result.waitlisted) {
+        toast({
+          title: 'Added to Waitlist',
+          description: `This event is full. You are #${result.waitlistPosition} on the waitlist.`,
+        });
+        setShowPaymentModal(false);
+        setIsLoading(false);
+        return;
+      }
+
+      toast({
+        title: 'Registration Successful!',
+        description: `You are now registered for ${event?.title}.`,
+      });
+
+      // Redirect to ticket page
+      router.push(`/events/${eventId}/ticket`);
     } catch (error: any) {
       console.error('Payment error:', error);
       toast({
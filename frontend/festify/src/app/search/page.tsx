@@ -30,35 +30,11 @@ export default function SearchPage() {
   const performSearch = async () => {
     setLoading(true);
     try {
-      // Fetch all data and filter on client side for now
-      // TODO: Implement backend search endpoint with query parameters
-      const [eventsData, collegesData, categoriesData] = await Promise.all([
-        apiFetch('/api/events'),
-        apiFetch('/api/colleges'),
-        apiFetch('/api/categories')
-      ]);
-
-      const searchTerm = query.toLowerCase();
-
-      // Filter events
-      const filteredEvents = (eventsData || []).filter((event: any) =>
-        event.title?.toLowerCase().includes(searchTerm) ||
-        event.description?.toLowerCase().includes(searchTerm) ||
-        event.location?.toLowerCase().includes(searchTerm)
-      );
-
-      // Filter colleges
-      const filteredColleges = (collegesData || []).filter((college: any) =>
-        college.name?.toLowerCase().includes(searchTerm) ||
-        college.location?.toLowerCase().includes(searchTerm) ||
-        college.description?.toLowerCase().includes(searchTerm)
-      );
-
-      // Filter categories
-      const filteredCategories = (categoriesData || []).filter((category: any) =>
-        category.name?.toLowerCase().includes(searchTerm) ||
-        category.description?.toLowerCase().includes(searchTerm)
-      );
+      // Ranked, typo-tolerant search runs on the backend; only matches are returned
+      const results = await apiFetch(`/api/search?q=${encodeURIComponent(query)}&size=50`);
+      const filteredEvents = results?.events || [];
+      const filteredColleges = results?.colleges || [];
+      const filteredCategories = results?.categories || [];
 
       setEvents(filteredEvents);
       setColleges(filteredColleges);
@@ -168,14 +144,14 @@ export default function SearchPage() {
                                   <div className="flex flex-wrap gap-4 text-sm text-muted-foreground">
                                     <span className="flex items-center gap-1">
                                       <Clock className="h-4 w-4" />
-                                      {format(new Date(event.start_date), 'MMM d, yyyy')}
+                                      {format(new Date(event.startDate), 'MMM d, yyyy')}
                                     </span>
                                     <span className="flex items-center gap-1">
                                       <MapPin className="h-4 w-4" />
                                       {event.location}
                                     </span>
-                                    {event.categories && (
-                                      <Badge variant="secondary">{event.categories.name}</Badge>
+                                    {event.categoryName && (
+                                      <Badge variant="secondary">{event.categoryName}</Badge>
                                     )}
                                   </div>
                                 </div>
@@ -261,14 +237,14 @@ export default function SearchPage() {
                                 <div className="flex flex-wrap gap-4 text-sm text-muted-foreground">
                                   <span className="flex items-center gap-1">
                                     <Clock className="h-4 w-4" />
-                                    {format(new Date(event.start_date), 'MMM d, yyyy')}
+                                    {format(new Date(event.startDate), 'MMM d, yyyy')}
                                   </span>
                                   <span className="flex items-center gap-1">
                                     <MapPin className="h-4 w-4" />
                                     {event.location}
                                   </span>
-                                  {event.categories && (
-                                    <Badge variant="secondary">{event.categories.name}</Badge>
+                                  {event.categoryName && (
+                                    <Badge variant="secondary">{event.categoryName}</Badge>
                                   )}
                                 </div>
                               </div>
@@ -4,7 +4,7 @@
  */
 
 import { api, apiPublicFetch } from '@/utils/apiClient';
-import type { Event, CreateEventDTO, UpdateEventDTO, EventStatus } from '@/types/api';
+import type { Event, CreateEventDTO, UpdateEventDTO, EventStatus, CursorPage, EventPageQuery } from '@/types/api';
 
 export const eventsService = {
   /**
@@ -14,6 +14,21 @@ export const eventsService = {
     return apiPublicFetch<Event[]>('/api/events');
   },
 
+  /**
+   * Get one cursor-paginated, filtered page of events (public endpoint).
+   * Pass the previous page's nextCursor to continue.
+   */
+  async getPage(query: EventPageQuery = {}): Promise<CursorPage<Event>> {
+    const params = new URLSearchParams();
+    Object.entries(query).forEach(([key, value]) => {
+      if (value !== undefined && value !== null && value !== '') {
+        params.set(key, String(value));
+      }
+    });
+    const qs = params.toString();
+    return apiPublicFetch<CursorPage<Event>>(`/api/events/page${qs ? `?${qs}` : ''}`);
+  },
+
   /**
    * Get a single event by ID (public endpoint)
    */
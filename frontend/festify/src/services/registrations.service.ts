@@ -8,6 +8,9 @@ import type {
   Registration, 
   CreateRegistrationDTO, 
   UpdateRegistrationDTO,
+  CheckoutCompletion,
+  CheckoutRequest,
+  CheckoutResponse,
   RegistrationStatus,
   PaymentStatus
 } from '@/types/api';
@@ -47,6 +50,20 @@ export async function create(registration: CreateRegistrationDTO): Promise<Regis
   return await api.post<Registration>('/api/registrations', registration);
 }
 
+/**
+ * Register, pay and issue a ticket in a single transactional request
+ */
+export async function checkout(request: CheckoutRequest): Promise<CheckoutResponse> {
+  return await api.post<CheckoutResponse>('/api/checkout', request);
+}
+
+/**
+ * Pay for a registration promoted from the waitlist and issue its ticket
+ */
+export async function completeCheckout(registrationId: string, request: CheckoutCompletion): Promise<CheckoutResponse> {
+  return await api.post<CheckoutResponse>(`/api/checkout/${registrationId}/complete`, request);
+}
+
 /**
  * Update an existing registration
  */
@@ -193,6 +210,8 @@ export const registrationsService = {
   getByEventId,
   getByUserId,
   create,
+  checkout,
+  completeCheckout,
   update,
   delete: deleteRegistration,
   filterByStatus,
@@ -0,0 +1,37 @@
+/**
+ * Stats Service
+ * Pre-aggregated dashboard statistics computed by the backend
+ */
+
+import { api } from '@/utils/apiClient';
+import type { GroupStats, StatsResponse } from '@/types/api';
+
+export const statsService = {
+  /**
+   * Get totals with overall and per-college aggregates (admin only)
+   */
+  async getOverview(): Promise<StatsResponse> {
+    return api.get<StatsResponse>('/api/stats');
+  },
+
+  /**
+   * Get aggregates of every event (admin only)
+   */
+  async getAllEvents(): Promise<GroupStats[]> {
+    return api.get<GroupStats[]>('/api/stats/events');
+  },
+
+  /**
+   * Get aggregates of a single event (admin only)
+   */
+  async getEvent(eventId: string): Promise<GroupStats> {
+    return api.get<GroupStats>(`/api/stats/events/${eventId}`);
+  },
+
+  /**
+   * Get aggregates of a single college (admin only)
+   */
+  async getCollege(collegeId: string): Promise<GroupStats> {
+    return api.get<GroupStats>(`/api/stats/colleges/${collegeId}`);
+  },
+};
@@ -8,6 +8,7 @@ import type {
   Ticket, 
   CreateTicketDTO, 
   UpdateTicketDTO,
+  TicketToken,
   TicketType
 } from '@/types/api';
 
@@ -39,6 +40,13 @@ export async function getByRegistrationId(registrationId: string): Promise<Ticke
   return await api.get<Ticket>(`/api/tickets/registration/${registrationId}`);
 }
 
+/**
+ * Get the signed token of a ticket, for its QR code
+ */
+export async function getToken(id: string): Promise<TicketToken> {
+  return await api.get<TicketToken>(`/api/ticket-tokens/tickets/${id}`);
+}
+
 /**
  * Create a new ticket
  */
@@ -287,6 +295,7 @@ export const ticketsService = {
   getById,
   getByEventId,
   getByRegistrationId,
+  getToken,
   create,
   update,
   delete: deleteTicket,
@@ -26,7 +26,8 @@ export enum RegistrationStatus {
   PENDING = 'PENDING',
   CONFIRMED = 'CONFIRMED',
   CANCELLED = 'CANCELLED',
-  ATTENDED = 'ATTENDED'
+  ATTENDED = 'ATTENDED',
+  WAITLISTED = 'WAITLISTED'
 }
 
 export enum PaymentStatus {
@@ -285,6 +286,49 @@ export interface CreateRegistrationDTO {
   paymentMethod?: string;
 }
 
+export interface CheckoutMember {
+  name: string;
+  email?: string;
+  phone?: string;
+  universityReg?: string;
+}
+
+export interface CheckoutRequest {
+  eventId: string;
+  userId: string;
+  team?: boolean;
+  teamSize?: number;
+  teamName?: string;
+  teamLeaderName?: string;
+  teamLeaderPhone?: string;
+  teamLeaderEmail?: string;
+  teamLeaderUniversityReg?: string;
+  members?: CheckoutMember[];
+  paymentMethod?: string;
+  transactionId?: string;
+  notes?: string;
+}
+
+export interface CheckoutCompletion {
+  userId: string;
+  paymentMethod?: string;
+  transactionId?: string;
+}
+
+export interface CheckoutResponse {
+  registrationId: string;
+  teamId: string | null;
+  ticketId: string | null;
+  ticketCode: string | null;
+  ticketToken: string | null;
+  paymentId: string | null;
+  amount: number;
+  registrationStatus: RegistrationStatus;
+  paymentStatus: PaymentStatus;
+  waitlisted: boolean;
+  waitlistPosition: number;
+}
+
 export interface UpdateRegistrationDTO {
   registrationStatus?: RegistrationStatus;
   attendedAt?: string;
@@ -387,9 +431,66 @@ export interface UpdateTicketDTO {
   usedAt?: string;
 }
 
+export interface GroupStats {
+  id: string | null;
+  name: string | null;
+  registrations: number;
+  registrationsByStatus: Partial<Record<RegistrationStatus, number>>;
+  registrationsByPaymentStatus: Partial<Record<PaymentStatus, number>>;
+  payments: number;
+  paymentsByStatus: Partial<Record<PaymentStatus, number>>;
+  paymentAmountsByStatus: Partial<Record<PaymentStatus, number>>;
+  revenue: number;
+  ticketsIssued: number;
+  ticketsUsed: number;
+  attended: number;
+}
+
+export interface StatsTotals {
+  events: number;
+  colleges: number;
+  users: number;
+  teams: number;
+  registrations: number;
+  tickets: number;
+  payments: number;
+}
+
+export interface StatsResponse {
+  computedAt: string;
+  totals: StatsTotals;
+  overall: GroupStats;
+  colleges: GroupStats[];
+}
+
+export interface TicketToken {
+  ticketId: string;
+  eventId: string;
+  ticketType: TicketType;
+  token: string;
+}
+
 // API Response Types
 export interface ApiError {
   message: string;
   error?: string;
   status?: number;
 }
+
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+  limit: number;
+}
+
+export interface EventPageQuery {
+  cursor?: string;
+  limit?: number;
+  collegeId?: string;
+  categoryId?: string;
+  status?: EventStatus;
+  featured?: boolean;
+  global?: boolean;
+  minPrice?: number;
+  maxPrice?: number;
+}
@@ -41,6 +41,7 @@ export async function apiFetch<T = any>(
     path.startsWith('/api/events') ||
     path.startsWith('/api/categories') ||
     path.startsWith('/api/colleges') ||
+    path.startsWith('/api/search') ||
     path.startsWith('/api/hello') ||
     path.startsWith('/api/health')
   )
@@ -9,7 +9,7 @@ DO $$ BEGIN
     END IF;
 
     IF NOT EXISTS (SELECT 1 FROM pg_type WHERE typname = 'registration_status') THEN
-        CREATE TYPE registration_status AS ENUM ('PENDING', 'CONFIRMED', 'CANCELLED', 'ATTENDED');
+        CREATE TYPE registration_status AS ENUM ('PENDING', 'CONFIRMED', 'CANCELLED', 'ATTENDED', 'WAITLISTED');
     END IF;
 
     IF NOT EXISTS (SELECT 1 FROM pg_type WHERE typname = 'payment_status') THEN
@@ -25,6 +25,9 @@ DO $$ BEGIN
     END IF;
 END $$;
 
+-- Waitlisted registrations (seat reservation engine)
+ALTER TYPE registration_status ADD VALUE IF NOT EXISTS 'WAITLISTED';
+
 -- 2️⃣ TIMESTAMPS — Set default timestamps where missing (avoids null issues)
 DO $$
 DECLARE